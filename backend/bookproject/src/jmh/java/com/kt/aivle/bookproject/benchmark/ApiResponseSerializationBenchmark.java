@@ -0,0 +1,55 @@
+package com.kt.aivle.bookproject.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kt.aivle.bookproject.config.WebConfig;
+import com.kt.aivle.bookproject.cover.CoverAssetStore;
+import com.kt.aivle.bookproject.dto.ApiResponse;
+import com.kt.aivle.bookproject.dto.BookDto;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ApiResponse JSON 직렬화 비용 (HTTP 응답과 같은 ObjectMapper 사용)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ApiResponseSerializationBenchmark {
+
+    @Param({"1000", "100000"})
+    public int contentLength;
+
+    private ObjectMapper objectMapper;
+    private ApiResponse<BookDto.DetailResponse> detailResponse;
+    private ApiResponse<Page<BookDto.ListResponse>> listResponse;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new WebConfig().objectMapper();
+
+        BookDto.DetailResponse detail = BookDto.DetailResponse.fromEntity(BookFixtures.book(1, contentLength));
+        detailResponse = ApiResponse.success("도서 조회 성공", detail);
+
+        List<BookDto.ListResponse> items = BookFixtures.books(20, 0).stream()
+                .map(book -> BookDto.ListResponse.fromEntity(book, CoverAssetStore.thumbnailUrlOf(book.getCoverImageUrl())))
+                .toList();
+        Page<BookDto.ListResponse> page = new PageImpl<>(items, PageRequest.of(0, 20), 100_000);
+        listResponse = ApiResponse.success("도서 목록 조회 성공", page);
+    }
+
+    @Benchmark
+    public byte[] serializeDetail() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(detailResponse);
+    }
+
+    @Benchmark
+    public byte[] serializeListPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(listResponse);
+    }
+}
@@ -0,0 +1,46 @@
+package com.kt.aivle.bookproject.benchmark;
+
+import com.kt.aivle.bookproject.cover.CoverAssetStore;
+import com.kt.aivle.bookproject.domain.Book;
+import com.kt.aivle.bookproject.dto.BookDto;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 엔티티 → DTO 변환 비용 (목록 한 페이지 / 상세 한 건)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BookDtoMappingBenchmark {
+
+    @Param({"20", "100"})
+    public int pageSize;
+
+    @Param({"1000", "100000"})
+    public int contentLength;
+
+    private List<Book> page;
+    private Book detail;
+
+    @Setup
+    public void setUp() {
+        page = BookFixtures.books(pageSize, contentLength);
+        detail = page.get(0);
+    }
+
+    @Benchmark
+    public void listResponseFromEntity(Blackhole bh) {
+        for (Book book : page) {
+            bh.consume(BookDto.ListResponse.fromEntity(book, CoverAssetStore.thumbnailUrlOf(book.getCoverImageUrl())));
+        }
+    }
+
+    @Benchmark
+    public BookDto.DetailResponse detailResponseFromEntity() {
+        return BookDto.DetailResponse.fromEntity(detail);
+    }
+}
@@ -0,0 +1,51 @@
+package com.kt.aivle.bookproject.benchmark;
+
+import com.kt.aivle.bookproject.domain.Book;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 벤치마크용 도서 데이터 생성
+ */
+final class BookFixtures {
+
+    static final String SUMMARY = "인공지능이 생성한 도서 요약입니다. 주인공의 성장과 모험을 다룹니다.";
+    static final String COVER_URL = "https://example.com/covers/book.png";
+
+    private BookFixtures() {
+    }
+
+    static Book book(long id, int contentLength) {
+        Book book = new Book();
+        book.setId(id);
+        book.setTitle("벤치마크 도서 " + id);
+        book.setAuthor("저자" + (id % 100));
+        book.setSummary(SUMMARY);
+        book.setCoverImageUrl(COVER_URL);
+        book.setContent(content(id, contentLength));
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 0, 0).plusSeconds(id);
+        book.setCreatedAt(now);
+        book.setUpdatedAt(now);
+        return book;
+    }
+
+    static List<Book> books(int count, int contentLength) {
+        List<Book> books = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            books.add(book(i, contentLength));
+        }
+        return books;
+    }
+
+    static String content(long id, int length) {
+        StringBuilder sb = new StringBuilder(length);
+        String sentence = "옛날 옛적 " + id + "번째 이야기가 시작되었습니다. ";
+        while (sb.length() < length) {
+            sb.append(sentence);
+        }
+        sb.setLength(length);
+        return sb.toString();
+    }
+}
@@ -0,0 +1,128 @@
+package com.kt.aivle.bookproject.benchmark;
+
+import com.kt.aivle.bookproject.BookprojectApplication;
+import com.kt.aivle.bookproject.domain.CompressedTextConverter;
+import com.kt.aivle.bookproject.dto.BookDto;
+import com.kt.aivle.bookproject.service.BookService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BookServiceImpl 조회 경로 (H2 파일 DB, 행 수별)
+ * 데이터는 build/jmh-db 아래에 행 수별로 한 번만 적재하고 다음 실행부터 재사용함
+ * 메모리 인덱스(검색/랭킹/자동 완성)와 상세 캐시는 끄고 DB 경로만 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BookServiceBenchmark {
+
+    private static final int PAGE_SIZE = 10;
+    private static final int SEED_BATCH_SIZE = 1000;
+    private static final int CONTENT_LENGTH = 2000;
+
+    @Param({"10000", "100000", "1000000"})
+    public int rows;
+
+    private ConfigurableApplicationContext context;
+    private BookService bookService;
+    private Pageable firstPage;
+    private Pageable middlePage;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Path dbFile = Path.of("build", "jmh-db", "books-" + rows).toAbsolutePath();
+        context = new SpringApplicationBuilder(BookprojectApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.main.banner-mode=off",
+                        "logging.level.root=WARN",
+                        "spring.datasource.url=jdbc:h2:file:" + dbFile + ";MODE=MySQL;DB_CLOSE_ON_EXIT=FALSE",
+                        "spring.jpa.show-sql=false",
+                        "spring.cache.type=none",
+                        "book.search.index.enabled=false",
+                        "book.search.ranked.enabled=false",
+                        "book.suggest.enabled=false")
+                // JMH jar는 의존성을 하나로 합치면서 AutoConfiguration.imports 파일이 하나만 남아
+                // actuator 자동 설정이 빠지므로 MeterRegistry를 직접 등록
+                .initializers(ctx -> ctx.getBeanFactory().registerSingleton("meterRegistry", new SimpleMeterRegistry()))
+                .run();
+        bookService = context.getBean(BookService.class);
+        seed(context.getBean(JdbcTemplate.class));
+
+        Sort latest = Sort.by(Sort.Direction.DESC, "createdAt");
+        firstPage = PageRequest.of(0, PAGE_SIZE, latest);
+        middlePage = PageRequest.of(rows / PAGE_SIZE / 2, PAGE_SIZE, latest);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<BookDto.ListResponse> getBooksFirstPage() {
+        return bookService.getBooks(null, firstPage);
+    }
+
+    @Benchmark
+    public Page<BookDto.ListResponse> getBooksMiddlePage() {
+        return bookService.getBooks(null, middlePage);
+    }
+
+    @Benchmark
+    public Page<BookDto.ListResponse> getBooksSearch() {
+        return bookService.getBooks("저자42", firstPage);
+    }
+
+    @Benchmark
+    public BookDto.DetailResponse getBook() {
+        long id = ThreadLocalRandom.current().nextLong(1, rows + 1);
+        return bookService.getBook(id);
+    }
+
+    private void seed(JdbcTemplate jdbcTemplate) {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM book", Long.class);
+        if (count != null && count == rows) {
+            return;
+        }
+        jdbcTemplate.update("DELETE FROM book");
+
+        // 본문은 애플리케이션과 같은 압축 형식으로 저장
+        String sql = "INSERT INTO book (book_id, title, content_data, content_length, author, summary, cover_image_url,"
+                + " created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 0, 0);
+        List<Object[]> batch = new ArrayList<>(SEED_BATCH_SIZE);
+        for (long id = 1; id <= rows; id++) {
+            Timestamp createdAt = Timestamp.valueOf(base.plusSeconds(id));
+            String content = BookFixtures.content(id, CONTENT_LENGTH);
+            batch.add(new Object[]{id, "벤치마크 도서 " + id, CompressedTextConverter.encode(content),
+                    CompressedTextConverter.utf8Length(content), "저자" + (id % 100), BookFixtures.SUMMARY, BookFixtures.COVER_URL, createdAt, createdAt});
+            if (batch.size() == SEED_BATCH_SIZE) {
+                jdbcTemplate.batchUpdate(sql, batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, batch);
+        }
+        // 이후 애플리케이션이 생성하는 ID가 적재한 ID와 겹치지 않도록 시퀀스 이동
+        jdbcTemplate.execute("ALTER SEQUENCE book_seq RESTART WITH " + (rows + 1));
+    }
+}
@@ -0,0 +1,48 @@
+package com.kt.aivle.bookproject.config;
+
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.context.request.async.DeferredResultProcessingInterceptor;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+
+/**
+ * 요청별 비동기 처리 제한 시간
+ * 컨트롤러가 setTimeout 으로 지정한 제한 시간을 비동기 처리가 시작되기 직전에 해당 요청에만 적용한다.
+ * StreamingResponseBody, CompletableFuture 처럼 반환 값에 제한 시간을 담을 수 없는 응답에 사용하며,
+ * 지정하지 않은 요청은 spring.mvc.async.request-timeout (설정하지 않으면 서블릿 컨테이너 기본값)을 따른다.
+ */
+public class AsyncRequestTimeoutInterceptor implements CallableProcessingInterceptor, DeferredResultProcessingInterceptor {
+
+    private static final String TIMEOUT_ATTRIBUTE = AsyncRequestTimeoutInterceptor.class.getName() + ".timeout";
+
+    /**
+     * 현재 요청의 비동기 처리 제한 시간 지정 (컨트롤러 메서드 안에서 호출)
+     */
+    public static void setTimeout(WebRequest request, Duration timeout) {
+        request.setAttribute(TIMEOUT_ATTRIBUTE, timeout.toMillis(), RequestAttributes.SCOPE_REQUEST);
+    }
+
+    @Override
+    public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+        apply(request);
+    }
+
+    @Override
+    public <T> void beforeConcurrentHandling(NativeWebRequest request, DeferredResult<T> deferredResult) {
+        apply(request);
+    }
+
+    private static void apply(NativeWebRequest request) {
+        // 이 시점의 request 는 아직 시작되지 않은 AsyncWebRequest 이므로 제한 시간을 바꿀 수 있음
+        if (request instanceof AsyncWebRequest asyncRequest
+                && request.getAttribute(TIMEOUT_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof Long timeout) {
+            asyncRequest.setTimeout(timeout);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.kt.aivle.bookproject.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.kt.aivle.bookproject.dto.BookDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 캐시 설정
+ * 캐시 구현은 Caffeine 이며, 도서 상세 캐시의 크기/만료 정책은 application.properties의 book.detail.cache.* 로 지정한다.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    // 도서 상세 응답 캐시 (key: 도서 ID)
+    public static final String BOOK_DETAIL_CACHE = "bookDetail";
+
+    @Bean
+    public CaffeineCacheManager cacheManager(
+            @Value("${book.detail.cache.max-chars:16777216}") long maxChars,
+            @Value("${book.detail.cache.expire-after-write:10m}") Duration expireAfterWrite) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        // 등록한 캐시 외에는 만들지 않음 (크기 제한 없는 캐시가 생기지 않도록)
+        cacheManager.setCacheNames(List.of());
+        // 본문 길이가 도서마다 크게 다르므로 개수가 아닌 문자 수로 크기를 제한
+        cacheManager.registerCustomCache(BOOK_DETAIL_CACHE, Caffeine.newBuilder()
+                .maximumWeight(maxChars)
+                .weigher((Object id, Object book) -> weigh(book))
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build());
+        return cacheManager;
+    }
+
+    private static int weigh(Object value) {
+        if (value instanceof BookDto.DetailResponse book) {
+            return 1 + length(book.getTitle()) + length(book.getAuthor())
+                    + length(book.getSummary()) + length(book.getContent());
+        }
+        return 1;
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+}
@@ -0,0 +1,44 @@
+package com.kt.aivle.bookproject.config;
+
+import com.kt.aivle.bookproject.jdbc.SqlStatsListener;
+import net.ttddyy.dsproxy.listener.logging.SLF4JLogLevel;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DataSource 프록시 설정 (spring.jpa.show-sql 대체)
+ * 모든 JDBC 실행을 가로채 요청별 SQL 통계를 모으고,
+ * 임계값을 넘는 쿼리는 바인드 파라미터와 함께 WARN 로그로 남긴다.
+ * 라우팅/위임 DataSource는 실제 커넥션 풀(primary, replica)을 감싼 것이므로 중복 집계하지 않도록 제외한다.
+ */
+@Configuration
+public class DataSourceProxyConfig {
+
+    @Bean
+    public static BeanPostProcessor dataSourceProxyPostProcessor(
+            @Value("${book.sql.stats.slow-query-threshold-ms:300}") long slowQueryThresholdMs) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)
+                        && !(bean instanceof AbstractRoutingDataSource) && !(bean instanceof DelegatingDataSource)) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .listener(new SqlStatsListener())
+                            .logSlowQueryBySlf4j(slowQueryThresholdMs, TimeUnit.MILLISECONDS, SLF4JLogLevel.WARN)
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+}
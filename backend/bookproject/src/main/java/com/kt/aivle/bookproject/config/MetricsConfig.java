@@ -0,0 +1,21 @@
+package com.kt.aivle.bookproject.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 메트릭 설정
+ * 컨트롤러 요청 지연 시간은 Spring MVC가 http.server.requests 로 기록하고,
+ * 서비스 메서드는 @Timed 를 이 Aspect가 처리해 book.service 로 기록한다.
+ * 히스토그램/백분위 설정은 application.properties의 management.metrics.* 로 지정한다.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry);
+    }
+}
@@ -0,0 +1,75 @@
+package com.kt.aivle.bookproject.config;
+
+import com.kt.aivle.bookproject.jdbc.ReadYourWritesTracker;
+import com.kt.aivle.bookproject.jdbc.ReplicaClientFilter;
+import com.kt.aivle.bookproject.jdbc.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 읽기 전용 복제본 라우팅 설정 (book.datasource.replica.enabled=true 일 때만)
+ * primary 풀은 spring.datasource.*, 복제본 풀은 book.datasource.replica.* 로 지정한다.
+ * @Transactional(readOnly = true) 트랜잭션은 복제본에서 실행되고, 쓰기 트랜잭션은 primary에서 실행된다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "book.datasource.replica.enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @ConfigurationProperties("book.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(@Value("${book.datasource.replica.url}") String url,
+                                              @Value("${book.datasource.replica.username:}") String username,
+                                              @Value("${book.datasource.replica.password:}") String password) {
+        return DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(
+            @Value("${book.datasource.replica.read-your-writes-window:5s}") Duration window) {
+        return new ReadYourWritesTracker(window);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                 @Qualifier("replicaDataSource") DataSource replica,
+                                 ReadYourWritesTracker tracker) {
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(tracker);
+        routing.setTargetDataSources(Map.of(
+                ReplicaRoutingDataSource.PRIMARY, primary,
+                ReplicaRoutingDataSource.REPLICA, replica));
+        routing.setDefaultTargetDataSource(primary);
+        routing.afterPropertiesSet();
+        // 트랜잭션 시작 시점이 아니라 첫 쿼리 시점에 커넥션을 가져와야 readOnly 여부로 라우팅할 수 있음
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    @Bean
+    public ReplicaClientFilter replicaClientFilter() {
+        return new ReplicaClientFilter();
+    }
+}
@@ -3,9 +3,14 @@ package com.kt.aivle.bookproject.config;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.ByteArrayHttpMessageConverter;
 import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.ResourceHttpMessageConverter;
+import org.springframework.http.converter.ResourceRegionHttpMessageConverter;
 import org.springframework.http.converter.StringHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
@@ -25,6 +30,14 @@ public class WebConfig implements WebMvcConfigurer {
                 .maxAge(3600); // 1시간 동안 preflight 요청 캐시
     }
 
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        // 기본 제한 시간은 그대로 두고, 오래 걸리는 요청(전체 내보내기 등)만 컨트롤러에서 따로 지정
+        AsyncRequestTimeoutInterceptor timeoutInterceptor = new AsyncRequestTimeoutInterceptor();
+        configurer.registerCallableInterceptors(timeoutInterceptor);
+        configurer.registerDeferredResultInterceptors(timeoutInterceptor);
+    }
+
     @Override
     public void configureMessageConverters(List<HttpMessageConverter<?>> converters) {
         // String 컨버터 UTF-8 설정
@@ -32,15 +45,23 @@ public class WebConfig implements WebMvcConfigurer {
         stringConverter.setWriteAcceptCharset(false);
         converters.add(0, stringConverter);
 
-        // Jackson 컨버터 UTF-8 설정
-        MappingJackson2HttpMessageConverter jacksonConverter = new MappingJackson2HttpMessageConverter();
+        // Jackson 컨버터 UTF-8 설정 (직렬화 캐시와 같은 ObjectMapper 사용)
+        MappingJackson2HttpMessageConverter jacksonConverter = new MappingJackson2HttpMessageConverter(objectMapper());
         jacksonConverter.setDefaultCharset(StandardCharsets.UTF_8);
         converters.add(1, jacksonConverter);
+
+        // 미리 직렬화된 응답 본문(byte[])을 그대로 쓰기 위한 컨버터 (Jackson보다 먼저 적용)
+        converters.add(0, new ByteArrayHttpMessageConverter());
+
+        // 표지 이미지 파일(Resource) 응답과 Range 요청의 구간(ResourceRegion) 응답용 컨버터
+        converters.add(new ResourceHttpMessageConverter());
+        converters.add(new ResourceRegionHttpMessageConverter());
     }
 
     @Bean
     public ObjectMapper objectMapper() {
-        ObjectMapper mapper = new ObjectMapper();
+        // HTTP 응답 직렬화와 동일한 기본 설정 (Java 8 날짜 모듈 등록 포함)
+        ObjectMapper mapper = Jackson2ObjectMapperBuilder.json().build();
         // UTF-8 관련 설정
         mapper.getFactory().setCharacterEscapes(null);
         return mapper;
@@ -1,37 +1,154 @@
 package com.kt.aivle.bookproject.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kt.aivle.bookproject.config.AsyncRequestTimeoutInterceptor;
 import com.kt.aivle.bookproject.dto.ApiResponse;
 import com.kt.aivle.bookproject.dto.BookDto;
+import com.kt.aivle.bookproject.dto.CountMode;
+import com.kt.aivle.bookproject.service.BookCatalogVersion;
+import com.kt.aivle.bookproject.service.BookCoverService;
+import com.kt.aivle.bookproject.service.BookImportService;
 import com.kt.aivle.bookproject.service.BookService;
+import com.kt.aivle.bookproject.service.BookSummaryService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/books")
 @RequiredArgsConstructor
 public class BookController {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    private static final MediaType JSON_UTF8 = new MediaType(MediaType.APPLICATION_JSON, StandardCharsets.UTF_8);
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    private static final MediaType TEXT_UTF8 = new MediaType(MediaType.TEXT_PLAIN, StandardCharsets.UTF_8);
+    // 표지 생성 제한 시간이 먼저 만료되어 생성 서비스의 오류 응답이 나가도록 두는 여유 (생성 후 저장 시간 포함)
+    private static final Duration COVER_GENERATE_RESPONSE_MARGIN = Duration.ofSeconds(10);
+
     private final BookService bookService;
+    private final BookImportService bookImportService;
+    private final BookSummaryService bookSummaryService;
+    private final BookCoverService bookCoverService;
+    private final BookDetailBodyCache bookDetailBodyCache;
+    private final BookCatalogVersion bookCatalogVersion;
+    private final ObjectMapper objectMapper;
+
+    @Value("${book.export.timeout:30m}")
+    private Duration exportTimeout;
+
+    @Value("${book.cover.generate.timeout:60s}")
+    private Duration coverGenerateTimeout;
 
     /**
      * 도서 목록 조회 (검색 및 페이지네이션 지원)
+     * count=none 이면 전체 건수 없이 다음 페이지 여부만, count=estimate 면 추정 건수를 반환 (기본 exact)
+     * 목록이 바뀌지 않았으면 조회 없이 304 응답
      */
     @GetMapping
-    public ResponseEntity<ApiResponse<Page<BookDto.ListResponse>>> getBooks(
+    public ResponseEntity<ApiResponse<Slice<BookDto.ListResponse>>> getBooks(
             @RequestParam(required = false) String search,
-            @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
+            @RequestParam(required = false) String count,
+            @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+            WebRequest request) {
         
-        Page<BookDto.ListResponse> books = bookService.getBooks(search, pageable);
+        // 본문은 복제본에서 읽으므로 복제 지연 동안 다른 클라이언트는 ETag 시점보다 이전 목록을 받을 수 있음
+        // (변경을 커밋한 클라이언트는 read-your-writes 로 지연 허용 시간 동안 primary에서 읽음)
+        if (request.checkNotModified(bookCatalogVersion.getETag(), bookCatalogVersion.getLastModified())) {
+            return null;
+        }
+
+        Slice<BookDto.ListResponse> books = bookService.getBooks(search, pageable, CountMode.from(count));
+        return ResponseEntity.ok(ApiResponse.success("도서 목록 조회 성공", books));
+    }
+
+    /**
+     * 관련도 순 검색 (제목/작가/요약/본문, 점수 내림차순, 정렬 파라미터는 무시)
+     */
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse<Page<BookDto.RankedResponse>>> searchRanked(
+            @RequestParam String q,
+            @PageableDefault(size = 10) Pageable pageable) {
+
+        Page<BookDto.RankedResponse> books = bookService.searchRanked(q, pageable);
+        return ResponseEntity.ok(ApiResponse.success("도서 검색 성공", books));
+    }
+
+    /**
+     * 제목/작가 자동 완성 (검색창 입력 중 호출, DB를 조회하지 않음)
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<ApiResponse<List<BookDto.Suggestion>>> suggest(
+            @RequestParam(defaultValue = "") String q,
+            @RequestParam(defaultValue = "10") int limit) {
+
+        List<BookDto.Suggestion> suggestions = bookService.suggest(q, limit);
+        return ResponseEntity.ok(ApiResponse.success("자동 완성 조회 성공", suggestions));
+    }
+
+    /**
+     * 도서 목록 커서 기반 조회 (무한 스크롤용, 전체 건수 없음)
+     */
+    @GetMapping("/scroll")
+    public ResponseEntity<ApiResponse<BookDto.CursorResponse>> getBooksByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            WebRequest request) {
+
+        if (request.checkNotModified(bookCatalogVersion.getETag(), bookCatalogVersion.getLastModified())) {
+            return null;
+        }
+
+        int pageSize = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+        BookDto.CursorResponse books = bookService.getBooksByCursor(cursor, pageSize);
         return ResponseEntity.ok(ApiResponse.success("도서 목록 조회 성공", books));
     }
 
+    /**
+     * 전체 도서 내보내기 (한 줄에 도서 하나씩 NDJSON으로 스트리밍)
+     * 카탈로그 크기에 따라 오래 걸릴 수 있어 이 요청에만 book.export.timeout 제한 시간을 적용
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportBooks(WebRequest request) {
+        AsyncRequestTimeoutInterceptor.setTimeout(request, exportTimeout);
+        StreamingResponseBody body = outputStream -> {
+            OutputStream out = new BufferedOutputStream(outputStream);
+            bookService.exportBooks(book -> writeLine(out, book));
+            out.flush();
+        };
+
+        return ResponseEntity.ok()
+                .contentType(NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename("books.ndjson").build().toString())
+                .body(body);
+    }
+
     /**
      * 새로운 도서 생성
      */
@@ -44,47 +161,310 @@ public class BookController {
                 .body(ApiResponse.success("도서 생성 성공", book));
     }
 
+    /**
+     * 도서 일괄 생성 (항목별 성공/실패 결과 반환)
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<ApiResponse<BookDto.BatchResponse>> createBooks(
+            @RequestBody List<BookDto.CreateRequest> requests) {
+
+        BookDto.BatchResponse result = bookService.createBooks(requests);
+        return ResponseEntity.ok(ApiResponse.success("도서 일괄 생성 완료", result));
+    }
+
+    /**
+     * 도서 일괄 수정 (항목별 성공/실패 결과 반환)
+     */
+    @PutMapping("/batch")
+    public ResponseEntity<ApiResponse<BookDto.BatchResponse>> updateBooks(
+            @RequestBody List<BookDto.BatchUpdateItem> requests) {
+
+        BookDto.BatchResponse result = bookService.updateBooks(requests);
+        return ResponseEntity.ok(ApiResponse.success("도서 일괄 수정 완료", result));
+    }
+
+    /**
+     * 도서 일괄 삭제 (항목별 성공/실패 결과 반환)
+     */
+    @DeleteMapping("/batch")
+    public ResponseEntity<ApiResponse<BookDto.BatchResponse>> deleteBooks(
+            @Valid @RequestBody BookDto.BatchDeleteRequest request) {
+
+        BookDto.BatchResponse result = bookService.deleteBooks(request.getIds());
+        return ResponseEntity.ok(ApiResponse.success("도서 일괄 삭제 완료", result));
+    }
+
+    /**
+     * NDJSON 스트리밍 가져오기 (한 줄에 CreateRequest 하나, 청크 단위 커밋)
+     */
+    @PostMapping(value = "/import", consumes = "application/x-ndjson")
+    public ResponseEntity<ApiResponse<BookDto.ImportResponse>> importNdjson(InputStream body) {
+        BookDto.ImportResponse result = bookImportService.importNdjson(body);
+        return ResponseEntity.ok(ApiResponse.success("도서 가져오기 완료", result));
+    }
+
+    /**
+     * CSV 스트리밍 가져오기 (헤더: title,content,author,summary, 청크 단위 커밋)
+     */
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public ResponseEntity<ApiResponse<BookDto.ImportResponse>> importCsv(InputStream body) {
+        BookDto.ImportResponse result = bookImportService.importCsv(body);
+        return ResponseEntity.ok(ApiResponse.success("도서 가져오기 완료", result));
+    }
+
+    /**
+     * 도서 요약 생성 작업 등록 (요약은 백그라운드에서 생성되며 작업 상태 조회로 결과 확인)
+     */
+    @PostMapping("/summary-jobs")
+    public ResponseEntity<ApiResponse<List<BookDto.SummaryJobResponse>>> requestSummaries(
+            @Valid @RequestBody BookDto.SummaryJobRequest request) {
+
+        List<BookDto.SummaryJobResponse> jobs = bookSummaryService.requestSummaries(request.getBookIds());
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success("요약 생성 작업 등록 완료", jobs));
+    }
+
+    /**
+     * 요약 생성 작업 상태 조회
+     */
+    @GetMapping("/summary-jobs/{jobId}")
+    public ResponseEntity<ApiResponse<BookDto.SummaryJobResponse>> getSummaryJob(@PathVariable String jobId) {
+        BookDto.SummaryJobResponse job = bookSummaryService.getJob(jobId);
+        return ResponseEntity.ok(ApiResponse.success("요약 작업 조회 성공", job));
+    }
+
+    /**
+     * 도서 본문을 text/plain 으로 스트리밍 (Range: bytes=start-end 요청이면 해당 구간만 206 응답)
+     * 여러 구간이나 형식이 잘못된 Range 는 무시하고 전체를 응답한다.
+     */
+    @GetMapping(value = "/{bookId}/content", params = "!offset")
+    public ResponseEntity<StreamingResponseBody> getBookContent(
+            @PathVariable Long bookId,
+            @RequestHeader(value = HttpHeaders.RANGE, required = false) String rangeHeader) {
+
+        long total = bookService.getContentLength(bookId);
+        List<HttpRange> ranges = parseRanges(rangeHeader);
+        ResponseEntity.BodyBuilder response;
+        long start = 0;
+        long length = total;
+
+        if (ranges.size() == 1) {
+            HttpRange range = ranges.get(0);
+            if (total == 0 || !isSatisfiable(range, total)) {
+                return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                        .header(HttpHeaders.CONTENT_RANGE, "bytes */" + total)
+                        .build();
+            }
+            start = range.getRangeStart(total);
+            long end = range.getRangeEnd(total);
+            length = end - start + 1;
+            response = ResponseEntity.status(HttpStatus.PARTIAL_CONTENT)
+                    .header(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + total);
+        } else {
+            response = ResponseEntity.ok();
+        }
+
+        long from = start;
+        long count = length;
+        StreamingResponseBody body = outputStream -> {
+            bookService.copyContent(bookId, from, count, outputStream);
+            outputStream.flush();
+        };
+        return response
+                .contentType(TEXT_UTF8)
+                .contentLength(length)
+                .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                .body(body);
+    }
+
+    /**
+     * 도서 본문 구간 조회 (리더 화면용, offset/length 는 UTF-8 바이트 기준이며 글자 경계에 맞춰 조정)
+     */
+    @GetMapping(value = "/{bookId}/content", params = "offset")
+    public ResponseEntity<ApiResponse<BookDto.ContentChunk>> getBookContentChunk(
+            @PathVariable Long bookId,
+            @RequestParam long offset,
+            @RequestParam(defaultValue = "65536") int length) {
+
+        BookDto.ContentChunk chunk = bookService.getContentChunk(bookId, offset, length);
+        return ResponseEntity.ok(ApiResponse.success("도서 본문 조회 성공", chunk));
+    }
+
+    /**
+     * 본문 저장 용량 통계 (원본 대비 압축 저장 크기)
+     */
+    @GetMapping("/storage-stats")
+    public ResponseEntity<ApiResponse<BookDto.StorageStats>> getStorageStats() {
+        BookDto.StorageStats stats = bookService.getStorageStats();
+        return ResponseEntity.ok(ApiResponse.success("저장 용량 통계 조회 성공", stats));
+    }
+
     /**
      * 특정 도서 상세 조회
+     * 직렬화 캐시가 켜져 있으면 미리 직렬화된 JSON 바이트를 그대로 응답
+     * 조건부 요청이면 도서 ID와 수정 시각만으로 비교해 변경이 없을 때 본문 없이 304 응답
      */
     @GetMapping("/{bookId}")
-    public ResponseEntity<ApiResponse<BookDto.DetailResponse>> getBook(@PathVariable Long bookId) {
+    public ResponseEntity<?> getBook(@PathVariable Long bookId, WebRequest request) {
+        CachedBody cached = bookDetailBodyCache.isEnabled() ? bookDetailBodyCache.getIfPresent(bookId) : null;
+
+        if (isConditional(request)) {
+            String eTag;
+            LocalDateTime lastModified;
+            if (cached != null) {
+                eTag = cached.getETag();
+                lastModified = cached.getLastModified();
+            } else {
+                BookDto.VersionInfo version = bookService.getBookVersion(bookId);
+                eTag = BookETag.of(bookId, version.getVersion());
+                lastModified = version.getUpdatedAt();
+            }
+            if (request.checkNotModified(eTag, BookETag.lastModified(lastModified))) {
+                return null;
+            }
+        }
+
+        if (bookDetailBodyCache.isEnabled()) {
+            CachedBody body = cached != null
+                    ? cached
+                    : bookDetailBodyCache.get(bookId, () -> bookService.loadBook(bookId), "도서 조회 성공");
+            return ResponseEntity.ok()
+                    .contentType(JSON_UTF8)
+                    .eTag(body.getETag())
+                    .lastModified(BookETag.lastModified(body.getLastModified()))
+                    .body(body.getBytes());
+        }
+
         BookDto.DetailResponse book = bookService.getBook(bookId);
-        return ResponseEntity.ok(ApiResponse.success("도서 조회 성공", book));
+        return ResponseEntity.ok()
+                .eTag(BookETag.of(book.getId(), book.getVersion()))
+                .lastModified(BookETag.lastModified(book.getUpdatedAt()))
+                .body(ApiResponse.success("도서 조회 성공", book));
     }
 
     /**
      * 특정 도서 정보 업데이트
+     * If-Match 에 상세 조회 때 받은 ETag 를 보내면 그 사이 다른 수정이 있었을 때 412 응답
      */
     @PutMapping("/{bookId}")
     public ResponseEntity<ApiResponse<BookDto.DetailResponse>> updateBook(
             @PathVariable Long bookId, 
-            @Valid @RequestBody BookDto.UpdateRequest dto) {
+            @Valid @RequestBody BookDto.UpdateRequest dto,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         
-        BookDto.DetailResponse book = bookService.updateBook(bookId, dto);
-        return ResponseEntity.ok(ApiResponse.success("도서 수정 성공", book));
+        BookDto.DetailResponse book = bookService.updateBook(bookId, dto, BookETag.expectedVersion(bookId, ifMatch));
+        return ResponseEntity.ok()
+                .eTag(BookETag.of(bookId, book.getVersion()))
+                .body(ApiResponse.success("도서 수정 성공", book));
     }
 
     /**
-     * 특정 도서 표지 이미지 URL 업데이트
+     * 특정 도서 표지 이미지 URL 업데이트 (If-Match 가 있으면 버전이 같을 때만)
      */
     @PutMapping("/{bookId}/cover-url")
-    public ResponseEntity<ApiResponse<BookDto.DetailResponse>> updateCoverUrl(
+    public ResponseEntity<ApiResponse<BookDto.CoverResponse>> updateCoverUrl(
             @PathVariable Long bookId, 
-            @Valid @RequestBody BookDto.CoverUrlRequest request) {
+            @Valid @RequestBody BookDto.CoverUrlRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         
-        BookDto.DetailResponse book = bookService.updateCoverUrl(bookId, request.getCoverImageUrl());
-        return ResponseEntity.ok(ApiResponse.success("도서 표지 업데이트 성공", book));
+        BookDto.CoverResponse book = bookService.updateCoverUrl(
+                bookId, request.getCoverImageUrl(), BookETag.expectedVersion(bookId, ifMatch));
+        return ResponseEntity.ok()
+                .eTag(BookETag.of(bookId, book.getVersion()))
+                .body(ApiResponse.success("도서 표지 업데이트 성공", book));
+    }
+
+    /**
+     * 프롬프트로 표지 이미지를 생성해 도서 표지로 저장
+     * 생성되는 동안 요청 스레드를 점유하지 않으며, 같은 프롬프트의 중복 요청은 진행 중인 생성 결과를 함께 받음
+     */
+    @PostMapping("/{bookId}/cover/generate")
+    public CompletableFuture<ResponseEntity<ApiResponse<BookDto.CoverResponse>>> generateCover(
+            @PathVariable Long bookId,
+            @Valid @RequestBody BookDto.CoverGenerateRequest request,
+            WebRequest webRequest) {
+
+        AsyncRequestTimeoutInterceptor.setTimeout(webRequest, coverGenerateTimeout.plus(COVER_GENERATE_RESPONSE_MARGIN));
+        return bookCoverService.generateCover(bookId, request.getPromptText())
+                .thenApply(book -> ResponseEntity.ok()
+                        .eTag(BookETag.of(bookId, book.getVersion()))
+                        .body(ApiResponse.success("도서 표지 생성 성공", book)));
     }
 
     /**
-     * 특정 도서 삭제
+     * 표지 이미지 업로드 (로컬 표지 저장소에 저장하고 목록용 썸네일 생성, If-Match 가 있으면 버전이 같을 때만)
+     */
+    @PutMapping(value = "/{bookId}/cover", consumes = {MediaType.IMAGE_PNG_VALUE, MediaType.IMAGE_JPEG_VALUE,
+            MediaType.IMAGE_GIF_VALUE})
+    public ResponseEntity<ApiResponse<BookDto.CoverResponse>> uploadCover(
+            @PathVariable Long bookId,
+            InputStream body,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+
+        BookDto.CoverResponse book = bookCoverService.uploadCover(
+                bookId, body, BookETag.expectedVersion(bookId, ifMatch));
+        return ResponseEntity.ok()
+                .eTag(BookETag.of(bookId, book.getVersion()))
+                .body(ApiResponse.success("도서 표지 업로드 성공", book));
+    }
+
+    /**
+     * 원격 표지 이미지를 내려받아 로컬 표지로 교체 (If-Match 가 있으면 버전이 같을 때만)
+     */
+    @PostMapping("/{bookId}/cover/localize")
+    public ResponseEntity<ApiResponse<BookDto.CoverResponse>> localizeCover(
+            @PathVariable Long bookId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+
+        BookDto.CoverResponse book = bookCoverService.localizeCover(bookId, BookETag.expectedVersion(bookId, ifMatch));
+        return ResponseEntity.ok()
+                .eTag(BookETag.of(bookId, book.getVersion()))
+                .body(ApiResponse.success("도서 표지 저장 성공", book));
+    }
+
+    /**
+     * 특정 도서 삭제 (If-Match 가 있으면 버전이 같을 때만)
      */
     @DeleteMapping("/{bookId}")
-    public ResponseEntity<ApiResponse<Void>> deleteBook(@PathVariable Long bookId) {
-        bookService.deleteBook(bookId);
+    public ResponseEntity<ApiResponse<Void>> deleteBook(
+            @PathVariable Long bookId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        bookService.deleteBook(bookId, BookETag.expectedVersion(bookId, ifMatch));
         return ResponseEntity.ok(ApiResponse.success("도서 삭제 성공", null));
     }
+
+    private void writeLine(OutputStream out, Object value) {
+        try {
+            out.write(objectMapper.writeValueAsBytes(value));
+            out.write('\n');
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static List<HttpRange> parseRanges(String header) {
+        if (header == null) {
+            return List.of();
+        }
+        try {
+            return HttpRange.parseRanges(header);
+        } catch (IllegalArgumentException ex) {
+            return List.of();
+        }
+    }
+
+    private static boolean isSatisfiable(HttpRange range, long total) {
+        try {
+            return range.getRangeStart(total) <= range.getRangeEnd(total);
+        } catch (IllegalArgumentException ex) {
+            return false;
+        }
+    }
+
+    private static boolean isConditional(WebRequest request) {
+        return request.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                || request.getHeader(HttpHeaders.IF_MODIFIED_SINCE) != null;
+    }
 }
 
 
@@ -0,0 +1,88 @@
+package com.kt.aivle.bookproject.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.kt.aivle.bookproject.dto.ApiResponse;
+import com.kt.aivle.bookproject.dto.BookDto;
+import com.kt.aivle.bookproject.event.BookChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 도서 상세 응답을 JSON 바이트로 직렬화한 상태로 보관하는 캐시
+ * 캐시 적중 시 Jackson 직렬화 없이 바이트를 그대로 응답 본문에 쓴다.
+ * 도서가 변경되면 커밋 이후 제거되어 다음 조회 시 다시 생성된다.
+ */
+@Component
+public class BookDetailBodyCache {
+
+    private static final String CACHE_NAME = "bookDetailBody";
+
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final Cache<Long, CachedBody> cache;
+
+    public BookDetailBodyCache(ObjectMapper objectMapper,
+                               MeterRegistry meterRegistry,
+                               @Value("${book.detail.body-cache.enabled:true}") boolean enabled,
+                               @Value("${book.detail.body-cache.max-bytes:67108864}") long maxBytes,
+                               @Value("${book.detail.body-cache.expire-after-write:10m}") Duration expireAfterWrite) {
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        // 본문 크기가 도서마다 크게 다르므로 개수가 아닌 바이트 수로 크기를 제한
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((Long id, CachedBody body) -> body.getBytes().length)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        // Spring 캐시 메트릭과 태그 키를 맞춰야 Prometheus에서 같은 이름(cache.*)으로 함께 노출됨
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME,
+                "cache.manager", "bookDetailBodyCache", "name", CACHE_NAME);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 캐시된 본문을 반환하고, 없으면 도서를 조회해 직렬화한 뒤 저장
+     *
+     * @param id 도서 ID
+     * @param loader 캐시에 없을 때 도서 상세를 조회하는 함수
+     *               (상세 DTO 캐시와 제거 순서가 보장되지 않으므로 DTO 캐시를 거치지 않고 저장소에서 읽어야 함)
+     * @param message 응답 메시지
+     */
+    public CachedBody get(Long id, Supplier<BookDto.DetailResponse> loader, String message) {
+        return cache.get(id, key -> serialize(loader.get(), message));
+    }
+
+    /**
+     * 캐시된 본문이 있으면 반환 (없으면 null)
+     */
+    public CachedBody getIfPresent(Long id) {
+        return cache.getIfPresent(id);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookChanged(BookChangedEvent event) {
+        cache.invalidateAll(event.getBookIds());
+    }
+
+    private CachedBody serialize(BookDto.DetailResponse book, String message) {
+        try {
+            byte[] bytes = objectMapper.writeValueAsBytes(ApiResponse.success(message, book));
+            return new CachedBody(bytes, BookETag.of(book.getId(), book.getVersion()), book.getUpdatedAt());
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("도서 상세 응답을 직렬화할 수 없습니다.", ex);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.kt.aivle.bookproject.controller;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 도서 ETag 생성/해석 유틸리티
+ * 본문을 해시하지 않고 도서 ID와 버전으로 만들어, 본문 없이도 비교할 수 있다.
+ * 같은 값이 If-Match 로 돌아오면 버전을 꺼내 낙관적 잠금의 기대 버전으로 사용한다.
+ */
+public final class BookETag {
+
+    /**
+     * If-Match 가 있지만 이 도서의 ETag 가 아닌 경우의 기대 버전 (실제 버전과 절대 같지 않음)
+     */
+    public static final long NO_MATCH = -1L;
+
+    private BookETag() {
+    }
+
+    public static String of(Long id, long version) {
+        return "\"" + id + "-v" + version + "\"";
+    }
+
+    /**
+     * If-Match 헤더에서 기대 버전을 꺼냄
+     * 약한 ETag(W/)는 If-Match 에서 일치로 보지 않는다.
+     *
+     * @return 헤더가 없거나 "*" 이면 null (버전 확인 안 함), 이 도서의 ETag 가 없으면 NO_MATCH
+     */
+    public static Long expectedVersion(Long id, String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String prefix = "\"" + id + "-v";
+        for (String tag : ifMatch.split(",")) {
+            String value = tag.trim();
+            if (value.startsWith(prefix) && value.endsWith("\"") && value.length() > prefix.length() + 1) {
+                try {
+                    return Long.parseLong(value.substring(prefix.length(), value.length() - 1));
+                } catch (NumberFormatException ignored) {
+                    // 형식이 다른 ETag 는 건너뜀
+                }
+            }
+        }
+        return NO_MATCH;
+    }
+
+    /**
+     * Last-Modified 헤더용 epoch 밀리초 (수정 시각이 없으면 -1)
+     */
+    public static long lastModified(LocalDateTime updatedAt) {
+        return updatedAt == null ? -1L : updatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,18 @@
+package com.kt.aivle.bookproject.controller;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 직렬화가 끝난 응답 본문과 검증자(ETag, 수정 시각)
+ */
+@Getter
+@RequiredArgsConstructor
+public class CachedBody {
+
+    private final byte[] bytes;
+    private final String eTag;
+    private final LocalDateTime lastModified;
+}
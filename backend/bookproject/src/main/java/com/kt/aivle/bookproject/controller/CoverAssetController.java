@@ -0,0 +1,101 @@
+package com.kt.aivle.bookproject.controller;
+
+import com.kt.aivle.bookproject.cover.CoverAssetStore;
+import com.kt.aivle.bookproject.exception.ResourceNotFoundException;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로컬에 저장한 표지 이미지와 썸네일 제공
+ * 파일 이름이 내용 해시라서 내용이 바뀌지 않으므로 1년 동안 재검증 없이 캐시하도록 응답한다.
+ * Range 요청이 아니면 Tomcat sendfile 로 파일을 커널에서 바로 소켓으로 보내고(애플리케이션 버퍼 복사 없음),
+ * Range 요청이거나 sendfile 을 쓸 수 없으면 Resource 로 응답해 Spring 이 구간(ResourceRegion)을 처리한다.
+ */
+@RestController
+@RequestMapping("/api/covers")
+@RequiredArgsConstructor
+public class CoverAssetController {
+
+    private static final CacheControl IMMUTABLE = CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable();
+
+    // Tomcat sendfile 요청 속성 (NIO 커넥터에서 HTTP/1.1 응답일 때 support 가 true)
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final CoverAssetStore coverAssetStore;
+
+    /**
+     * 원본 표지 이미지
+     */
+    @GetMapping("/{assetId}")
+    public ResponseEntity<Resource> getCover(@PathVariable String assetId,
+                                             HttpServletRequest request, WebRequest webRequest) {
+        Path path = coverAssetStore.findOriginal(assetId)
+                .orElseThrow(() -> new ResourceNotFoundException("ID가 " + assetId + "인 표지 이미지를 찾을 수 없습니다."));
+        return serve(path, assetId, CoverAssetStore.mediaType(assetId), request, webRequest);
+    }
+
+    /**
+     * 목록용 표지 썸네일 (JPEG)
+     */
+    @GetMapping("/thumbnails/{thumbnailId}")
+    public ResponseEntity<Resource> getThumbnail(@PathVariable String thumbnailId,
+                                                 HttpServletRequest request, WebRequest webRequest) {
+        Path path = coverAssetStore.findThumbnail(thumbnailId)
+                .orElseThrow(() -> new ResourceNotFoundException("ID가 " + thumbnailId + "인 썸네일을 찾을 수 없습니다."));
+        return serve(path, "thumbnail-" + thumbnailId, MediaType.IMAGE_JPEG, request, webRequest);
+    }
+
+    private ResponseEntity<Resource> serve(Path path, String tag, MediaType mediaType,
+                                           HttpServletRequest request, WebRequest webRequest) {
+        String eTag = "\"" + tag + "\"";
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
+        if (request.getHeader(HttpHeaders.RANGE) == null && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            long size;
+            try {
+                size = Files.size(path);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+            // 본문을 쓰지 않고 응답하면 Tomcat 이 헤더 전송 후 파일 내용을 보냄
+            request.setAttribute(SENDFILE_FILENAME, path.toString());
+            request.setAttribute(SENDFILE_START, 0L);
+            request.setAttribute(SENDFILE_END, size);
+            return ResponseEntity.ok()
+                    .cacheControl(IMMUTABLE)
+                    .eTag(eTag)
+                    .contentType(mediaType)
+                    .contentLength(size)
+                    .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                    .build();
+        }
+
+        return ResponseEntity.ok()
+                .cacheControl(IMMUTABLE)
+                .eTag(eTag)
+                .contentType(mediaType)
+                .body(new FileSystemResource(path));
+    }
+}
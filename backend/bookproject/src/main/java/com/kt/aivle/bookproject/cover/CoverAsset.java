@@ -0,0 +1,17 @@
+package com.kt.aivle.bookproject.cover;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 저장된 표지 이미지 (원본과 목록용 썸네일)
+ */
+@Getter
+@RequiredArgsConstructor
+public class CoverAsset {
+    // 내용 해시와 확장자 (예: 3fa9...c1.png)
+    private final String id;
+    private final String url;
+    private final String thumbnailUrl;
+    private final long size;
+}
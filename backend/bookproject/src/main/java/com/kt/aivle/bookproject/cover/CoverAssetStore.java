@@ -0,0 +1,389 @@
+package com.kt.aivle.bookproject.cover;
+
+import com.kt.aivle.bookproject.exception.InvalidRequestException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.Inet6Address;
+import java.net.InetAddress;
+import java.net.URI;
+import java.net.UnknownHostException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 로컬 파일 시스템 표지 이미지 저장소
+ * 이미지는 내용의 SHA-256 해시를 이름으로 한 번만 저장하고(같은 이미지는 같은 파일), 저장할 때 목록용 썸네일(JPEG)을 미리 만든다.
+ * 파일 이름이 내용으로 정해지므로 한 번 만든 파일은 바뀌지 않으며, 응답에 긴 캐시 기간을 지정할 수 있다.
+ * 파일 배치: {dir}/{해시 앞 2자}/{해시}.{확장자}, 썸네일은 {dir}/thumbnails/{해시 앞 2자}/{해시}.jpg
+ */
+@Slf4j
+@Component
+public class CoverAssetStore {
+
+    public static final String URL_PREFIX = "/api/covers/";
+    public static final String THUMBNAIL_URL_PREFIX = URL_PREFIX + "thumbnails/";
+
+    private static final Pattern ASSET_ID = Pattern.compile("([0-9a-f]{64})\\.(png|jpg|gif)");
+    private static final Pattern THUMBNAIL_ID = Pattern.compile("([0-9a-f]{64})\\.jpg");
+    // 압축을 풀면 메모리를 과도하게 쓰는 이미지 거부 (가로 x 세로)
+    private static final long MAX_PIXELS = 40_000_000L;
+    private static final float THUMBNAIL_QUALITY = 0.85f;
+    private static final int MAX_REDIRECTS = 3;
+    private static final Set<Integer> REDIRECT_STATUSES = Set.of(301, 302, 303, 307, 308);
+    private static final String DOWNLOAD_FAILED = "표지 이미지를 내려받지 못했습니다.";
+
+    private final Path root;
+    private final long maxBytes;
+    private final int thumbnailWidth;
+    private final Duration downloadTimeout;
+    private final Predicate<InetAddress> blockedAddress;
+    private final HttpClient httpClient;
+
+    @Autowired
+    public CoverAssetStore(@Value("${book.cover.store.dir:./data/covers}") Path root,
+                           @Value("${book.cover.store.max-bytes:10485760}") long maxBytes,
+                           @Value("${book.cover.store.thumbnail-width:280}") int thumbnailWidth,
+                           @Value("${book.cover.store.download-timeout:10s}") Duration downloadTimeout) {
+        this(root, maxBytes, thumbnailWidth, downloadTimeout, CoverAssetStore::isInternalAddress);
+    }
+
+    CoverAssetStore(Path root, long maxBytes, int thumbnailWidth, Duration downloadTimeout,
+                    Predicate<InetAddress> blockedAddress) {
+        this.root = root.toAbsolutePath().normalize();
+        this.maxBytes = maxBytes;
+        this.thumbnailWidth = thumbnailWidth;
+        this.downloadTimeout = downloadTimeout;
+        this.blockedAddress = blockedAddress;
+        // 리다이렉트는 직접 따라가며 매번 대상 주소를 다시 검사
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(downloadTimeout)
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
+    }
+
+    /**
+     * 이미지를 저장하고 썸네일을 생성 (이미 있는 이미지면 기존 파일 사용)
+     *
+     * @param input 이미지 바이트 스트림 (max-bytes 까지만 읽음)
+     */
+    public CoverAsset store(InputStream input) {
+        byte[] bytes = readLimited(input);
+        String extension = detectExtension(bytes);
+        String hash = sha256(bytes);
+        String id = hash + "." + extension;
+        try {
+            Path original = originalPath(hash, extension);
+            if (Files.notExists(original)) {
+                writeAtomically(original, bytes);
+            }
+            Path thumbnail = thumbnailPath(hash);
+            if (Files.notExists(thumbnail)) {
+                writeAtomically(thumbnail, thumbnail(bytes));
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return new CoverAsset(id, URL_PREFIX + id, THUMBNAIL_URL_PREFIX + hash + ".jpg", bytes.length);
+    }
+
+    /**
+     * 원격 이미지를 내려받아 저장 (http/https 만 허용)
+     * 서버 내부망 요청(SSRF)을 막기 위해 호스트를 조회해 루프백/사설/링크 로컬/와일드카드 주소면 거부하고,
+     * 리다이렉트도 최대 MAX_REDIRECTS 번까지 매번 같은 검사를 거쳐 따라간다.
+     * 실패 사유(원격 응답 코드, 예외 메시지)는 로그에만 남기고 응답에는 일반 메시지만 돌려준다.
+     *
+     * @param url 이미지 URL
+     */
+    public CoverAsset download(String url) {
+        URI uri;
+        try {
+            uri = URI.create(url);
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidRequestException("표지 URL 형식이 올바르지 않습니다.");
+        }
+        try {
+            for (int hop = 0; hop <= MAX_REDIRECTS; hop++) {
+                checkTarget(uri);
+                HttpRequest request = HttpRequest.newBuilder(uri).timeout(downloadTimeout).GET().build();
+                HttpResponse<InputStream> response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+                try (InputStream body = response.body()) {
+                    int status = response.statusCode();
+                    if (status == 200) {
+                        return store(body);
+                    }
+                    Optional<String> location = response.headers().firstValue("Location");
+                    if (!REDIRECT_STATUSES.contains(status) || location.isEmpty()) {
+                        log.warn("Cover download failed: {} returned HTTP {}", uri, status);
+                        throw new InvalidRequestException(DOWNLOAD_FAILED);
+                    }
+                    uri = uri.resolve(location.get());
+                }
+            }
+            log.warn("Cover download failed: too many redirects ({})", url);
+            throw new InvalidRequestException(DOWNLOAD_FAILED);
+        } catch (IOException | IllegalArgumentException ex) {
+            log.warn("Cover download failed: {} ({})", uri, ex.toString());
+            throw new InvalidRequestException(DOWNLOAD_FAILED);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new InvalidRequestException("표지 이미지 내려받기가 중단되었습니다.");
+        }
+    }
+
+    /**
+     * 내려받을 대상 URL 검사 (http/https, 호스트의 모든 주소가 외부 주소여야 함)
+     * 검사 후 연결 시점에 DNS 응답이 바뀌는 경우까지는 막지 못하므로, 운영에서는 송신 방화벽과 함께 사용한다.
+     */
+    private void checkTarget(URI uri) {
+        String scheme = uri.getScheme() == null ? "" : uri.getScheme().toLowerCase(Locale.ROOT);
+        if (!scheme.equals("http") && !scheme.equals("https")) {
+            throw new InvalidRequestException("http 또는 https 표지 URL 만 내려받을 수 있습니다.");
+        }
+        if (uri.getHost() == null) {
+            throw new InvalidRequestException("표지 URL 형식이 올바르지 않습니다.");
+        }
+        InetAddress[] addresses;
+        try {
+            addresses = InetAddress.getAllByName(uri.getHost());
+        } catch (UnknownHostException ex) {
+            log.warn("Cover download failed: unknown host {}", uri.getHost());
+            throw new InvalidRequestException(DOWNLOAD_FAILED);
+        }
+        for (InetAddress address : addresses) {
+            if (blockedAddress.test(address)) {
+                log.warn("Cover download blocked: {} resolves to {}", uri.getHost(), address.getHostAddress());
+                throw new InvalidRequestException("내려받을 수 없는 표지 URL 입니다.");
+            }
+        }
+    }
+
+    /**
+     * 서버 내부망으로 향하는 주소인지 판별 (루프백, 사설, 링크 로컬, 와일드카드, 멀티캐스트)
+     */
+    static boolean isInternalAddress(InetAddress address) {
+        if (address.isAnyLocalAddress() || address.isLoopbackAddress() || address.isLinkLocalAddress()
+                || address.isSiteLocalAddress() || address.isMulticastAddress()) {
+            return true;
+        }
+        // IPv6 고유 로컬 주소(fc00::/7)는 isSiteLocalAddress 에 포함되지 않음
+        return address instanceof Inet6Address && (address.getAddress()[0] & 0xFE) == 0xFC;
+    }
+
+    /**
+     * 원본 이미지 파일 조회
+     *
+     * @param id 표지 ID ({해시}.{확장자})
+     * @return ID 형식이 다르거나 파일이 없으면 빈 Optional
+     */
+    public Optional<Path> findOriginal(String id) {
+        Matcher matcher = ASSET_ID.matcher(id);
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+        return existing(originalPath(matcher.group(1), matcher.group(2)));
+    }
+
+    /**
+     * 썸네일 파일 조회
+     *
+     * @param id 썸네일 ID ({해시}.jpg)
+     */
+    public Optional<Path> findThumbnail(String id) {
+        Matcher matcher = THUMBNAIL_ID.matcher(id);
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+        return existing(thumbnailPath(matcher.group(1)));
+    }
+
+    /**
+     * 로컬 표지 URL 이면 썸네일 URL 반환 (원격 URL 이면 null)
+     */
+    public static String thumbnailUrlOf(String coverImageUrl) {
+        if (coverImageUrl == null || !coverImageUrl.startsWith(URL_PREFIX)) {
+            return null;
+        }
+        Matcher matcher = ASSET_ID.matcher(coverImageUrl.substring(URL_PREFIX.length()));
+        return matcher.matches() ? THUMBNAIL_URL_PREFIX + matcher.group(1) + ".jpg" : null;
+    }
+
+    public static MediaType mediaType(String id) {
+        if (id.endsWith(".png")) {
+            return MediaType.IMAGE_PNG;
+        }
+        return id.endsWith(".gif") ? MediaType.IMAGE_GIF : MediaType.IMAGE_JPEG;
+    }
+
+    private Path originalPath(String hash, String extension) {
+        return root.resolve(hash.substring(0, 2)).resolve(hash + "." + extension);
+    }
+
+    private Path thumbnailPath(String hash) {
+        return root.resolve("thumbnails").resolve(hash.substring(0, 2)).resolve(hash + ".jpg");
+    }
+
+    private static Optional<Path> existing(Path path) {
+        return Files.isRegularFile(path) ? Optional.of(path) : Optional.empty();
+    }
+
+    private byte[] readLimited(InputStream input) {
+        try {
+            byte[] bytes = input.readNBytes((int) Math.min(maxBytes + 1, Integer.MAX_VALUE - 8));
+            if (bytes.length > maxBytes) {
+                throw new InvalidRequestException("표지 이미지는 최대 " + maxBytes + "바이트까지 저장할 수 있습니다.");
+            }
+            if (bytes.length == 0) {
+                throw new InvalidRequestException("표지 이미지가 비어 있습니다.");
+            }
+            return bytes;
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * 파일 시그니처로 형식 판별 (PNG, JPEG, GIF 만 허용)
+     */
+    static String detectExtension(byte[] bytes) {
+        if (bytes.length >= 8 && (bytes[0] & 0xFF) == 0x89 && bytes[1] == 'P' && bytes[2] == 'N' && bytes[3] == 'G') {
+            return "png";
+        }
+        if (bytes.length >= 3 && (bytes[0] & 0xFF) == 0xFF && (bytes[1] & 0xFF) == 0xD8 && (bytes[2] & 0xFF) == 0xFF) {
+            return "jpg";
+        }
+        if (bytes.length >= 6 && bytes[0] == 'G' && bytes[1] == 'I' && bytes[2] == 'F' && bytes[3] == '8') {
+            return "gif";
+        }
+        throw new InvalidRequestException("PNG, JPEG, GIF 이미지만 저장할 수 있습니다.");
+    }
+
+    /**
+     * 가로 thumbnail-width 에 맞춘 JPEG 썸네일 (원본이 더 작으면 크기 유지, 투명 영역은 흰색)
+     */
+    private byte[] thumbnail(byte[] bytes) throws IOException {
+        BufferedImage source = decode(bytes);
+        int width = Math.min(thumbnailWidth, source.getWidth());
+        int height = Math.max(1, (int) Math.round((double) source.getHeight() * width / source.getWidth()));
+
+        // 한 번에 크게 줄이면 계단 현상이 생기므로 절반씩 줄인 뒤 마지막에 맞춤
+        BufferedImage current = source;
+        while (current.getWidth() / 2 >= width) {
+            current = resize(current, current.getWidth() / 2, Math.max(1, current.getHeight() / 2));
+        }
+        BufferedImage result = resize(current, width, height);
+
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(output);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(THUMBNAIL_QUALITY);
+            writer.write(null, new IIOImage(result, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    private static BufferedImage decode(byte[] bytes) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(bytes))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                throw new InvalidRequestException("이미지를 읽을 수 없습니다.");
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > MAX_PIXELS) {
+                    throw new InvalidRequestException("이미지 해상도가 너무 큽니다.");
+                }
+                return reader.read(0);
+            } catch (IOException ex) {
+                throw new InvalidRequestException("이미지를 읽을 수 없습니다: " + ex.getMessage());
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private static BufferedImage resize(BufferedImage image, int width, int height) {
+        BufferedImage resized = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = resized.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(image, 0, 0, width, height, Color.WHITE, null);
+        } finally {
+            graphics.dispose();
+        }
+        return resized;
+    }
+
+    /**
+     * 임시 파일에 쓴 뒤 이름을 바꿔, 읽는 쪽이 쓰는 중인 파일을 보지 않게 함
+     */
+    private static void writeAtomically(Path target, byte[] bytes) throws IOException {
+        Files.createDirectories(target.getParent());
+        Path temp = Files.createTempFile(target.getParent(), ".upload-", ".tmp");
+        try {
+            Files.write(temp, bytes);
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException ex) {
+                Files.move(temp, target);
+            }
+        } catch (FileAlreadyExistsException ex) {
+            // 같은 이미지를 동시에 저장한 경우 (내용이 같으므로 먼저 저장된 파일 사용)
+            log.debug("Cover asset already stored: {}", target);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
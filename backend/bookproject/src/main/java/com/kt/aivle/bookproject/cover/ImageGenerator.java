@@ -0,0 +1,18 @@
+package com.kt.aivle.bookproject.cover;
+
+/**
+ * 표지 이미지 생성기
+ * 외부 이미지 모델 호출처럼 오래 걸릴 수 있으므로 요청 처리 스레드가 아닌 표지 생성 스레드에서만 호출된다.
+ * 구현체는 book.cover.generate.generator 값으로 선택한다.
+ */
+public interface ImageGenerator {
+
+    /**
+     * 프롬프트로 표지 이미지를 생성
+     *
+     * @param prompt 공백을 정리한 프롬프트
+     * @return 생성된 이미지 URL
+     * @throws RuntimeException 생성에 실패한 경우
+     */
+    String generate(String prompt);
+}
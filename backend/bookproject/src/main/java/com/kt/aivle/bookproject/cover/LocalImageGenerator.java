@@ -0,0 +1,28 @@
+package com.kt.aivle.bookproject.cover;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 외부 호출 없이 프롬프트로 자리표시 이미지 URL 을 만드는 기본 생성기
+ * 같은 프롬프트는 항상 같은 색상/문구의 URL 이 되며, 개발/테스트 환경용이다.
+ */
+@Component
+@ConditionalOnProperty(name = "book.cover.generate.generator", havingValue = "local", matchIfMissing = true)
+public class LocalImageGenerator implements ImageGenerator {
+
+    private static final String[] COLORS = {"FF6B6B", "4ECDC4", "45B7D1", "FFA07A", "98D8C8", "F7DC6F", "BB8FCE"};
+    // 표지에 표시할 최대 글자 수
+    private static final int MAX_TEXT_LENGTH = 20;
+
+    @Override
+    public String generate(String prompt) {
+        String color = COLORS[Math.floorMod(prompt.hashCode(), COLORS.length)];
+        String text = prompt.length() > MAX_TEXT_LENGTH ? prompt.substring(0, MAX_TEXT_LENGTH) + "..." : prompt;
+        return "https://via.placeholder.com/400x600/" + color + "/FFFFFF?text="
+                + URLEncoder.encode(text, StandardCharsets.UTF_8);
+    }
+}
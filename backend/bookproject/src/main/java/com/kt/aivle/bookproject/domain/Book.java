@@ -1,33 +1,55 @@
 package com.kt.aivle.bookproject.domain;
 
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
 
 @Entity
+// 스키마와 인덱스는 Flyway 마이그레이션(db/migration)으로만 관리
 @Table(name = "book")
+// 변경된 컬럼만 UPDATE (본문을 바꾸지 않는 수정에서 압축 본문 LOB를 다시 쓰지 않음)
+@DynamicUpdate
 @Getter
 @Setter
 @NoArgsConstructor
 public class Book {
      
+    // 시퀀스를 50개 단위로 미리 할당해 INSERT를 JDBC 배치로 묶을 수 있게 함 (IDENTITY는 배치 불가)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "book_seq")
+    @SequenceGenerator(name = "book_seq", sequenceName = "book_seq", allocationSize = 50)
     @Column(name = "book_id")
     private Long id;
 
     @Column(nullable = false, length = 255)
     private String title;
 
+    // 본문은 압축해서 저장 (CompressedTextConverter), 목록 조회에서는 읽지 않음
+    // 바이트코드 향상으로 지연 로딩되므로 엔티티를 읽어도 본문에 접근하기 전에는 LOB를 읽지 않음 (수정 시에도 읽지 않고 덮어씀)
     @Lob
-    @Column(nullable = false)
+    @Basic(fetch = FetchType.LAZY)
+    @Convert(converter = CompressedTextConverter.class)
+    @Column(name = "content_data", nullable = false)
     private String content;
 
+    // 본문의 원본 UTF-8 바이트 수 (압축 전 크기, 저장 용량 통계용)
+    @Setter(AccessLevel.NONE)
+    @Column(name = "content_length", nullable = false)
+    private long contentLength;
+
+    // 낙관적 잠금 버전 (수정 시 Hibernate 가 WHERE version = ? 로 충돌을 검사하고 1 증가시킴)
+    @Version
+    @Setter(AccessLevel.NONE)
+    @Column(nullable = false)
+    private long version;
+
     @CreationTimestamp
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
@@ -44,4 +66,9 @@ public class Book {
 
     @Column(length = 1000)
     private String summary;
-} 
\ No newline at end of file
+
+    public void setContent(String content) {
+        this.content = content;
+        this.contentLength = content == null ? 0 : CompressedTextConverter.utf8Length(content);
+    }
+}
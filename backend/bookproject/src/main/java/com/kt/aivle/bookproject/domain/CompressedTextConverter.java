@@ -0,0 +1,249 @@
+package com.kt.aivle.bookproject.domain;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * 문자열을 압축된 바이트 배열로 저장하는 컨버터 (도서 본문용)
+ * 저장 형식: [방식 1바이트][원본 UTF-8 길이 4바이트][데이터]
+ * - 방식 0: 압축하지 않은 UTF-8 (짧은 글이거나 압축해도 줄지 않는 경우)
+ * - 방식 1: Deflate (zlib 헤더 없음, 이전 형식으로 읽기만 지원)
+ * - 방식 2: 블록 Deflate, 데이터 앞에 [블록 크기 4바이트][블록 수 4바이트][블록별 시작 위치 4바이트 x 블록 수]
+ *   원본을 BLOCK_SIZE 단위로 나누어 블록마다 FULL_FLUSH 로 압축 사전을 비우므로, 어느 블록 시작 위치에서든
+ *   새 Inflater 로 압축을 풀 수 있다. 본문 중간 구간을 읽을 때 앞쪽 블록의 압축을 풀 필요가 없다.
+ * 엔티티를 읽을 때만 압축을 풀며, 목록 조회는 본문을 제외한 프로젝션을 사용하므로 압축 해제 비용이 없다.
+ */
+@Converter
+public class CompressedTextConverter implements AttributeConverter<String, byte[]> {
+
+    static final byte RAW = 0;
+    static final byte DEFLATE = 1;
+    static final byte BLOCKED = 2;
+
+    // 이보다 짧은 글은 압축 이득보다 비용이 커서 그대로 저장
+    private static final int MIN_COMPRESS_BYTES = 512;
+    // 구간 조회 시 최대로 버리는 압축 해제 바이트 수 (작을수록 빠르게 찾지만 압축률이 떨어짐)
+    static final int BLOCK_SIZE = 64 * 1024;
+    private static final int HEADER_SIZE = 5;
+    private static final int BLOCKED_HEADER_SIZE = HEADER_SIZE + 8;
+
+    @Override
+    public byte[] convertToDatabaseColumn(String text) {
+        return text == null ? null : encode(text);
+    }
+
+    @Override
+    public String convertToEntityAttribute(byte[] data) {
+        return data == null ? null : decode(data);
+    }
+
+    public static byte[] encode(String text) {
+        byte[] raw = text.getBytes(StandardCharsets.UTF_8);
+        if (raw.length >= MIN_COMPRESS_BYTES) {
+            byte[] compressed = deflateBlocks(raw);
+            if (compressed != null) {
+                return compressed;
+            }
+        }
+        return ByteBuffer.allocate(HEADER_SIZE + raw.length).put(RAW).putInt(raw.length).put(raw).array();
+    }
+
+    public static String decode(byte[] data) {
+        if (data.length < HEADER_SIZE) {
+            throw new IllegalStateException("압축 본문 형식이 올바르지 않습니다.");
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(data);
+        byte method = buffer.get();
+        int rawLength = buffer.getInt();
+        if (method == RAW) {
+            return new String(data, HEADER_SIZE, data.length - HEADER_SIZE, StandardCharsets.UTF_8);
+        }
+        if (method == DEFLATE) {
+            return new String(inflate(data, HEADER_SIZE, rawLength), StandardCharsets.UTF_8);
+        }
+        if (method != BLOCKED || data.length < BLOCKED_HEADER_SIZE) {
+            throw new IllegalStateException("지원하지 않는 압축 방식입니다: " + method);
+        }
+        int blockCount = checkBlocks(rawLength, buffer.getInt(), buffer.getInt());
+        // 블록 경계의 FULL_FLUSH 는 하나의 Deflate 스트림 안에 있으므로 전체는 한 번에 풀 수 있음
+        int dataStart = BLOCKED_HEADER_SIZE + 4 * blockCount;
+        if (data.length < dataStart) {
+            throw new IllegalStateException("압축 본문이 손상되었습니다.");
+        }
+        return new String(inflate(data, dataStart, rawLength), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 저장된 데이터 스트림을 원본 UTF-8 바이트 스트림으로 변환 (전체를 메모리에 올리지 않음)
+     * 반환된 스트림을 닫으면 stored 도 함께 닫힌다.
+     */
+    public static InputStream openStream(InputStream stored) throws IOException {
+        return openStream(stored, 0);
+    }
+
+    /**
+     * 저장된 데이터 스트림을 원본의 offset 바이트 위치부터 읽는 스트림으로 변환
+     * 블록 형식이면 offset 이 속한 블록까지 압축된 바이트를 건너뛰고 그 블록부터 압축을 풀므로,
+     * 압축 해제 후 버리는 양은 한 블록(BLOCK_SIZE) 이하다. offset 이 원본 길이 이상이면 빈 스트림이 된다.
+     * 반환된 스트림을 닫으면 stored 도 함께 닫힌다.
+     */
+    public static InputStream openStream(InputStream stored, long offset) throws IOException {
+        DataInputStream header = new DataInputStream(stored);
+        byte method = header.readByte();
+        int rawLength = header.readInt();
+        long skip = Math.min(Math.max(offset, 0), rawLength);
+        if (method == RAW) {
+            stored.skipNBytes(skip);
+            return stored;
+        }
+        if (method == DEFLATE) {
+            // 이전 형식은 블록 위치 정보가 없어 처음부터 풀면서 건너뜀 (본문을 다시 저장하면 블록 형식으로 바뀜)
+            InputStream content = inflating(stored);
+            content.skipNBytes(skip);
+            return content;
+        }
+        if (method != BLOCKED) {
+            throw new IOException("지원하지 않는 압축 방식입니다: " + method);
+        }
+        int blockSize = header.readInt();
+        int blockCount;
+        try {
+            blockCount = checkBlocks(rawLength, blockSize, header.readInt());
+        } catch (IllegalStateException ex) {
+            throw new IOException(ex.getMessage(), ex);
+        }
+        int block = (int) Math.min(skip / blockSize, blockCount - 1);
+        header.skipNBytes(4L * block);
+        int blockStart = header.readInt();
+        header.skipNBytes(4L * (blockCount - block - 1));
+        stored.skipNBytes(blockStart);
+        InputStream content = inflating(stored);
+        content.skipNBytes(skip - (long) block * blockSize);
+        return content;
+    }
+
+    /**
+     * @return 블록 크기와 원본 길이로 계산한 블록 수 (헤더 값이 맞지 않으면 예외)
+     */
+    private static int checkBlocks(int rawLength, int blockSize, int blockCount) {
+        if (blockSize <= 0 || rawLength <= 0 || blockCount != (rawLength - 1) / blockSize + 1) {
+            throw new IllegalStateException("압축 본문이 손상되었습니다.");
+        }
+        return blockCount;
+    }
+
+    private static InputStream inflating(InputStream stored) {
+        Inflater inflater = new Inflater(true);
+        return new InflaterInputStream(stored, inflater, 8192) {
+            @Override
+            public void close() throws IOException {
+                try {
+                    super.close();
+                } finally {
+                    inflater.end();
+                }
+            }
+        };
+    }
+
+    /**
+     * 문자열의 UTF-8 인코딩 길이 (인코딩 결과를 만들지 않고 계산)
+     */
+    public static long utf8Length(CharSequence text) {
+        long length = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                length += 1;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < text.length() && Character.isLowSurrogate(text.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+    /**
+     * BLOCK_SIZE 단위로 나누어 압축 (블록마다 FULL_FLUSH 로 이전 블록과의 참조를 끊음)
+     *
+     * @return 압축 결과가 원본보다 작지 않으면 null
+     */
+    private static byte[] deflateBlocks(byte[] raw) {
+        int blockCount = (raw.length - 1) / BLOCK_SIZE + 1;
+        int dataStart = BLOCKED_HEADER_SIZE + 4 * blockCount;
+        int[] blockStarts = new int[blockCount];
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        try {
+            // 원본보다 커지면 압축하지 않으므로 원본 크기만큼만 버퍼를 잡음
+            byte[] out = new byte[HEADER_SIZE + raw.length];
+            int length = dataStart;
+            if (length >= out.length) {
+                return null;
+            }
+            for (int block = 0; block < blockCount; block++) {
+                blockStarts[block] = length - dataStart;
+                int from = block * BLOCK_SIZE;
+                deflater.setInput(raw, from, Math.min(BLOCK_SIZE, raw.length - from));
+                boolean last = block == blockCount - 1;
+                if (last) {
+                    deflater.finish();
+                }
+                // FULL_FLUSH 는 남은 출력 공간보다 적게 기록해야 해당 블록의 압축 결과가 모두 기록된 것
+                int available;
+                int written;
+                do {
+                    available = out.length - length;
+                    if (available == 0) {
+                        return null;
+                    }
+                    written = deflater.deflate(out, length, available, last ? Deflater.NO_FLUSH : Deflater.FULL_FLUSH);
+                    length += written;
+                } while (last ? !deflater.finished() : written == available);
+            }
+            ByteBuffer header = ByteBuffer.wrap(out).put(BLOCKED).putInt(raw.length).putInt(BLOCK_SIZE).putInt(blockCount);
+            for (int blockStart : blockStarts) {
+                header.putInt(blockStart);
+            }
+            byte[] result = new byte[length];
+            System.arraycopy(out, 0, result, 0, length);
+            return result;
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] data, int dataStart, int rawLength) {
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(data, dataStart, data.length - dataStart);
+            byte[] raw = new byte[rawLength];
+            int length = 0;
+            while (length < rawLength) {
+                int read = inflater.inflate(raw, length, rawLength - length);
+                if (read == 0 && (inflater.finished() || inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalStateException("압축 본문이 손상되었습니다.");
+                }
+                length += read;
+            }
+            return raw;
+        } catch (DataFormatException ex) {
+            throw new IllegalStateException("압축 본문이 손상되었습니다.", ex);
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.kt.aivle.bookproject.dto;
+
+import com.kt.aivle.bookproject.exception.InvalidRequestException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 키셋 페이지네이션 커서 (마지막으로 받은 도서의 createdAt + book_id)
+ * 클라이언트에는 내부 구조를 알 수 없는 Base64 문자열로 전달된다.
+ */
+@Getter
+@AllArgsConstructor
+public class BookCursor {
+
+    private static final String DELIMITER = "|";
+
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static BookCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int split = raw.lastIndexOf(DELIMITER);
+            if (split < 0) {
+                throw new InvalidRequestException("유효하지 않은 커서입니다.");
+            }
+            return new BookCursor(LocalDateTime.parse(raw.substring(0, split)), Long.parseLong(raw.substring(split + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new InvalidRequestException("유효하지 않은 커서입니다.");
+        }
+    }
+}
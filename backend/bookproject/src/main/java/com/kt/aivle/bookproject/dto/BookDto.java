@@ -1,8 +1,13 @@
 package com.kt.aivle.bookproject.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.kt.aivle.bookproject.domain.Book;
+import com.kt.aivle.bookproject.repository.BookListView;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -10,6 +15,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 public class BookDto {
 
@@ -65,6 +71,31 @@ public class BookDto {
         private String coverImageUrl;
     }
 
+    // 일괄 수정 항목 DTO (수정 대상 도서 ID 포함)
+    @Getter
+    @NoArgsConstructor
+    public static class BatchUpdateItem extends UpdateRequest {
+
+        @NotNull(message = "도서 ID는 필수입니다")
+        private Long id;
+
+        public BatchUpdateItem(Long id, String title, String content, String author, String summary,
+                               String coverImageUrl) {
+            super(title, content, author, summary, coverImageUrl);
+            this.id = id;
+        }
+    }
+
+    // 일괄 삭제 요청 DTO
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BatchDeleteRequest {
+
+        @NotEmpty(message = "삭제할 도서 ID는 필수입니다")
+        private List<Long> ids;
+    }
+
     @Getter
     @Builder
     @NoArgsConstructor
@@ -78,6 +109,9 @@ public class BookDto {
         private String summary;
         private String coverImageUrl;
         
+        // 낙관적 잠금 버전 (수정/삭제 시 If-Match 로 전달)
+        private long version;
+        
         @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss")
         private LocalDateTime createdAt;
         
@@ -94,6 +128,7 @@ public class BookDto {
                     .coverImageUrl(book.getCoverImageUrl())
                     .createdAt(book.getCreatedAt())
                     .updatedAt(book.getUpdatedAt())
+                    .version(book.getVersion())
                     .build();
         }
     }
@@ -110,20 +145,267 @@ public class BookDto {
         private String author;
         private String summary;
         private String coverImageUrl;
+        // 로컬에 저장한 표지의 목록용 썸네일 (원격 표지면 없음)
+        private String thumbnailUrl;
         
         @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss")
         private LocalDateTime createdAt;
         
-        public static ListResponse fromEntity(Book book) {
+        /**
+         * @param thumbnailUrl 표지의 목록용 썸네일 URL (호출하는 쪽에서 표지 저장소 기준으로 구함, 없으면 null)
+         */
+        public static ListResponse fromEntity(Book book, String thumbnailUrl) {
             return ListResponse.builder()
                     .id(book.getId())
                     .title(book.getTitle())
                     .author(book.getAuthor())
                     .summary(book.getSummary())
                     .coverImageUrl(book.getCoverImageUrl())
+                    .thumbnailUrl(thumbnailUrl)
                     .createdAt(book.getCreatedAt())
                     .build();
         }
+
+        /**
+         * @param thumbnailUrl 표지의 목록용 썸네일 URL (호출하는 쪽에서 표지 저장소 기준으로 구함, 없으면 null)
+         */
+        public static ListResponse fromView(BookListView view, String thumbnailUrl) {
+            return ListResponse.builder()
+                    .id(view.getId())
+                    .title(view.getTitle())
+                    .author(view.getAuthor())
+                    .summary(view.getSummary())
+                    .coverImageUrl(view.getCoverImageUrl())
+                    .thumbnailUrl(thumbnailUrl)
+                    .createdAt(view.getCreatedAt())
+                    .build();
+        }
+    }
+
+    // 랭킹 검색 결과 (목록 정보 + 관련도 점수, 점수 내림차순)
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RankedResponse {
+
+        private Long id;
+        private String title;
+        private String author;
+        private String summary;
+        private String coverImageUrl;
+        private String thumbnailUrl;
+
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss")
+        private LocalDateTime createdAt;
+
+        private float score;
+
+        public static RankedResponse of(ListResponse book, float score) {
+            return RankedResponse.builder()
+                    .id(book.getId())
+                    .title(book.getTitle())
+                    .author(book.getAuthor())
+                    .summary(book.getSummary())
+                    .coverImageUrl(book.getCoverImageUrl())
+                    .thumbnailUrl(book.getThumbnailUrl())
+                    .createdAt(book.getCreatedAt())
+                    .score(score)
+                    .build();
+        }
+    }
+
+    // 커서 기반 목록 조회 응답 (전체 건수 없이 다음 페이지 커서만 제공)
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CursorResponse {
+
+        private List<ListResponse> content;
+        private int size;
+        private boolean hasNext;
+        private String nextCursor;
+    }
+
+    // 일괄 처리 항목별 결과 (index는 요청 목록에서의 위치)
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class BatchItemResult {
+
+        private int index;
+        private Long id;
+        private String status;
+        private String message;
+        private List<ErrorDetail> errors;
+
+        public static BatchItemResult success(int index, Long id) {
+            return BatchItemResult.builder().index(index).id(id).status("success").build();
+        }
+
+        public static BatchItemResult error(int index, Long id, String message, List<ErrorDetail> errors) {
+            return BatchItemResult.builder().index(index).id(id).status("error").message(message).errors(errors).build();
+        }
+    }
+
+    // 일괄 처리 결과
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BatchResponse {
+
+        private int total;
+        private int succeeded;
+        private int failed;
+        private List<BatchItemResult> results;
+
+        public static BatchResponse of(List<BatchItemResult> results) {
+            int succeeded = (int) results.stream().filter(result -> "success".equals(result.getStatus())).count();
+            return BatchResponse.builder()
+                    .total(results.size())
+                    .succeeded(succeeded)
+                    .failed(results.size() - succeeded)
+                    .results(results)
+                    .build();
+        }
+    }
+
+    // 본문 구간 조회 결과 (offset/length: UTF-8 바이트 기준, 글자 경계에 맞춰 조정된 값, 마지막 구간이면 nextOffset 은 null)
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ContentChunk {
+
+        private Long bookId;
+        private long offset;
+        private int length;
+        private long totalLength;
+        private String text;
+        private Long nextOffset;
+    }
+
+    // 본문 저장 용량 통계 (rawBytes: 원본 UTF-8 크기, storedBytes: 압축 후 저장 크기)
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class StorageStats {
+
+        private long books;
+        private long rawBytes;
+        private long storedBytes;
+        // 저장 크기 / 원본 크기 (도서가 없으면 1)
+        private double compressionRatio;
+
+        public static StorageStats of(long books, long rawBytes, long storedBytes) {
+            return StorageStats.builder()
+                    .books(books)
+                    .rawBytes(rawBytes)
+                    .storedBytes(storedBytes)
+                    .compressionRatio(rawBytes == 0 ? 1.0 : (double) storedBytes / rawBytes)
+                    .build();
+        }
+    }
+
+    // 자동 완성 항목 (type: title|author, count: 해당 문구를 가진 도서 수)
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Suggestion {
+
+        private String text;
+        private String type;
+        private long count;
+    }
+
+    // 스트리밍 가져오기 결과 (errors는 앞쪽 일부만 포함, index는 입력 레코드 순번)
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ImportResponse {
+
+        private long processed;
+        private long succeeded;
+        private long failed;
+        private int chunks;
+        private boolean aborted;
+        private List<BatchItemResult> errors;
+    }
+
+    // 도서 버전 정보 (조건부 요청 검사용, 본문 없이 조회)
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class VersionInfo {
+
+        private Long id;
+        private long version;
+        private LocalDateTime updatedAt;
+    }
+
+    // 표지 이미지 URL 업데이트 결과 (본문 등 나머지 필드는 조회하지 않음)
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CoverResponse {
+
+        private Long id;
+        private String coverImageUrl;
+        private long version;
+
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss")
+        private LocalDateTime updatedAt;
+    }
+
+    // 표지 이미지 생성 요청 DTO
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CoverGenerateRequest {
+
+        @JsonProperty("prompt_text")
+        @NotBlank(message = "프롬프트는 필수입니다")
+        @Size(max = 1000, message = "프롬프트는 최대 1000자까지 입력 가능합니다")
+        private String promptText;
+    }
+
+    // 요약 생성 작업 등록 요청 DTO
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SummaryJobRequest {
+
+        @NotEmpty(message = "요약할 도서 ID는 필수입니다")
+        private List<Long> bookIds;
+    }
+
+    // 요약 생성 작업 상태 (error 는 마지막 실패 사유, nextAttemptAt 은 재시도 대기 중일 때만 포함)
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SummaryJobResponse {
+
+        private String jobId;
+        private Long bookId;
+        private SummaryJobStatus status;
+        private int attempts;
+        private String error;
+
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss")
+        private LocalDateTime createdAt;
+
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss")
+        private LocalDateTime updatedAt;
+
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss")
+        private LocalDateTime nextAttemptAt;
     }
 
     // 표지 이미지 URL 업데이트용 DTO
@@ -0,0 +1,26 @@
+package com.kt.aivle.bookproject.dto;
+
+import com.kt.aivle.bookproject.exception.InvalidRequestException;
+
+import java.util.Locale;
+
+/**
+ * 목록 조회 시 전체 건수를 계산하는 방식
+ * - NONE: 건수를 세지 않고 다음 페이지 존재 여부만 반환 (Slice)
+ * - ESTIMATE: 추정한 건수 반환 (전체 목록은 검색 인덱스의 도서 수, 검색은 ID 범위 전체에 고르게 흩어진 표본의 일치 비율로 추정)
+ * - EXACT: COUNT 쿼리로 정확한 건수 반환 (기본값)
+ */
+public enum CountMode {
+    NONE, ESTIMATE, EXACT;
+
+    public static CountMode from(String value) {
+        if (value == null || value.isBlank()) {
+            return EXACT;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidRequestException("count 는 none, estimate, exact 중 하나여야 합니다.");
+        }
+    }
+}
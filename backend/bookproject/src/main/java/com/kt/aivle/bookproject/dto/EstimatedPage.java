@@ -0,0 +1,21 @@
+package com.kt.aivle.bookproject.dto;
+
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+/**
+ * 전체 건수가 추정값인 페이지
+ * 응답 JSON에 totalEstimated=true 가 포함되어 클라이언트가 "약 N건"으로 표시할 수 있다.
+ */
+public class EstimatedPage<T> extends PageImpl<T> {
+
+    public EstimatedPage(List<T> content, Pageable pageable, long estimatedTotal) {
+        super(content, pageable, estimatedTotal);
+    }
+
+    public boolean isTotalEstimated() {
+        return true;
+    }
+}
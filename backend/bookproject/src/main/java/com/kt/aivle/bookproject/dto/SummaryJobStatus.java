@@ -0,0 +1,17 @@
+package com.kt.aivle.bookproject.dto;
+
+/**
+ * 요약 생성 작업 상태
+ * - QUEUED: 대기열에서 워커를 기다리는 중
+ * - RUNNING: 요약 생성 또는 저장 중
+ * - RETRYING: 실패 후 다시 시도하기 전 대기 중 (nextAttemptAt 이후 대기열로 돌아감)
+ * - SUCCEEDED: 요약이 도서에 저장됨
+ * - FAILED: 최대 시도 횟수를 넘었거나 도서가 삭제됨
+ */
+public enum SummaryJobStatus {
+    QUEUED, RUNNING, RETRYING, SUCCEEDED, FAILED;
+
+    public boolean isFinished() {
+        return this == SUCCEEDED || this == FAILED;
+    }
+}
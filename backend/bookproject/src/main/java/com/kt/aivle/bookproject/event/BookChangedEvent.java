@@ -0,0 +1,24 @@
+package com.kt.aivle.bookproject.event;
+
+import lombok.Getter;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 도서가 생성/수정/삭제되었음을 알리는 이벤트
+ * 트랜잭션 커밋 이후 검색 인덱스 등 파생 데이터가 해당 ID를 다시 읽어 동기화한다.
+ */
+@Getter
+public class BookChangedEvent {
+
+    private final List<Long> bookIds;
+
+    public BookChangedEvent(Long bookId) {
+        this.bookIds = List.of(bookId);
+    }
+
+    public BookChangedEvent(Collection<Long> bookIds) {
+        this.bookIds = List.copyOf(bookIds);
+    }
+}
@@ -2,26 +2,74 @@ package com.kt.aivle.bookproject.exception;
 
 import com.kt.aivle.bookproject.dto.ApiResponse;
 import com.kt.aivle.bookproject.dto.ErrorDetail;
+import com.kt.aivle.bookproject.service.BookMetrics;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.HandlerMapping;
 
 import java.util.List;
 import java.util.stream.Collectors;
 
 @Slf4j
 @RestControllerAdvice
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
 
+    private final BookMetrics bookMetrics;
+
     @ExceptionHandler(ResourceNotFoundException.class)
-    public ResponseEntity<ApiResponse<Object>> handleResourceNotFoundException(ResourceNotFoundException ex) {
+    public ResponseEntity<ApiResponse<Object>> handleResourceNotFoundException(ResourceNotFoundException ex,
+                                                                               HttpServletRequest request) {
+        // 경로 변수 대신 매핑 패턴(/api/books/{bookId})으로 집계해 태그 수가 늘어나지 않게 함
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        bookMetrics.recordNotFound(pattern != null ? pattern.toString() : "UNKNOWN");
+
         ApiResponse<Object> response = ApiResponse.error(ex.getMessage(), "RESOURCE_NOT_FOUND");
         return new ResponseEntity<>(response, HttpStatus.NOT_FOUND);
     }
 
+    @ExceptionHandler(InvalidRequestException.class)
+    public ResponseEntity<ApiResponse<Object>> handleInvalidRequestException(InvalidRequestException ex) {
+        ApiResponse<Object> response = ApiResponse.error(ex.getMessage(), "INVALID_REQUEST");
+        return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
+    }
+
+    // If-Match 의 버전이 현재 버전과 다르거나, 수정 도중 다른 요청이 먼저 수정한 경우
+    @ExceptionHandler({PreconditionFailedException.class, OptimisticLockingFailureException.class})
+    public ResponseEntity<ApiResponse<Object>> handlePreconditionFailedException(RuntimeException ex) {
+        String message = ex instanceof PreconditionFailedException
+                ? ex.getMessage()
+                : "다른 사용자가 먼저 도서를 수정했습니다. 최신 내용을 다시 불러와 주세요.";
+        ApiResponse<Object> response = ApiResponse.error(message, "PRECONDITION_FAILED");
+        return new ResponseEntity<>(response, HttpStatus.PRECONDITION_FAILED);
+    }
+
+    @ExceptionHandler(SearchUnavailableException.class)
+    public ResponseEntity<ApiResponse<Object>> handleSearchUnavailableException(SearchUnavailableException ex) {
+        ApiResponse<Object> response = ApiResponse.error(ex.getMessage(), "SEARCH_UNAVAILABLE");
+        return new ResponseEntity<>(response, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    @ExceptionHandler(SummaryUnavailableException.class)
+    public ResponseEntity<ApiResponse<Object>> handleSummaryUnavailableException(SummaryUnavailableException ex) {
+        ApiResponse<Object> response = ApiResponse.error(ex.getMessage(), "SUMMARY_UNAVAILABLE");
+        return new ResponseEntity<>(response, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    @ExceptionHandler(ImageGenerationUnavailableException.class)
+    public ResponseEntity<ApiResponse<Object>> handleImageGenerationUnavailableException(
+            ImageGenerationUnavailableException ex) {
+        ApiResponse<Object> response = ApiResponse.error(ex.getMessage(), "IMAGE_GENERATION_UNAVAILABLE");
+        return new ResponseEntity<>(response, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ApiResponse<Object>> handleMethodArgumentNotValidException(MethodArgumentNotValidException ex) {
         List<ErrorDetail> errors = ex.getBindingResult()
@@ -0,0 +1,12 @@
+package com.kt.aivle.bookproject.exception;
+
+public class ImageGenerationUnavailableException extends RuntimeException {
+
+    public ImageGenerationUnavailableException(String message) {
+        super(message);
+    }
+
+    public ImageGenerationUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,8 @@
+package com.kt.aivle.bookproject.exception;
+
+public class SearchUnavailableException extends RuntimeException {
+
+    public SearchUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.kt.aivle.bookproject.exception;
+
+public class SummaryUnavailableException extends RuntimeException {
+
+    public SummaryUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,32 @@
+package com.kt.aivle.bookproject.jdbc;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+
+/**
+ * 최근에 쓰기를 커밋한 클라이언트 목록
+ * 복제 지연 허용 시간(window) 동안만 기억하며, 그동안 해당 클라이언트의 읽기는 primary로 보낸다.
+ */
+public class ReadYourWritesTracker {
+
+    private static final long MAX_CLIENTS = 100_000;
+
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWritesTracker(Duration window) {
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .maximumSize(MAX_CLIENTS)
+                .build();
+    }
+
+    public void markWrite(String clientId) {
+        recentWriters.put(clientId, Boolean.TRUE);
+    }
+
+    public boolean hasRecentWrite(String clientId) {
+        return recentWriters.getIfPresent(clientId) != null;
+    }
+}
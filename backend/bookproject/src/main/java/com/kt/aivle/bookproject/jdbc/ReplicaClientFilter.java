@@ -0,0 +1,29 @@
+package com.kt.aivle.bookproject.jdbc;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 요청한 클라이언트를 식별해 복제본 라우팅에 전달 (X-Client-Id 헤더, 없으면 IP 주소)
+ */
+public class ReplicaClientFilter extends OncePerRequestFilter {
+
+    public static final String CLIENT_ID_HEADER = "X-Client-Id";
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String clientId = request.getHeader(CLIENT_ID_HEADER);
+        ReplicationRouting.setClientId(clientId != null && !clientId.isBlank() ? clientId : request.getRemoteAddr());
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            ReplicationRouting.clearClientId();
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.kt.aivle.bookproject.jdbc;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * readOnly 트랜잭션은 복제본, 그 외는 primary로 보내는 DataSource
+ * 트랜잭션 속성이 정해진 뒤 커넥션을 가져오도록 LazyConnectionDataSourceProxy 로 감싸서 사용해야 한다.
+ * 쓰기 트랜잭션이 커밋되면 해당 클라이언트를 기록해 지연 허용 시간 동안 읽기도 primary로 보낸다.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+    public static final String REPLICA = "replica";
+
+    private final ReadYourWritesTracker tracker;
+
+    public ReplicaRoutingDataSource(ReadYourWritesTracker tracker) {
+        this.tracker = tracker;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String clientId = ReplicationRouting.getClientId();
+
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (clientId != null && TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        tracker.markWrite(clientId);
+                    }
+                });
+            }
+            return PRIMARY;
+        }
+
+        if (ReplicationRouting.isPrimaryForced() || (clientId != null && tracker.hasRecentWrite(clientId))) {
+            return PRIMARY;
+        }
+        return REPLICA;
+    }
+}
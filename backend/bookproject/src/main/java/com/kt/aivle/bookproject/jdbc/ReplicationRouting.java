@@ -0,0 +1,52 @@
+package com.kt.aivle.bookproject.jdbc;
+
+import java.util.function.Supplier;
+
+/**
+ * 복제본 라우팅에 필요한 스레드 단위 정보
+ * - 현재 요청의 클라이언트 ID (read-your-writes 판단용, ReplicaClientFilter가 설정)
+ * - primary 강제 여부 (복제 지연 데이터를 캐시/인덱스에 담으면 안 되는 조회에 사용)
+ * 복제본 라우팅이 꺼져 있으면 아무 효과가 없다.
+ */
+public final class ReplicationRouting {
+
+    private static final ThreadLocal<String> CLIENT_ID = new ThreadLocal<>();
+    private static final ThreadLocal<Boolean> FORCE_PRIMARY = new ThreadLocal<>();
+
+    private ReplicationRouting() {
+    }
+
+    /**
+     * 읽기 전용 트랜잭션이라도 primary에서 조회
+     * 트랜잭션 커넥션은 첫 쿼리 시점에 결정되므로 트랜잭션 안에서 호출해도 적용된다.
+     */
+    public static <T> T onPrimary(Supplier<T> action) {
+        Boolean previous = FORCE_PRIMARY.get();
+        FORCE_PRIMARY.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                FORCE_PRIMARY.remove();
+            } else {
+                FORCE_PRIMARY.set(previous);
+            }
+        }
+    }
+
+    static boolean isPrimaryForced() {
+        return FORCE_PRIMARY.get() != null;
+    }
+
+    static String getClientId() {
+        return CLIENT_ID.get();
+    }
+
+    static void setClientId(String clientId) {
+        CLIENT_ID.set(clientId);
+    }
+
+    static void clearClientId() {
+        CLIENT_ID.remove();
+    }
+}
@@ -0,0 +1,72 @@
+package com.kt.aivle.bookproject.jdbc;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * HTTP 요청 하나에서 실행된 SQL 통계
+ * 요청을 처리하는 스레드에 묶여 있으며 SqlStatsFilter가 시작/종료한다.
+ * (StreamingResponseBody 처럼 다른 스레드에서 실행되는 쿼리는 집계되지 않음)
+ */
+public class SqlRequestStats {
+
+    private static final ThreadLocal<SqlRequestStats> CURRENT = new ThreadLocal<>();
+
+    private int statementCount;
+    private long elapsedNanos;
+    private long queryStartedAt;
+    // SELECT 문별 실행 횟수 (바인드 파라미터가 ?로 남아 있으므로 같은 쿼리는 같은 키)
+    private final Map<String, Integer> selectCounts = new HashMap<>();
+
+    static SqlRequestStats begin() {
+        SqlRequestStats stats = new SqlRequestStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    public static SqlRequestStats current() {
+        return CURRENT.get();
+    }
+
+    void beforeQuery() {
+        queryStartedAt = System.nanoTime();
+    }
+
+    void afterQuery(List<String> queries, boolean select) {
+        elapsedNanos += System.nanoTime() - queryStartedAt;
+        statementCount++;
+        if (select) {
+            for (String query : queries) {
+                selectCounts.merge(query, 1, Integer::sum);
+            }
+        }
+    }
+
+    public int getStatementCount() {
+        return statementCount;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * 같은 SELECT 문이 threshold 번 이상 반복된 경우 (N+1 의심)
+     *
+     * @return SQL → 실행 횟수
+     */
+    public Map<String, Integer> getRepeatedSelects(int threshold) {
+        Map<String, Integer> repeated = new HashMap<>();
+        selectCounts.forEach((sql, count) -> {
+            if (count >= threshold) {
+                repeated.put(sql, count);
+            }
+        });
+        return repeated;
+    }
+}
@@ -0,0 +1,88 @@
+package com.kt.aivle.bookproject.jdbc;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청별 SQL 통계 수집 필터
+ * - book.sql.statements: 요청당 SQL 실행 수 (method, uri 태그)
+ * - book.sql.time: 요청당 JDBC 누적 시간 (method, uri 태그)
+ * - book.sql.n_plus_one: 같은 SELECT가 임계값 이상 반복된 요청 수 (uri 태그, 해당 SQL은 WARN 로그)
+ */
+@Slf4j
+@Component
+public class SqlStatsFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry registry;
+    private final int nPlusOneThreshold;
+
+    public SqlStatsFilter(MeterRegistry registry,
+                          @Value("${book.sql.stats.n-plus-one-threshold:5}") int nPlusOneThreshold) {
+        this.registry = registry;
+        this.nPlusOneThreshold = nPlusOneThreshold;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        return path.startsWith("/actuator") || path.startsWith("/h2-console");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        SqlRequestStats stats = SqlRequestStats.begin();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            SqlRequestStats.end();
+            record(request, stats);
+        }
+    }
+
+    private void record(HttpServletRequest request, SqlRequestStats stats) {
+        // 경로 변수 대신 매핑 패턴으로 집계해 태그 수가 늘어나지 않게 함
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+
+        DistributionSummary.builder("book.sql.statements")
+                .description("요청당 SQL 실행 수")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(registry)
+                .record(stats.getStatementCount());
+        Timer.builder("book.sql.time")
+                .description("요청당 JDBC 실행 시간")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(registry)
+                .record(stats.getElapsedNanos(), TimeUnit.NANOSECONDS);
+
+        Map<String, Integer> repeated = stats.getRepeatedSelects(nPlusOneThreshold);
+        if (!repeated.isEmpty()) {
+            Counter.builder("book.sql.n_plus_one")
+                    .description("같은 SELECT가 반복 실행된 요청 수")
+                    .tag("uri", uri)
+                    .register(registry)
+                    .increment();
+            repeated.forEach((sql, count) ->
+                    log.warn("N+1 의심: {} {} 요청에서 같은 쿼리가 {}번 실행됨 - {}",
+                            request.getMethod(), request.getRequestURI(), count, sql));
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.kt.aivle.bookproject.jdbc;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.QueryType;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryUtils;
+
+import java.util.List;
+
+/**
+ * datasource-proxy 리스너: 현재 요청의 SqlRequestStats 에 실행 횟수와 JDBC 시간을 누적
+ * JDBC 배치는 한 번의 왕복이므로 한 건으로 센다.
+ */
+public class SqlStatsListener implements QueryExecutionListener {
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        SqlRequestStats stats = SqlRequestStats.current();
+        if (stats != null) {
+            stats.beforeQuery();
+        }
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        SqlRequestStats stats = SqlRequestStats.current();
+        if (stats == null) {
+            return;
+        }
+        List<String> queries = queryInfoList.stream().map(QueryInfo::getQuery).toList();
+        boolean select = !execInfo.isBatch() && queries.size() == 1
+                && QueryUtils.getQueryType(queries.get(0)) == QueryType.SELECT;
+        stats.afterQuery(queries, select);
+    }
+}
@@ -0,0 +1,50 @@
+package com.kt.aivle.bookproject.jdbc;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * 개발 환경용: 응답 본문을 쓰기 직전에 현재 요청의 SQL 통계를 응답 헤더로 노출
+ * (X-Sql-Count, X-Sql-Time-Ms, 반복 SELECT가 있으면 X-Sql-N-Plus-One)
+ * 응답이 커밋된 뒤에는 헤더를 추가할 수 없으므로 필터가 아닌 여기서 설정한다.
+ */
+@RestControllerAdvice
+@ConditionalOnProperty(name = "book.sql.stats.response-headers", havingValue = "true")
+public class SqlStatsResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    private final int nPlusOneThreshold;
+
+    public SqlStatsResponseAdvice(@Value("${book.sql.stats.n-plus-one-threshold:5}") int nPlusOneThreshold) {
+        this.nPlusOneThreshold = nPlusOneThreshold;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        SqlRequestStats stats = SqlRequestStats.current();
+        if (stats != null) {
+            HttpHeaders headers = response.getHeaders();
+            headers.set("X-Sql-Count", String.valueOf(stats.getStatementCount()));
+            headers.set("X-Sql-Time-Ms", String.format("%.3f", stats.getElapsedNanos() / 1_000_000.0));
+            int repeated = stats.getRepeatedSelects(nPlusOneThreshold).size();
+            if (repeated > 0) {
+                headers.set("X-Sql-N-Plus-One", String.valueOf(repeated));
+            }
+        }
+        return body;
+    }
+}
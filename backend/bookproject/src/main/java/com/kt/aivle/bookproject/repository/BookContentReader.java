@@ -0,0 +1,91 @@
+package com.kt.aivle.bookproject.repository;
+
+import com.kt.aivle.bookproject.domain.CompressedTextConverter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 도서 본문 LOB를 스트림으로 읽는 저장소
+ * JPA 엔티티로 읽으면 본문 전체가 String으로 만들어지므로, JDBC로 LOB 스트림을 열어
+ * 압축을 풀면서 필요한 구간만 읽는다. 현재 트랜잭션의 커넥션을 함께 사용한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BookContentReader {
+
+    private static final String SELECT_CONTENT = "select content_data from book where book_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 본문의 원본 UTF-8 바이트 스트림을 callback 에 전달 (스트림은 callback 이 끝나면 닫힘)
+     *
+     * @return 도서가 없으면 false
+     */
+    public boolean read(Long id, ContentCallback callback) {
+        return read(id, 0, callback);
+    }
+
+    /**
+     * 본문의 offset 바이트 위치부터 읽는 원본 UTF-8 바이트 스트림을 callback 에 전달
+     * 블록 압축 형식이면 offset 이 속한 블록부터 압축을 풀어, 뒤쪽 구간을 읽어도 앞쪽 본문의 압축을 풀지 않는다.
+     *
+     * @return 도서가 없으면 false
+     */
+    public boolean read(Long id, long offset, ContentCallback callback) {
+        Boolean found = jdbcTemplate.query(SELECT_CONTENT, rs -> {
+            if (!rs.next()) {
+                return false;
+            }
+            try (InputStream content = CompressedTextConverter.openStream(rs.getBinaryStream(1), offset)) {
+                callback.read(content);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+            return true;
+        }, id);
+        return Boolean.TRUE.equals(found);
+    }
+
+    /**
+     * 여러 도서 본문의 앞부분을 한 번에 조회 (랭킹 검색 인덱스용)
+     * 글자당 UTF-8 최대 3바이트 분량만 압축을 풀어 읽으므로, 본문 전체를 문자열로 만들지 않는다.
+     *
+     * @param ids 도서 ID 목록
+     * @param maxChars 도서별 최대 글자 수 (UTF-16 단위)
+     * @return 도서 ID -> 본문 앞부분 (없는 도서는 포함하지 않음)
+     */
+    public Map<Long, String> readPrefixes(Collection<Long> ids, int maxChars) {
+        if (ids.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        String placeholders = String.join(",", Collections.nCopies(ids.size(), "?"));
+        // 잘린 마지막 글자가 있어도 maxChars 글자는 온전히 남도록 한 글자 분량을 더 읽음
+        int maxBytes = (int) Math.min(Integer.MAX_VALUE - 8L, (maxChars + 1L) * 3);
+        Map<Long, String> prefixes = new HashMap<>();
+        jdbcTemplate.query("select book_id, content_data from book where book_id in (" + placeholders + ")", rs -> {
+            try (InputStream content = CompressedTextConverter.openStream(rs.getBinaryStream(2))) {
+                String text = new String(content.readNBytes(maxBytes), StandardCharsets.UTF_8);
+                prefixes.put(rs.getLong(1), text.length() > maxChars ? text.substring(0, maxChars) : text);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }, ids.toArray());
+        return prefixes;
+    }
+
+    @FunctionalInterface
+    public interface ContentCallback {
+        void read(InputStream content) throws IOException;
+    }
+}
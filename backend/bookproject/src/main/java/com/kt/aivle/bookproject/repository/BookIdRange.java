@@ -0,0 +1,11 @@
+package com.kt.aivle.bookproject.repository;
+
+/**
+ * 도서 ID 범위 (도서가 없으면 둘 다 null)
+ */
+public interface BookIdRange {
+
+    Long getMinId();
+
+    Long getMaxId();
+}
@@ -0,0 +1,22 @@
+package com.kt.aivle.bookproject.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 목록 조회용 프로젝션
+ * 본문(content) 컬럼을 제외한 목록 표시용 컬럼만 조회한다.
+ */
+public interface BookListView {
+
+    Long getId();
+
+    String getTitle();
+
+    String getAuthor();
+
+    String getSummary();
+
+    String getCoverImageUrl();
+
+    LocalDateTime getCreatedAt();
+}
@@ -1,11 +1,25 @@
 package com.kt.aivle.bookproject.repository;
 
 import com.kt.aivle.bookproject.domain.Book;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
 @Repository
 public interface BookRepository extends JpaRepository<Book, Long> {
     
@@ -18,4 +32,114 @@ public interface BookRepository extends JpaRepository<Book, Long> {
     
     // 작가로만 검색 (대소문자 무시)
     Page<Book> findByAuthorContainingIgnoreCase(String author, Pageable pageable);
+
+    // 아래 메서드들은 목록 조회용으로 본문(content)을 제외한 컬럼만 조회
+
+    // 전체 목록 조회
+    Page<BookListView> findAllProjectedBy(Pageable pageable);
+
+    // 제목, 작가, 요약 동시 검색 (대소문자 무시, 조회할 프로젝션 타입 지정, 검색 인덱스와 같은 필드)
+    <T> Page<T> findByTitleContainingIgnoreCaseOrAuthorContainingIgnoreCaseOrSummaryContainingIgnoreCase(
+            String title, String author, String summary, Pageable pageable, Class<T> type);
+
+    // 아래 Slice 메서드들은 COUNT 쿼리 없이 size + 1 건만 읽어 다음 페이지 여부를 판단
+
+    // 전체 목록 조회 (COUNT 없음)
+    Slice<BookListView> findSliceProjectedBy(Pageable pageable);
+
+    // 제목, 작가, 요약 동시 검색 (대소문자 무시, COUNT 없음)
+    <T> Slice<T> findSliceByTitleContainingIgnoreCaseOrAuthorContainingIgnoreCaseOrSummaryContainingIgnoreCase(
+            String title, String author, String summary, Pageable pageable, Class<T> type);
+
+    // 가장 작은/큰 도서 ID (건수 추정 표본 구간 계산용, PK 인덱스 양 끝에서 바로 읽음)
+    @Query("select min(b.id) as minId, max(b.id) as maxId from Book b")
+    BookIdRange findIdRange();
+
+    // ID 구간 [fromId, toId) 의 도서 수와 그중 제목, 작가 또는 요약이 패턴과 일치하는 건수 (건수 추정 표본 조회용, pattern 은 소문자)
+    @Query("select count(b) as books, coalesce(sum(case when lower(b.title) like :pattern escape '\\'"
+            + " or lower(b.author) like :pattern escape '\\'"
+            + " or lower(b.summary) like :pattern escape '\\' then 1 else 0 end), 0) as matches"
+            + " from Book b where b.id >= :fromId and b.id < :toId")
+    BookSampleCount countSample(@Param("pattern") String pattern, @Param("fromId") long fromId, @Param("toId") long toId);
+
+    // ID 목록으로 조회
+    List<BookListView> findListViewsByIdIn(Collection<Long> ids);
+
+    // ID 순 일괄 조회 (검색 인덱스 구축용, offset 없이 마지막 ID 기준으로 이어 읽음)
+    List<BookListView> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    // 존재하는 ID만 조회 (일괄 삭제 결과 확인용)
+    @Query("select b.id from Book b where b.id in :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    // 본문까지 한 번의 SELECT로 조회 (상세 조회용, 본문은 지연 로딩이므로 명시적으로 함께 읽음)
+    @EntityGraph(attributePaths = "content")
+    Optional<Book> findWithContentById(Long id);
+
+    // 전체 도서를 ID 순으로 스트리밍 조회 (내보내기용, 트랜잭션 안에서 사용 후 반드시 close, 본문도 함께 읽음)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @EntityGraph(attributePaths = "content")
+    @Query("select b from Book b order by b.id")
+    Stream<Book> streamAllByOrderByIdAsc();
+
+    // 본문 원본 UTF-8 바이트 수만 조회 (구간 조회 시 본문을 읽기 전에 범위 검사용)
+    @Query("select b.contentLength from Book b where b.id = :id")
+    Optional<Long> findContentLengthById(@Param("id") Long id);
+
+    // 본문 원본/저장 바이트 수 집계 (압축 저장 통계용)
+    @Query(value = "select count(*) as books, coalesce(sum(content_length), 0) as rawBytes,"
+            + " coalesce(sum(octet_length(content_data)), 0) as storedBytes from book", nativeQuery = true)
+    BookStorageView summarizeContentStorage();
+
+    // 아래 메서드들은 엔티티를 읽지 않고 UPDATE/DELETE 한 번으로 처리하며 변경된 행 수를 반환 (0이면 없는 도서)
+    // 벌크 연산은 @UpdateTimestamp 가 적용되지 않으므로 수정 시각을 직접 넘김
+
+    // 벌크 연산은 버전도 자동으로 올라가지 않으므로 직접 1 증가시키고, version 이 null 이 아니면 해당 버전일 때만 처리
+
+    // 표지 이미지 URL만 변경하고 변경 후 버전을 반환 (일치하는 행이 없으면 빈 값)
+    // 버전을 다시 조회하지 않도록 H2 데이터 변경 델타 테이블(FINAL TABLE)로 UPDATE 결과 행을 바로 읽음
+    @Query(value = "select version from final table (update book set cover_image_url = :url, updated_at = :updatedAt,"
+            + " version = version + 1 where book_id = :id and (cast(:version as bigint) is null or version = :version))",
+            nativeQuery = true)
+    Optional<Long> updateCoverImageUrl(@Param("id") Long id, @Param("url") String url,
+                                       @Param("updatedAt") LocalDateTime updatedAt, @Param("version") Long version);
+
+    // 요약만 변경 (요약 생성 작업이 도서를 읽은 뒤 다른 수정이 없었을 때만)
+    @Modifying
+    @Query("update Book b set b.summary = :summary, b.updatedAt = :updatedAt, b.version = b.version + 1"
+            + " where b.id = :id and b.version = :version")
+    int updateSummary(@Param("id") Long id, @Param("summary") String summary,
+                      @Param("updatedAt") LocalDateTime updatedAt, @Param("version") long version);
+
+    // 도서 전체 수정 (표지 URL 은 null 이면 유지, contentLength 는 본문의 원본 UTF-8 바이트 수)
+    @Modifying
+    @Query("update Book b set b.title = :title, b.content = :content, b.contentLength = :contentLength,"
+            + " b.author = :author, b.summary = :summary, b.coverImageUrl = coalesce(:coverImageUrl, b.coverImageUrl),"
+            + " b.updatedAt = :updatedAt, b.version = b.version + 1"
+            + " where b.id = :id and (:version is null or b.version = :version)")
+    int updateBook(@Param("id") Long id, @Param("title") String title, @Param("content") String content,
+                   @Param("contentLength") long contentLength, @Param("author") String author,
+                   @Param("summary") String summary, @Param("coverImageUrl") String coverImageUrl,
+                   @Param("updatedAt") LocalDateTime updatedAt, @Param("version") Long version);
+
+    // 수정 후 응답에 필요한 컬럼만 조회 (본문 제외)
+    Optional<BookUpdatedView> findUpdatedById(Long id);
+
+    // ID로 삭제
+    @Modifying
+    @Query("delete from Book b where b.id = :id and (:version is null or b.version = :version)")
+    int deleteBookById(@Param("id") Long id, @Param("version") Long version);
+
+    // 수정 시각과 버전만 조회 (조건부 요청 검사용)
+    Optional<BookVersionView> findVersionById(Long id);
+
+    // 커서 기반 첫 페이지 조회 (COUNT 쿼리 없이 Slice 반환)
+    Slice<BookListView> findAllByOrderByCreatedAtDescIdDesc(Pageable pageable);
+
+    // 커서 이후 페이지 조회 ((created_at, book_id) 인덱스를 따라 이어서 읽음)
+    @Query("select b.id as id, b.title as title, b.author as author, b.summary as summary,"
+            + " b.coverImageUrl as coverImageUrl, b.createdAt as createdAt from Book b"
+            + " where b.createdAt < :createdAt or (b.createdAt = :createdAt and b.id < :id)"
+            + " order by b.createdAt desc, b.id desc")
+    Slice<BookListView> findNextSlice(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
 } 
\ No newline at end of file
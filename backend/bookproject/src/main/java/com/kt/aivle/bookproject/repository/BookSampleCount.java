@@ -0,0 +1,11 @@
+package com.kt.aivle.bookproject.repository;
+
+/**
+ * 건수 추정 표본 구간의 도서 수와 검색어 일치 건수
+ */
+public interface BookSampleCount {
+
+    long getBooks();
+
+    long getMatches();
+}
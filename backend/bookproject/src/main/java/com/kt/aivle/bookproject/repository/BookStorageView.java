@@ -0,0 +1,15 @@
+package com.kt.aivle.bookproject.repository;
+
+/**
+ * 본문 저장 용량 집계 프로젝션
+ */
+public interface BookStorageView {
+
+    long getBooks();
+
+    // 원본 UTF-8 바이트 수 합계
+    long getRawBytes();
+
+    // 압축 후 실제 저장된 바이트 수 합계
+    long getStoredBytes();
+}
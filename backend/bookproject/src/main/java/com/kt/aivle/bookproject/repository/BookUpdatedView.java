@@ -0,0 +1,17 @@
+package com.kt.aivle.bookproject.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 벌크 UPDATE 이후 응답 구성용 프로젝션 (본문 제외)
+ */
+public interface BookUpdatedView {
+
+    String getCoverImageUrl();
+
+    long getVersion();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+}
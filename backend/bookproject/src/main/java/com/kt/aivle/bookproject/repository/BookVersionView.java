@@ -0,0 +1,15 @@
+package com.kt.aivle.bookproject.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 조건부 요청(ETag/If-Match/Last-Modified) 검사용 프로젝션
+ */
+public interface BookVersionView {
+
+    Long getId();
+
+    LocalDateTime getUpdatedAt();
+
+    long getVersion();
+}
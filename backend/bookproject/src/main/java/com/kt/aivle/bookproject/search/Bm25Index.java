@@ -0,0 +1,359 @@
+package com.kt.aivle.bookproject.search;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 여러 필드에 대한 BM25F 랭킹 역색인
+ * 단어 안의 문자 바이그램(한 글자 단어는 그 글자)을 색인어로 사용하므로 띄어쓰기가 없는 한글도 부분 일치로 찾는다.
+ * 필드별 빈도를 가중치(boost)와 필드 길이로 정규화해 합친 뒤 BM25 포화 함수를 적용하며,
+ * 점수 상위 offset + limit 개만 힙으로 골라 반환한다.
+ * 삭제는 표시만 하고 삭제 문서가 많아지면 재구성하므로, 그 사이 문서 빈도(df)는 삭제 문서를 포함한 근사값이다.
+ *
+ * @param <T> 검색 결과로 돌려줄 문서 데이터
+ */
+public class Bm25Index<T> {
+
+    // 한 필드의 색인어 빈도 상한 (필드 4개의 빈도를 long 하나에 16비트씩 저장)
+    private static final int MAX_TF = 0xFFFF;
+    private static final int MAX_FIELDS = 4;
+
+    // 삭제 표시된 문서가 이 수 이상이고 살아있는 문서보다 많아지면 포스팅을 재구성
+    private static final int COMPACT_THRESHOLD = 1024;
+
+    private final float[] boosts;
+    private final float k1;
+    private final float b;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final Map<Long, Integer> ordinalById = new HashMap<>();
+    // 내부 순번 -> 문서 (삭제된 문서는 null)
+    private final List<Entry<T>> entries = new ArrayList<>();
+    // 살아있는 문서의 필드별 길이 합 (평균 길이 계산용)
+    private final long[] totalLengths;
+    private int deadCount;
+
+    /**
+     * @param boosts 필드별 가중치 (필드 순서는 put 에 넘기는 순서와 같음, 최대 4개)
+     * @param k1 빈도 포화 계수
+     * @param b 길이 정규화 계수 (0이면 길이 무시)
+     */
+    public Bm25Index(float[] boosts, float k1, float b) {
+        if (boosts.length == 0 || boosts.length > MAX_FIELDS) {
+            throw new IllegalArgumentException("필드 수는 1~" + MAX_FIELDS + "개여야 합니다: " + boosts.length);
+        }
+        this.boosts = boosts.clone();
+        this.k1 = k1;
+        this.b = b;
+        this.totalLengths = new long[boosts.length];
+    }
+
+    /**
+     * 문서를 색인 (같은 ID가 있으면 교체)
+     *
+     * @param id 문서 ID
+     * @param fields 필드별 텍스트 (생성자의 boosts 와 같은 순서)
+     * @param document 검색 결과로 돌려줄 데이터
+     */
+    public void put(long id, String[] fields, T document) {
+        // 토큰화는 잠금 밖에서 수행
+        Map<String, int[]> termFrequencies = new HashMap<>();
+        int[] lengths = new int[boosts.length];
+        for (int field = 0; field < boosts.length; field++) {
+            String text = field < fields.length ? fields[field] : null;
+            List<String> terms = terms(text);
+            lengths[field] = terms.size();
+            for (String term : terms) {
+                termFrequencies.computeIfAbsent(term, t -> new int[boosts.length])[field]++;
+            }
+        }
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+            int ordinal = entries.size();
+            entries.add(new Entry<>(id, lengths, document));
+            ordinalById.put(id, ordinal);
+            for (int field = 0; field < lengths.length; field++) {
+                totalLengths[field] += lengths[field];
+            }
+            termFrequencies.forEach((term, frequencies) ->
+                    postings.computeIfAbsent(term, t -> new Postings()).add(ordinal, pack(frequencies)));
+            // 교체도 이전 문서를 삭제 표시하므로 같은 도서가 반복 수정되는 경우에도 재구성
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 문서를 색인에서 제거
+     */
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 점수 순 검색 (색인어 중 하나라도 포함한 문서가 대상)
+     *
+     * @param query 검색어
+     * @param offset 건너뛸 결과 수
+     * @param limit 반환할 최대 결과 수
+     * @return 요청 구간의 결과(점수 내림차순, 같으면 ID 내림차순)와 전체 일치 건수
+     */
+    public Result<T> search(String query, long offset, int limit) {
+        Set<String> queryTerms = new LinkedHashSet<>(terms(query));
+        lock.readLock().lock();
+        try {
+            int docCount = ordinalById.size();
+            if (queryTerms.isEmpty() || docCount == 0) {
+                return new Result<>(new ArrayList<>(), 0);
+            }
+            float[] averageLengths = new float[boosts.length];
+            for (int field = 0; field < boosts.length; field++) {
+                averageLengths[field] = Math.max(1f, (float) totalLengths[field] / docCount);
+            }
+
+            List<Scored<T>> matches = score(queryTerms, docCount, averageLengths);
+            Comparator<Scored<T>> order = Comparator.<Scored<T>>comparingDouble(Scored::getScore).reversed()
+                    .thenComparing(Comparator.<Scored<T>>comparingLong(Scored::getId).reversed());
+            return new Result<>(TopK.page(matches, order, offset, limit), matches.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 색인어별 포스팅을 따라 문서 점수를 계산하고, 점수를 받은 문서만 결과로 모음
+     * 전체 문서 수만큼의 점수 배열 대신 일치한 포스팅 수만큼만 (순번 << 32 | 점수 비트) 로 묶어 담고,
+     * 순번 순으로 정렬한 뒤 같은 순번의 점수를 합산한다. (읽기 잠금 안에서 호출)
+     */
+    private List<Scored<T>> score(Set<String> queryTerms, int docCount, float[] averageLengths) {
+        List<Postings> lists = new ArrayList<>(queryTerms.size());
+        int total = 0;
+        for (String term : queryTerms) {
+            Postings list = postings.get(term);
+            if (list != null) {
+                lists.add(list);
+                total += list.size;
+            }
+        }
+
+        long[] contributions = new long[total];
+        int count = 0;
+        for (Postings list : lists) {
+            double idf = Math.log(1 + (docCount - list.size + 0.5) / (list.size + 0.5));
+            for (int i = 0; i < list.size; i++) {
+                int ordinal = list.ordinals[i];
+                Entry<T> entry = entries.get(ordinal);
+                if (entry == null) {
+                    continue;
+                }
+                float tf = weightedFrequency(list.frequencies[i], entry.lengths, averageLengths);
+                float score = (float) (idf * tf / (k1 + tf));
+                contributions[count++] = ((long) ordinal << 32) | (Float.floatToRawIntBits(score) & 0xFFFFFFFFL);
+            }
+        }
+        Arrays.sort(contributions, 0, count);
+
+        List<Scored<T>> matches = new ArrayList<>();
+        for (int i = 0; i < count; ) {
+            int ordinal = (int) (contributions[i] >>> 32);
+            float score = 0f;
+            for (; i < count && (int) (contributions[i] >>> 32) == ordinal; i++) {
+                score += Float.intBitsToFloat((int) contributions[i]);
+            }
+            Entry<T> entry = entries.get(ordinal);
+            matches.add(new Scored<>(entry.id, entry.document, score));
+        }
+        return matches;
+    }
+
+    // 삭제 표시된 문서를 포함한 내부 순번 수 (테스트용)
+    int ordinalCount() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 색인된 문서 수
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return ordinalById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 필드별 빈도를 길이로 정규화하고 가중치를 곱해 합산 (BM25F)
+     */
+    private float weightedFrequency(long packed, int[] lengths, float[] averageLengths) {
+        float sum = 0f;
+        for (int field = 0; field < boosts.length; field++) {
+            int tf = (int) ((packed >>> (16 * field)) & MAX_TF);
+            if (tf > 0) {
+                float norm = 1 - b + b * lengths[field] / averageLengths[field];
+                sum += boosts[field] * tf / norm;
+            }
+        }
+        return sum;
+    }
+
+    private void removeInternal(long id) {
+        Integer ordinal = ordinalById.remove(id);
+        if (ordinal != null) {
+            // 포스팅은 그대로 두고 삭제 표시만 한다 (검색 시 건너뜀)
+            Entry<T> entry = entries.set(ordinal, null);
+            for (int field = 0; field < entry.lengths.length; field++) {
+                totalLengths[field] -= entry.lengths[field];
+            }
+            deadCount++;
+        }
+    }
+
+    private void compactIfNeeded() {
+        if (deadCount >= COMPACT_THRESHOLD && deadCount > ordinalById.size()) {
+            compact();
+        }
+    }
+
+    private void compact() {
+        int[] remap = new int[entries.size()];
+        List<Entry<T>> live = new ArrayList<>(ordinalById.size());
+        for (int ordinal = 0; ordinal < entries.size(); ordinal++) {
+            Entry<T> entry = entries.get(ordinal);
+            remap[ordinal] = entry == null ? -1 : live.size();
+            if (entry != null) {
+                live.add(entry);
+            }
+        }
+        entries.clear();
+        entries.addAll(live);
+        ordinalById.clear();
+        for (int ordinal = 0; ordinal < live.size(); ordinal++) {
+            ordinalById.put(live.get(ordinal).id, ordinal);
+        }
+        // 원문을 보관하지 않으므로 포스팅의 순번만 새 번호로 바꾸고 삭제 문서는 걸러냄
+        postings.values().removeIf(list -> list.remap(remap) == 0);
+        deadCount = 0;
+    }
+
+    private static long pack(int[] frequencies) {
+        long result = 0;
+        for (int field = 0; field < frequencies.length; field++) {
+            result |= (long) Math.min(frequencies[field], MAX_TF) << (16 * field);
+        }
+        return result;
+    }
+
+    /**
+     * 공백/구두점으로 단어를 나누고, 두 글자 이상 단어는 바이그램으로, 한 글자 단어는 그대로 색인어로 만듦
+     */
+    static List<String> terms(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return terms;
+        }
+        String normalized = text.toLowerCase(Locale.ROOT);
+        int length = normalized.length();
+        int start = -1;
+        for (int i = 0; i <= length; i++) {
+            boolean wordChar = i < length && Character.isLetterOrDigit(normalized.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                if (i - start == 1) {
+                    terms.add(normalized.substring(start, i));
+                } else {
+                    for (int j = start; j + 2 <= i; j++) {
+                        terms.add(normalized.substring(j, j + 2));
+                    }
+                }
+                start = -1;
+            }
+        }
+        return terms;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Result<T> {
+        private final List<Scored<T>> items;
+        private final int total;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Scored<T> {
+        private final long id;
+        private final T document;
+        private final float score;
+    }
+
+    @RequiredArgsConstructor
+    private static class Entry<T> {
+        private final long id;
+        private final int[] lengths;
+        private final T document;
+    }
+
+    // 색인어 하나의 포스팅 (문서 순번 오름차순, 필드별 빈도를 16비트씩 묶어 저장)
+    private static class Postings {
+        private int[] ordinals = new int[2];
+        private long[] frequencies = new long[2];
+        private int size;
+
+        void add(int ordinal, long packedFrequency) {
+            if (size == ordinals.length) {
+                ordinals = Arrays.copyOf(ordinals, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+            ordinals[size] = ordinal;
+            frequencies[size] = packedFrequency;
+            size++;
+        }
+
+        /**
+         * @return 재배치 후 남은 항목 수
+         */
+        int remap(int[] remap) {
+            int count = 0;
+            for (int i = 0; i < size; i++) {
+                int ordinal = remap[ordinals[i]];
+                if (ordinal >= 0) {
+                    ordinals[count] = ordinal;
+                    frequencies[count] = frequencies[i];
+                    count++;
+                }
+            }
+            size = count;
+            return count;
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package com.kt.aivle.bookproject.search;
+
+import com.kt.aivle.bookproject.cover.CoverAssetStore;
+import com.kt.aivle.bookproject.dto.BookDto;
+import com.kt.aivle.bookproject.event.BookChangedEvent;
+import com.kt.aivle.bookproject.jdbc.ReplicationRouting;
+import com.kt.aivle.bookproject.repository.BookContentReader;
+import com.kt.aivle.bookproject.repository.BookListView;
+import com.kt.aivle.bookproject.repository.BookRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 제목/작가/요약/본문에 대한 BM25 랭킹 검색 인덱스
+ * 애플리케이션 시작 시 백그라운드에서 구축되며, 이후 커밋된 도서 변경만 반영한다.
+ * 본문은 메모리 사용량을 제한하기 위해 앞부분 max-content-chars 글자만 색인하며,
+ * 엔티티 대신 목록 프로젝션과 본문 앞부분만 읽어 본문 전체의 압축을 풀지 않는다.
+ */
+@Slf4j
+@Component
+public class BookRankedIndex {
+
+    // 본문을 포함해 읽으므로 다른 인덱스보다 작은 단위로 읽음
+    private static final int LOAD_BATCH_SIZE = 200;
+
+    private final BookRepository bookRepository;
+    private final BookContentReader bookContentReader;
+    private final boolean enabled;
+    private final float[] boosts;
+    private final float k1;
+    private final float b;
+    private final int maxContentChars;
+
+    private final Set<Long> pendingIds = ConcurrentHashMap.newKeySet();
+    // 구축과 변경 반영을 직렬화해 같은 도서의 이전 데이터가 나중에 반영되지 않도록 함 (가상 스레드 고정을 피하려고 synchronized 대신 사용)
+    private final Lock updateLock = new ReentrantLock();
+    private volatile Bm25Index<BookDto.ListResponse> index;
+    private volatile boolean ready;
+
+    public BookRankedIndex(BookRepository bookRepository,
+                           BookContentReader bookContentReader,
+                           @Value("${book.search.ranked.enabled:true}") boolean enabled,
+                           @Value("${book.search.ranked.boost.title:3.0}") float titleBoost,
+                           @Value("${book.search.ranked.boost.author:2.0}") float authorBoost,
+                           @Value("${book.search.ranked.boost.summary:1.5}") float summaryBoost,
+                           @Value("${book.search.ranked.boost.content:1.0}") float contentBoost,
+                           @Value("${book.search.ranked.k1:1.2}") float k1,
+                           @Value("${book.search.ranked.b:0.75}") float b,
+                           @Value("${book.search.ranked.max-content-chars:5000}") int maxContentChars) {
+        this.bookRepository = bookRepository;
+        this.bookContentReader = bookContentReader;
+        this.enabled = enabled;
+        // 필드 순서: 제목, 작가, 요약, 본문 (fields() 와 같아야 함)
+        this.boosts = new float[]{titleBoost, authorBoost, summaryBoost, contentBoost};
+        this.k1 = k1;
+        this.b = b;
+        this.maxContentChars = maxContentChars;
+        this.index = new Bm25Index<>(boosts, k1, b);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        if (!enabled) {
+            return;
+        }
+        Thread builder = new Thread(this::rebuild, "book-ranked-index-builder");
+        builder.setDaemon(true);
+        builder.start();
+    }
+
+    /**
+     * 도서 테이블 전체를 ID 순으로 읽어 인덱스를 새로 구축
+     */
+    public void rebuild() {
+        long started = System.currentTimeMillis();
+        updateLock.lock();
+        try {
+            Bm25Index<BookDto.ListResponse> fresh = new Bm25Index<>(boosts, k1, b);
+            long lastId = 0L;
+            List<BookListView> batch;
+            do {
+                long from = lastId;
+                // 인덱스에는 복제 지연된 데이터가 들어가면 안 되므로 primary에서 읽음
+                batch = ReplicationRouting.onPrimary(() ->
+                        bookRepository.findByIdGreaterThanOrderByIdAsc(from, PageRequest.of(0, LOAD_BATCH_SIZE)));
+                Map<Long, String> contents = readContents(batch.stream().map(BookListView::getId).toList());
+                for (BookListView book : batch) {
+                    put(fresh, book, contents.get(book.getId()));
+                    lastId = book.getId();
+                }
+            } while (batch.size() == LOAD_BATCH_SIZE);
+
+            index = fresh;
+            ready = true;
+            // 구축 중에 변경된 도서 반영
+            refreshPending();
+            log.info("Book ranked index built: {} books in {} ms", fresh.size(), System.currentTimeMillis() - started);
+        } catch (RuntimeException ex) {
+            log.error("Failed to build book ranked index", ex);
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    /**
+     * 커밋된 변경 사항을 인덱스에 반영
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookChanged(BookChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        pendingIds.addAll(event.getBookIds());
+        if (ready) {
+            updateLock.lock();
+            try {
+                refreshPending();
+            } finally {
+                updateLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 관련도 순 검색
+     *
+     * @param query 검색어
+     * @param pageable 페이지네이션 정보 (정렬 조건은 무시하고 항상 점수 내림차순)
+     * @return 인덱스가 준비되지 않았으면 빈 Optional
+     */
+    public Optional<Page<BookDto.RankedResponse>> search(String query, Pageable pageable) {
+        if (!enabled || !ready) {
+            return Optional.empty();
+        }
+        Bm25Index.Result<BookDto.ListResponse> result =
+                index.search(query, pageable.getOffset(), pageable.getPageSize());
+        List<BookDto.RankedResponse> items = result.getItems().stream()
+                .map(scored -> BookDto.RankedResponse.of(scored.getDocument(), scored.getScore()))
+                .toList();
+        return Optional.of(new PageImpl<>(items, pageable, result.getTotal()));
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    private void refreshPending() {
+        List<Long> ids = new ArrayList<>(pendingIds);
+        if (ids.isEmpty()) {
+            return;
+        }
+        pendingIds.removeAll(ids);
+
+        Bm25Index<BookDto.ListResponse> current = index;
+        for (int from = 0; from < ids.size(); from += LOAD_BATCH_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + LOAD_BATCH_SIZE, ids.size()));
+            Map<Long, BookListView> found = ReplicationRouting.onPrimary(() -> bookRepository.findListViewsByIdIn(chunk))
+                    .stream()
+                    .collect(Collectors.toMap(BookListView::getId, Function.identity()));
+            Map<Long, String> contents = readContents(found.keySet());
+            for (Long id : chunk) {
+                BookListView book = found.get(id);
+                if (book == null) {
+                    current.remove(id);
+                } else {
+                    put(current, book, contents.get(id));
+                }
+            }
+        }
+    }
+
+    private Map<Long, String> readContents(Collection<Long> ids) {
+        return ReplicationRouting.onPrimary(() -> bookContentReader.readPrefixes(ids, maxContentChars));
+    }
+
+    private void put(Bm25Index<BookDto.ListResponse> target, BookListView book, String content) {
+        String[] fields = {book.getTitle(), book.getAuthor(), book.getSummary(), content};
+        target.put(book.getId(), fields,
+                BookDto.ListResponse.fromView(book, CoverAssetStore.thumbnailUrlOf(book.getCoverImageUrl())));
+    }
+}
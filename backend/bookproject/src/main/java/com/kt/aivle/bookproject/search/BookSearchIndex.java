@@ -0,0 +1,218 @@
+package com.kt.aivle.bookproject.search;
+
+import com.kt.aivle.bookproject.cover.CoverAssetStore;
+import com.kt.aivle.bookproject.dto.BookDto;
+import com.kt.aivle.bookproject.event.BookChangedEvent;
+import com.kt.aivle.bookproject.jdbc.ReplicationRouting;
+import com.kt.aivle.bookproject.repository.BookListView;
+import com.kt.aivle.bookproject.repository.BookRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 도서 제목/작가/요약에 대한 메모리 검색 인덱스
+ * 애플리케이션 시작 시 백그라운드에서 구축되며, 구축이 끝나기 전이나
+ * 지원하지 않는 정렬 조건에서는 빈 값을 반환해 DB 검색으로 대체되도록 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookSearchIndex {
+
+    private static final int LOAD_BATCH_SIZE = 1000;
+
+    // 필드 경계를 넘는 검색어가 일치하지 않도록 필드 사이에 넣는 구분자
+    private static final String FIELD_SEPARATOR = "\u0000";
+
+    // 정렬 가능한 속성별 오름차순 비교 (null 은 앞으로)
+    private static final Map<String, Comparator<BookDto.ListResponse>> SORTABLE_PROPERTIES = Map.of(
+            "id", ascending(BookDto.ListResponse::getId),
+            "createdAt", ascending(BookDto.ListResponse::getCreatedAt),
+            "title", ascending(BookDto.ListResponse::getTitle),
+            "author", ascending(BookDto.ListResponse::getAuthor));
+
+    private final BookRepository bookRepository;
+
+    @Value("${book.search.index.enabled:true}")
+    private boolean enabled;
+
+    private final Set<Long> pendingIds = ConcurrentHashMap.newKeySet();
+    // 구축과 변경 반영을 직렬화해 같은 도서의 이전 데이터가 나중에 반영되지 않도록 함 (가상 스레드 고정을 피하려고 synchronized 대신 사용)
+    private final Lock updateLock = new ReentrantLock();
+    private volatile NGramIndex<BookDto.ListResponse> index = new NGramIndex<>();
+    private volatile boolean ready;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        if (!enabled) {
+            return;
+        }
+        Thread builder = new Thread(this::rebuild, "book-search-index-builder");
+        builder.setDaemon(true);
+        builder.start();
+    }
+
+    /**
+     * 도서 테이블 전체를 ID 순으로 읽어 인덱스를 새로 구축
+     */
+    public void rebuild() {
+        long started = System.currentTimeMillis();
+        updateLock.lock();
+        try {
+            NGramIndex<BookDto.ListResponse> fresh = new NGramIndex<>();
+            long lastId = 0L;
+            List<BookListView> batch;
+            do {
+                long from = lastId;
+                // 인덱스에는 복제 지연된 데이터가 들어가면 안 되므로 primary에서 읽음
+                batch = ReplicationRouting.onPrimary(() ->
+                        bookRepository.findByIdGreaterThanOrderByIdAsc(from, PageRequest.of(0, LOAD_BATCH_SIZE)));
+                for (BookListView book : batch) {
+                    put(fresh, book);
+                    lastId = book.getId();
+                }
+            } while (batch.size() == LOAD_BATCH_SIZE);
+
+            index = fresh;
+            ready = true;
+            // 구축 중에 변경된 도서 반영
+            refreshPending();
+            log.info("Book search index built: {} books in {} ms", fresh.size(), System.currentTimeMillis() - started);
+        } catch (RuntimeException ex) {
+            log.error("Failed to build book search index, falling back to database search", ex);
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    /**
+     * 커밋된 변경 사항을 인덱스에 반영
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookChanged(BookChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        pendingIds.addAll(event.getBookIds());
+        if (ready) {
+            updateLock.lock();
+            try {
+                refreshPending();
+            } finally {
+                updateLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 인덱스로 검색어를 검색
+     *
+     * @param keyword 제목, 작가 또는 요약에 포함된 검색어
+     * @param pageable 페이지네이션 정보
+     * @return 인덱스로 처리할 수 없으면 빈 Optional
+     */
+    public Optional<Page<BookDto.ListResponse>> search(String keyword, Pageable pageable) {
+        if (!enabled || !ready || pageable.isUnpaged()) {
+            return Optional.empty();
+        }
+        Comparator<BookDto.ListResponse> order = comparator(pageable.getSort());
+        if (order == null) {
+            return Optional.empty();
+        }
+
+        NGramIndex.Result<BookDto.ListResponse> result =
+                index.search(keyword, order, pageable.getOffset(), pageable.getPageSize());
+        return Optional.of(new PageImpl<>(result.getItems(), pageable, result.getTotal()));
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * @return 인덱스에 들어 있는 도서 수 (구축이 끝난 뒤에는 전체 도서 수와 같음)
+     */
+    public int size() {
+        return index.size();
+    }
+
+    private void refreshPending() {
+        List<Long> ids = new ArrayList<>(pendingIds);
+        if (ids.isEmpty()) {
+            return;
+        }
+        pendingIds.removeAll(ids);
+
+        NGramIndex<BookDto.ListResponse> current = index;
+        // 일괄 변경 시 IN 절이 너무 길어지지 않도록 나누어 조회
+        for (int from = 0; from < ids.size(); from += LOAD_BATCH_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + LOAD_BATCH_SIZE, ids.size()));
+            Map<Long, BookListView> found = ReplicationRouting.onPrimary(() -> bookRepository.findListViewsByIdIn(chunk))
+                    .stream()
+                    .collect(Collectors.toMap(BookListView::getId, Function.identity()));
+            for (Long id : chunk) {
+                BookListView book = found.get(id);
+                if (book == null) {
+                    current.remove(id);
+                } else {
+                    put(current, book);
+                }
+            }
+        }
+    }
+
+    private static void put(NGramIndex<BookDto.ListResponse> target, BookListView book) {
+        String text = String.join(FIELD_SEPARATOR,
+                nullToEmpty(book.getTitle()), nullToEmpty(book.getAuthor()), nullToEmpty(book.getSummary()));
+        target.put(book.getId(), text,
+                BookDto.ListResponse.fromView(book, CoverAssetStore.thumbnailUrlOf(book.getCoverImageUrl())));
+    }
+
+    private static Comparator<BookDto.ListResponse> comparator(Sort sort) {
+        Comparator<BookDto.ListResponse> result = null;
+        for (Sort.Order order : sort) {
+            Comparator<BookDto.ListResponse> next = SORTABLE_PROPERTIES.get(order.getProperty());
+            if (next == null || order.isIgnoreCase()) {
+                return null;
+            }
+            if (order.isDescending()) {
+                next = next.reversed();
+            }
+            result = result == null ? next : result.thenComparing(next);
+        }
+        // 동일 정렬 값 사이의 순서를 고정
+        Comparator<BookDto.ListResponse> byIdDesc = Comparator.comparing(BookDto.ListResponse::getId).reversed();
+        return result == null ? byIdDesc : result.thenComparing(byIdDesc);
+    }
+
+    private static <U extends Comparable<? super U>> Comparator<BookDto.ListResponse> ascending(
+            Function<BookDto.ListResponse, U> key) {
+        return Comparator.comparing(key, Comparator.nullsFirst(Comparator.naturalOrder()));
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+}
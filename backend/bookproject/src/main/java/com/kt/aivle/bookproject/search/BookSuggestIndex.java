@@ -0,0 +1,195 @@
+package com.kt.aivle.bookproject.search;
+
+import com.kt.aivle.bookproject.dto.BookDto;
+import com.kt.aivle.bookproject.event.BookChangedEvent;
+import com.kt.aivle.bookproject.jdbc.ReplicationRouting;
+import com.kt.aivle.bookproject.repository.BookListView;
+import com.kt.aivle.bookproject.repository.BookRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 제목/작가 자동 완성 인덱스
+ * 애플리케이션 시작 시 백그라운드에서 구축되며, 이후 커밋된 도서 변경만 반영한다.
+ * 구축이 끝나기 전에는 빈 목록을 반환한다 (자동 완성은 DB로 대체하지 않음).
+ */
+@Slf4j
+@Component
+public class BookSuggestIndex {
+
+    public static final String TYPE_TITLE = "title";
+    public static final String TYPE_AUTHOR = "author";
+
+    private static final int LOAD_BATCH_SIZE = 1000;
+
+    private final BookRepository bookRepository;
+    private final boolean enabled;
+    private final int maxResults;
+
+    private final Set<Long> pendingIds = ConcurrentHashMap.newKeySet();
+    // 도서별로 색인한 문구 (수정/삭제 시 이전 문구를 빼기 위해 보관)
+    private final Map<Long, IndexedTerms> termsById = new HashMap<>();
+    // termsById와 trie를 함께 바꾸는 작업 직렬화 (가상 스레드 고정을 피하려고 synchronized 대신 사용)
+    private final Lock updateLock = new ReentrantLock();
+    private volatile CompletionTrie trie;
+    private volatile boolean ready;
+
+    public BookSuggestIndex(BookRepository bookRepository,
+                            @Value("${book.suggest.enabled:true}") boolean enabled,
+                            @Value("${book.suggest.max-results:10}") int maxResults) {
+        this.bookRepository = bookRepository;
+        this.enabled = enabled;
+        this.maxResults = maxResults;
+        this.trie = new CompletionTrie(maxResults);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        if (!enabled) {
+            return;
+        }
+        Thread builder = new Thread(this::rebuild, "book-suggest-index-builder");
+        builder.setDaemon(true);
+        builder.start();
+    }
+
+    /**
+     * 도서 테이블 전체를 ID 순으로 읽어 인덱스를 새로 구축
+     */
+    public void rebuild() {
+        long started = System.currentTimeMillis();
+        updateLock.lock();
+        try {
+            CompletionTrie fresh = new CompletionTrie(maxResults);
+            termsById.clear();
+            long lastId = 0L;
+            List<BookListView> batch;
+            do {
+                long from = lastId;
+                // 인덱스에는 복제 지연된 데이터가 들어가면 안 되므로 primary에서 읽음
+                batch = ReplicationRouting.onPrimary(() ->
+                        bookRepository.findByIdGreaterThanOrderByIdAsc(from, PageRequest.of(0, LOAD_BATCH_SIZE)));
+                for (BookListView book : batch) {
+                    add(fresh, book);
+                    lastId = book.getId();
+                }
+            } while (batch.size() == LOAD_BATCH_SIZE);
+
+            trie = fresh;
+            ready = true;
+            // 구축 중에 변경된 도서 반영
+            refreshPending();
+            log.info("Book suggest index built: {} completions in {} ms", fresh.size(), System.currentTimeMillis() - started);
+        } catch (RuntimeException ex) {
+            log.error("Failed to build book suggest index", ex);
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    /**
+     * 커밋된 변경 사항을 인덱스에 반영
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookChanged(BookChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        pendingIds.addAll(event.getBookIds());
+        if (ready) {
+            updateLock.lock();
+            try {
+                refreshPending();
+            } finally {
+                updateLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 입력 중인 검색어로 시작하는 제목/작가를 해당 도서 수가 많은 순으로 조회
+     *
+     * @param prefix 입력 중인 검색어
+     * @param limit 최대 개수 (book.suggest.max-results를 넘을 수 없음)
+     */
+    public List<BookDto.Suggestion> suggest(String prefix, int limit) {
+        if (!enabled || !ready) {
+            return Collections.emptyList();
+        }
+        return trie.suggest(prefix, limit).stream()
+                .map(c -> new BookDto.Suggestion(c.getText(), c.getType(), c.getCount()))
+                .toList();
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    private void refreshPending() {
+        List<Long> ids = new ArrayList<>(pendingIds);
+        if (ids.isEmpty()) {
+            return;
+        }
+        pendingIds.removeAll(ids);
+
+        CompletionTrie current = trie;
+        // 일괄 변경 시 IN 절이 너무 길어지지 않도록 나누어 조회
+        for (int from = 0; from < ids.size(); from += LOAD_BATCH_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + LOAD_BATCH_SIZE, ids.size()));
+            Map<Long, BookListView> found = ReplicationRouting.onPrimary(() -> bookRepository.findListViewsByIdIn(chunk))
+                    .stream()
+                    .collect(Collectors.toMap(BookListView::getId, Function.identity()));
+            for (Long id : chunk) {
+                remove(current, id);
+                BookListView book = found.get(id);
+                if (book != null) {
+                    add(current, book);
+                }
+            }
+        }
+    }
+
+    private void add(CompletionTrie target, BookListView book) {
+        IndexedTerms terms = new IndexedTerms(book.getTitle(), book.getAuthor());
+        termsById.put(book.getId(), terms);
+        target.add(terms.title, TYPE_TITLE);
+        if (terms.author != null) {
+            target.add(terms.author, TYPE_AUTHOR);
+        }
+    }
+
+    private void remove(CompletionTrie target, Long id) {
+        IndexedTerms terms = termsById.remove(id);
+        if (terms == null) {
+            return;
+        }
+        target.remove(terms.title, TYPE_TITLE);
+        if (terms.author != null) {
+            target.remove(terms.author, TYPE_AUTHOR);
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static final class IndexedTerms {
+        private final String title;
+        private final String author;
+    }
+}
@@ -0,0 +1,272 @@
+package com.kt.aivle.bookproject.search;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 자동 완성용 압축 트라이(radix trie)
+ * 각 노드가 자기 하위 트리의 상위 k개 완성어를 미리 들고 있어, 조회는 접두어 길이만큼
+ * 내려간 뒤 목록을 복사하는 비용만 든다. 추가/삭제 시에는 변경된 경로의 노드만 다시 계산한다.
+ * 같은 문구라도 종류(제목/작가)가 다르면 별도 완성어로 취급하며, 가중치는 해당 문구를 가진 도서 수이다.
+ */
+public class CompletionTrie {
+
+    // 가중치가 높은 순, 같으면 문구 순
+    private static final Comparator<Completion> ORDER = Comparator
+            .comparingLong(Completion::getCount).reversed()
+            .thenComparing(Completion::getText)
+            .thenComparing(Completion::getType);
+
+    private final int k;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Node root = new Node("");
+    private int size;
+
+    /**
+     * @param k 노드마다 유지할 완성어 수 (조회 가능한 최대 개수)
+     */
+    public CompletionTrie(int k) {
+        this.k = k;
+    }
+
+    /**
+     * 문구의 가중치를 1 증가 (처음이면 추가)
+     */
+    public void add(String text, String type) {
+        String key = normalize(text);
+        if (key.isEmpty()) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            List<Node> path = new ArrayList<>();
+            Node node = insertPath(key, path);
+            Completion current = node.terminals.get(type);
+            if (current == null) {
+                size++;
+            }
+            long count = current == null ? 1 : current.getCount() + 1;
+            String display = current == null ? text.trim() : current.getText();
+            node.terminals.put(type, new Completion(display, type, count));
+            recompute(path);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 문구의 가중치를 1 감소 (0이 되면 삭제)
+     */
+    public void remove(String text, String type) {
+        String key = normalize(text);
+        if (key.isEmpty()) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            List<Node> path = new ArrayList<>();
+            Node node = findPath(key, path);
+            if (node == null || node.key.length() != key.length()) {
+                return;
+            }
+            Completion current = node.terminals.get(type);
+            if (current == null) {
+                return;
+            }
+            if (current.getCount() > 1) {
+                node.terminals.put(type, new Completion(current.getText(), type, current.getCount() - 1));
+            } else {
+                node.terminals.remove(type);
+                size--;
+                prune(path);
+            }
+            recompute(path);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 접두어로 시작하는 완성어를 가중치 순으로 조회
+     *
+     * @param prefix 입력 중인 검색어
+     * @param limit 최대 개수 (k를 넘으면 k개)
+     */
+    public List<Completion> suggest(String prefix, int limit) {
+        String key = normalize(prefix);
+        if (key.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+        lock.readLock().lock();
+        try {
+            Node node = findPath(key, null);
+            if (node == null) {
+                return Collections.emptyList();
+            }
+            List<Completion> top = node.top;
+            return new ArrayList<>(top.subList(0, Math.min(limit, top.size())));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return 서로 다른 완성어 수
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * key 위치의 노드를 만들며 내려감 (필요하면 간선을 분할)
+     */
+    private Node insertPath(String key, List<Node> path) {
+        Node node = root;
+        path.add(node);
+        int depth = 0;
+        while (depth < key.length()) {
+            char first = key.charAt(depth);
+            Node child = node.children.get(first);
+            if (child == null) {
+                Node leaf = new Node(key);
+                node.children.put(first, leaf);
+                path.add(leaf);
+                return leaf;
+            }
+            String label = child.label(depth);
+            int common = commonPrefix(label, key, depth);
+            if (common < label.length()) {
+                // 간선 중간에서 갈라지므로 공통 부분까지를 새 노드로 분리
+                Node split = new Node(key.substring(0, depth + common));
+                split.children.put(label.charAt(common), child);
+                node.children.put(first, split);
+                recomputeNode(split);
+                child = split;
+            }
+            node = child;
+            path.add(node);
+            depth += common;
+        }
+        return node;
+    }
+
+    /**
+     * 접두어가 끝나는 노드를 찾음 (간선 중간에서 끝나면 그 간선 아래 노드)
+     *
+     * @param path null이 아니면 지나온 노드를 기록
+     * @return 접두어로 시작하는 키가 없으면 null
+     */
+    private Node findPath(String prefix, List<Node> path) {
+        Node node = root;
+        if (path != null) {
+            path.add(node);
+        }
+        int depth = 0;
+        while (depth < prefix.length()) {
+            Node child = node.children.get(prefix.charAt(depth));
+            if (child == null) {
+                return null;
+            }
+            String label = child.label(depth);
+            int common = commonPrefix(label, prefix, depth);
+            if (common < label.length() && depth + common < prefix.length()) {
+                return null;
+            }
+            node = child;
+            if (path != null) {
+                path.add(node);
+            }
+            depth += common;
+        }
+        return node;
+    }
+
+    /**
+     * 완성어가 없어진 노드를 제거하고, 자식이 하나뿐인 중간 노드는 자식과 합침
+     */
+    private void prune(List<Node> path) {
+        for (int i = path.size() - 1; i > 0; i--) {
+            Node node = path.get(i);
+            Node parent = path.get(i - 1);
+            char first = node.key.charAt(parent.key.length());
+            if (node.terminals.isEmpty() && node.children.isEmpty()) {
+                parent.children.remove(first);
+                path.remove(i);
+            } else if (node.terminals.isEmpty() && node.children.size() == 1) {
+                parent.children.put(first, node.children.values().iterator().next());
+                path.remove(i);
+            } else {
+                break;
+            }
+        }
+    }
+
+    private void recompute(List<Node> path) {
+        for (int i = path.size() - 1; i >= 0; i--) {
+            recomputeNode(path.get(i));
+        }
+    }
+
+    private void recomputeNode(Node node) {
+        List<Completion> candidates = new ArrayList<>(node.terminals.values());
+        for (Node child : node.children.values()) {
+            candidates.addAll(child.top);
+        }
+        node.top = Collections.unmodifiableList(TopK.select(candidates, ORDER, k));
+    }
+
+    private static int commonPrefix(String label, String key, int offset) {
+        int max = Math.min(label.length(), key.length() - offset);
+        int i = 0;
+        while (i < max && label.charAt(i) == key.charAt(offset + i)) {
+            i++;
+        }
+        return i;
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Node {
+        // 루트부터 이 노드까지의 전체 키 (간선 라벨은 부모 키 이후 부분)
+        private final String key;
+        private final Map<Character, Node> children = new HashMap<>(4);
+        private final Map<String, Completion> terminals = new HashMap<>(2);
+        private List<Completion> top = Collections.emptyList();
+
+        private Node(String key) {
+            this.key = key;
+        }
+
+        private String label(int parentDepth) {
+            return key.substring(parentDepth);
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Completion {
+        private final String text;
+        private final String type;
+        private final long count;
+    }
+}
@@ -0,0 +1,258 @@
+package com.kt.aivle.bookproject.search;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 문자 바이그램(2-gram) 기반 메모리 역색인
+ * 띄어쓰기가 없는 한글도 부분 문자열로 찾을 수 있도록 단어가 아닌 문자 단위로 색인한다.
+ * 후보는 질의 바이그램 포스팅의 교집합으로 구하고, 원문 포함 여부로 최종 확인하므로
+ * 결과는 LIKE '%검색어%' 와 동일하다.
+ *
+ * @param <T> 검색 결과로 돌려줄 문서 데이터
+ */
+public class NGramIndex<T> {
+
+    private static final int GRAM = 2;
+
+    // 삭제 표시된 문서가 이 수 이상이고 살아있는 문서보다 많아지면 포스팅을 재구성
+    private static final int COMPACT_THRESHOLD = 1024;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, IntList> postings = new HashMap<>();
+    private final Map<Long, Integer> ordinalById = new HashMap<>();
+    // 내부 순번 -> 문서 (삭제된 문서는 null)
+    private final List<Entry<T>> entries = new ArrayList<>();
+    private int deadCount;
+
+    /**
+     * 문서를 색인 (같은 ID가 있으면 교체)
+     *
+     * @param id 문서 ID
+     * @param text 검색 대상 텍스트
+     * @param document 검색 결과로 돌려줄 데이터
+     */
+    public void put(long id, String text, T document) {
+        String normalized = normalize(text);
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+            int ordinal = entries.size();
+            entries.add(new Entry<>(id, normalized, document));
+            ordinalById.put(id, ordinal);
+            for (String gram : grams(normalized)) {
+                postings.computeIfAbsent(gram, k -> new IntList()).add(ordinal);
+            }
+            // 교체도 이전 문서를 삭제 표시하므로 같은 도서가 반복 수정되는 경우에도 재구성
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 문서를 색인에서 제거
+     */
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 부분 문자열 검색 (대소문자 무시)
+     *
+     * @param query 검색어
+     * @param order 결과 정렬 기준
+     * @param offset 건너뛸 결과 수
+     * @param limit 반환할 최대 결과 수
+     * @return 요청 구간의 결과와 전체 일치 건수
+     */
+    public Result<T> search(String query, Comparator<? super T> order, long offset, int limit) {
+        String needle = normalize(query);
+        lock.readLock().lock();
+        try {
+            List<T> matches = new ArrayList<>();
+            if (needle.length() < GRAM) {
+                // 한 글자 검색어는 바이그램이 없으므로 메모리 상의 원문을 직접 확인
+                for (Entry<T> entry : entries) {
+                    if (entry != null && entry.text.contains(needle)) {
+                        matches.add(entry.document);
+                    }
+                }
+            } else {
+                for (int ordinal : candidates(needle)) {
+                    Entry<T> entry = entries.get(ordinal);
+                    if (entry != null && entry.text.contains(needle)) {
+                        matches.add(entry.document);
+                    }
+                }
+            }
+            return new Result<>(TopK.page(matches, order, offset, limit), matches.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 삭제 표시된 문서를 포함한 내부 순번 수 (테스트용)
+    int ordinalCount() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 색인된 문서 수
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return ordinalById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int[] candidates(String needle) {
+        List<IntList> lists = new ArrayList<>();
+        for (String gram : grams(needle)) {
+            IntList list = postings.get(gram);
+            if (list == null) {
+                return new int[0];
+            }
+            lists.add(list);
+        }
+        // 가장 짧은 포스팅부터 교집합을 구해 중간 결과를 최소화
+        lists.sort(Comparator.comparingInt(IntList::size));
+        int[] result = lists.get(0).toArray();
+        for (int i = 1; i < lists.size() && result.length > 0; i++) {
+            result = intersect(result, lists.get(i));
+        }
+        return result;
+    }
+
+    private static int[] intersect(int[] small, IntList large) {
+        int[] out = new int[small.length];
+        int count = 0;
+        int from = 0;
+        for (int value : small) {
+            int pos = large.binarySearch(from, value);
+            if (pos >= 0) {
+                out[count++] = value;
+                from = pos + 1;
+            } else {
+                from = -pos - 1;
+            }
+            if (from >= large.size()) {
+                break;
+            }
+        }
+        return Arrays.copyOf(out, count);
+    }
+
+    private void removeInternal(long id) {
+        Integer ordinal = ordinalById.remove(id);
+        if (ordinal != null) {
+            // 포스팅은 그대로 두고 삭제 표시만 한다 (검색 시 건너뜀)
+            entries.set(ordinal, null);
+            deadCount++;
+        }
+    }
+
+    private void compactIfNeeded() {
+        if (deadCount >= COMPACT_THRESHOLD && deadCount > ordinalById.size()) {
+            compact();
+        }
+    }
+
+    private void compact() {
+        List<Entry<T>> live = new ArrayList<>(ordinalById.size());
+        for (Entry<T> entry : entries) {
+            if (entry != null) {
+                live.add(entry);
+            }
+        }
+        entries.clear();
+        postings.clear();
+        ordinalById.clear();
+        deadCount = 0;
+        for (Entry<T> entry : live) {
+            int ordinal = entries.size();
+            entries.add(entry);
+            ordinalById.put(entry.id, ordinal);
+            for (String gram : grams(entry.text)) {
+                postings.computeIfAbsent(gram, k -> new IntList()).add(ordinal);
+            }
+        }
+    }
+
+    private static Set<String> grams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM <= text.length(); i++) {
+            grams.add(text.substring(i, i + GRAM));
+        }
+        return grams;
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT);
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Result<T> {
+        private final List<T> items;
+        private final int total;
+    }
+
+    @RequiredArgsConstructor
+    private static class Entry<T> {
+        private final long id;
+        private final String text;
+        private final T document;
+    }
+
+    // 오름차순으로만 추가되는 int 목록 (박싱 없이 포스팅 저장)
+    private static class IntList {
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int size() {
+            return size;
+        }
+
+        int binarySearch(int from, int key) {
+            return Arrays.binarySearch(values, from, size, key);
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.kt.aivle.bookproject.search;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * 정렬 기준 상위 k개만 골라내는 유틸리티
+ * 전체 정렬 대신 크기 k의 힙을 사용하므로 비용이 O(n log k)로 제한된다.
+ */
+final class TopK {
+
+    private TopK() {
+    }
+
+    /**
+     * @return order 기준으로 정렬된 상위 k개 항목
+     */
+    static <T> List<T> select(Collection<T> items, Comparator<? super T> order, int k) {
+        if (k <= 0 || items.isEmpty()) {
+            return new ArrayList<>();
+        }
+        if (items.size() <= k) {
+            List<T> all = new ArrayList<>(items);
+            all.sort(order);
+            return all;
+        }
+
+        // 힙의 루트가 현재 k개 중 가장 "나쁜" 항목이 되도록 역순 비교
+        PriorityQueue<T> heap = new PriorityQueue<>(k + 1, order.reversed());
+        for (T item : items) {
+            if (heap.size() < k) {
+                heap.add(item);
+            } else if (order.compare(item, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(item);
+            }
+        }
+
+        List<T> top = new ArrayList<>(heap);
+        top.sort(order);
+        return top;
+    }
+
+    /**
+     * offset부터 limit개 구간을 반환 (페이지네이션용)
+     */
+    static <T> List<T> page(Collection<T> items, Comparator<? super T> order, long offset, int limit) {
+        long end = Math.min(offset + limit, items.size());
+        if (offset >= end) {
+            return new ArrayList<>();
+        }
+        List<T> top = select(items, order, (int) end);
+        return new ArrayList<>(top.subList((int) offset, (int) end));
+    }
+}
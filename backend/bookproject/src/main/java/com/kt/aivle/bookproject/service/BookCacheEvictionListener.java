@@ -0,0 +1,31 @@
+package com.kt.aivle.bookproject.service;
+
+import com.kt.aivle.bookproject.config.CacheConfig;
+import com.kt.aivle.bookproject.event.BookChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 도서 변경이 커밋되면 상세 조회 캐시에서 해당 도서를 제거
+ * 다음 조회 시 DB에서 최신 데이터를 다시 읽어 캐시를 채운다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BookCacheEvictionListener {
+
+    private final CacheManager cacheManager;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookChanged(BookChangedEvent event) {
+        Cache cache = cacheManager.getCache(CacheConfig.BOOK_DETAIL_CACHE);
+        if (cache == null) {
+            return;
+        }
+        for (Long id : event.getBookIds()) {
+            cache.evict(id);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.kt.aivle.bookproject.service;
+
+import com.kt.aivle.bookproject.event.BookChangedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 도서 목록 전체의 버전
+ * 도서 변경이 커밋될 때마다 증가하며, 목록 응답의 ETag/Last-Modified 로 사용된다.
+ * 재시작 시 버전이 초기화되므로 ETag에 기동 시각을 함께 넣어 이전 값과 겹치지 않게 한다.
+ * Last-Modified 헤더는 초 단위이므로 수정 시각도 초 단위로 잘라 보관해, If-Modified-Since 와 같은 정밀도로 비교한다.
+ * (If-None-Match 가 있으면 If-Modified-Since 는 보지 않으므로 같은 초 안의 변경은 ETag로 구분된다)
+ */
+@Component
+public class BookCatalogVersion {
+
+    private final long startedAt = System.currentTimeMillis();
+    private final AtomicLong version = new AtomicLong();
+    private volatile long lastModified = truncateToSeconds(startedAt);
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookChanged(BookChangedEvent event) {
+        version.incrementAndGet();
+        lastModified = truncateToSeconds(System.currentTimeMillis());
+    }
+
+    public String getETag() {
+        return "\"books-" + Long.toHexString(startedAt) + "-" + version.get() + "\"";
+    }
+
+    public long getLastModified() {
+        return lastModified;
+    }
+
+    private static long truncateToSeconds(long epochMillis) {
+        return epochMillis - Math.floorMod(epochMillis, 1000L);
+    }
+}
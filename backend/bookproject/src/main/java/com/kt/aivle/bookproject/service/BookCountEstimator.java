@@ -0,0 +1,132 @@
+package com.kt.aivle.bookproject.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.kt.aivle.bookproject.repository.BookIdRange;
+import com.kt.aivle.bookproject.repository.BookRepository;
+import com.kt.aivle.bookproject.repository.BookSampleCount;
+import com.kt.aivle.bookproject.search.BookSearchIndex;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.jpa.repository.query.EscapeCharacter;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 목록/검색 결과의 전체 건수 추정기
+ * 전체 도서 수는 메모리 검색 인덱스의 도서 수를 쓰고, 인덱스를 쓸 수 없으면 표본의 ID 밀도로 추정한다.
+ * 검색어 일치 건수는 ID 범위를 같은 크기의 구간 SAMPLE_WINDOWS 개로 나누고 구간마다 임의 위치의 ID 창을 세어
+ * 얻은 일치 비율에 전체 도서 수를 곱해 추정한다 (오래된 도서와 최근 도서가 고르게 표본에 들어감).
+ * 표본은 PK 범위로만 읽으므로 비용이 테이블 크기와 무관하며, 결과는 ttl 동안 재사용한다.
+ */
+@Component
+public class BookCountEstimator {
+
+    private static final long MAX_CACHED_KEYWORDS = 10_000;
+    static final int SAMPLE_WINDOWS = 20;
+
+    private final BookRepository bookRepository;
+    private final BookSearchIndex bookSearchIndex;
+    // 표본 창 하나의 ID 폭 (창마다 최대 이만큼의 도서를 셈)
+    private final long windowWidth;
+    // 검색어별 추정값 (계산 중에 전체 도서 수를 조회하므로 전체 도서 수와 다른 캐시에 보관)
+    private final Cache<String, Long> estimates;
+    private final Cache<Boolean, Long> total;
+
+    public BookCountEstimator(BookRepository bookRepository,
+                              BookSearchIndex bookSearchIndex,
+                              @Value("${book.count.estimate.sample-size:2000}") int sampleSize,
+                              @Value("${book.count.estimate.ttl:30s}") Duration ttl) {
+        this.bookRepository = bookRepository;
+        this.bookSearchIndex = bookSearchIndex;
+        this.windowWidth = Math.max(1, sampleSize / SAMPLE_WINDOWS);
+        this.estimates = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(MAX_CACHED_KEYWORDS)
+                .build();
+        this.total = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    /**
+     * @return 전체 도서 수 (인덱스가 준비되어 있으면 인덱스의 도서 수, 아니면 ttl 동안 캐시된 표본 추정값)
+     */
+    public long estimateTotal() {
+        if (bookSearchIndex.isReady()) {
+            return bookSearchIndex.size();
+        }
+        return total.get(Boolean.TRUE, key -> sample("%").estimateBooks());
+    }
+
+    /**
+     * @param keyword 제목, 작가 또는 요약에 포함된 검색어
+     * @return 일치하는 도서 수 추정값
+     */
+    public long estimateMatches(String keyword) {
+        String normalized = keyword.trim().toLowerCase(Locale.ROOT);
+        if (normalized.isEmpty()) {
+            return estimateTotal();
+        }
+        return estimates.get(normalized, this::estimateMatchesOf);
+    }
+
+    private long estimateMatchesOf(String keyword) {
+        Sample sample = sample("%" + EscapeCharacter.DEFAULT.escape(keyword) + "%");
+        if (sample.exact()) {
+            return sample.matches();
+        }
+        if (sample.books() == 0) {
+            return 0;
+        }
+        return Math.round((double) sample.matches() / sample.books() * estimateTotal());
+    }
+
+    /**
+     * ID 범위를 SAMPLE_WINDOWS 개 구간으로 나누고 구간마다 임의 위치에서 windowWidth 폭의 ID 창을 셈
+     * (ID 범위가 표본보다 좁으면 전체를 셈)
+     */
+    private Sample sample(String pattern) {
+        BookIdRange range = bookRepository.findIdRange();
+        if (range == null || range.getMinId() == null) {
+            return new Sample(0, 0, 0, 0);
+        }
+        long minId = range.getMinId();
+        long span = range.getMaxId() - minId + 1;
+        if (span <= windowWidth * SAMPLE_WINDOWS) {
+            BookSampleCount all = bookRepository.countSample(pattern, minId, minId + span);
+            return new Sample(all.getBooks(), all.getMatches(), span, span);
+        }
+
+        long stratum = span / SAMPLE_WINDOWS;
+        long books = 0;
+        long matches = 0;
+        for (int i = 0; i < SAMPLE_WINDOWS; i++) {
+            long from = minId + i * stratum + ThreadLocalRandom.current().nextLong(stratum - windowWidth + 1);
+            BookSampleCount count = bookRepository.countSample(pattern, from, from + windowWidth);
+            books += count.getBooks();
+            matches += count.getMatches();
+        }
+        return new Sample(books, matches, windowWidth * SAMPLE_WINDOWS, span);
+    }
+
+    /**
+     * @param books 표본 창에 들어 있는 도서 수
+     * @param matches 그중 검색어가 일치하는 도서 수
+     * @param sampledIds 표본 창들의 ID 폭 합계
+     * @param span 전체 ID 범위의 폭
+     */
+    private record Sample(long books, long matches, long sampledIds, long span) {
+
+        boolean exact() {
+            return sampledIds == span;
+        }
+
+        // 표본의 ID 밀도 (ID 하나에 도서가 있을 비율) 로 전체 도서 수 추정
+        long estimateBooks() {
+            return exact() ? books : Math.round((double) books / sampledIds * span);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.kt.aivle.bookproject.service;
+
+import com.kt.aivle.bookproject.dto.BookDto;
+
+import java.io.InputStream;
+import java.util.concurrent.CompletableFuture;
+
+public interface BookCoverService {
+    //프롬프트로 표지 이미지를 생성해 도서 표지로 저장 (생성이 끝나면 완료되는 Future 반환)
+    CompletableFuture<BookDto.CoverResponse> generateCover(Long bookId, String prompt);
+    //이미지를 로컬 표지 저장소에 저장하고 도서 표지로 지정 (expectedVersion 이 있으면 현재 버전과 같을 때만)
+    BookDto.CoverResponse uploadCover(Long bookId, InputStream image, Long expectedVersion);
+    //도서의 원격 표지 이미지를 내려받아 로컬 표지로 교체 (expectedVersion 이 있으면 현재 버전과 같을 때만)
+    BookDto.CoverResponse localizeCover(Long bookId, Long expectedVersion);
+}
@@ -0,0 +1,228 @@
+package com.kt.aivle.bookproject.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.kt.aivle.bookproject.cover.CoverAssetStore;
+import com.kt.aivle.bookproject.cover.ImageGenerator;
+import com.kt.aivle.bookproject.dto.BookDto;
+import com.kt.aivle.bookproject.exception.ImageGenerationUnavailableException;
+import com.kt.aivle.bookproject.exception.InvalidRequestException;
+import com.kt.aivle.bookproject.exception.ResourceNotFoundException;
+import com.kt.aivle.bookproject.jdbc.ReplicationRouting;
+import com.kt.aivle.bookproject.repository.BookListView;
+import com.kt.aivle.bookproject.repository.BookRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 표지 이미지 생성
+ * 생성은 concurrency 개의 전용 스레드에서 진행되고 요청 스레드는 Future 로 결과만 기다린다.
+ * 같은 도서에 같은 프롬프트로 들어온 요청은 진행 중인 생성 하나를 함께 기다리며(single-flight),
+ * 생성된 이미지 URL 은 프롬프트 해시를 키로 cache-size 개까지 보관해 같은 프롬프트를 다시 생성하지 않는다.
+ * 생성 결과 URL 이 곧 만료되는 생성기라면 localize-generated 로 생성 직후 로컬 표지 저장소에 내려받아 둔다.
+ */
+@Slf4j
+@Service
+public class BookCoverServiceImpl implements BookCoverService {
+
+    // 프롬프트 최대 길이 (요청 DTO 검증과 같음)
+    private static final int MAX_PROMPT_LENGTH = 1000;
+
+    private final BookRepository bookRepository;
+    private final BookService bookService;
+    private final ImageGenerator imageGenerator;
+    private final CoverAssetStore coverAssetStore;
+    private final BookMetrics bookMetrics;
+    private final Duration timeout;
+    private final boolean localizeGenerated;
+
+    private final ThreadPoolExecutor executor;
+    // 프롬프트 해시 -> 생성된 이미지 URL
+    private final Cache<String, String> imageCache;
+    // 도서 ID:프롬프트 해시 -> 진행 중인 생성
+    private final Map<String, CompletableFuture<BookDto.CoverResponse>> inFlight = new ConcurrentHashMap<>();
+
+    public BookCoverServiceImpl(BookRepository bookRepository,
+                                BookService bookService,
+                                ImageGenerator imageGenerator,
+                                CoverAssetStore coverAssetStore,
+                                BookMetrics bookMetrics,
+                                @Value("${book.cover.generate.concurrency:2}") int concurrency,
+                                @Value("${book.cover.generate.queue-capacity:50}") int queueCapacity,
+                                @Value("${book.cover.generate.cache-size:500}") long cacheSize,
+                                @Value("${book.cover.generate.timeout:60s}") Duration timeout,
+                                @Value("${book.cover.generate.localize-generated:false}") boolean localizeGenerated) {
+        this.bookRepository = bookRepository;
+        this.bookService = bookService;
+        this.imageGenerator = imageGenerator;
+        this.coverAssetStore = coverAssetStore;
+        this.bookMetrics = bookMetrics;
+        this.timeout = timeout;
+        this.localizeGenerated = localizeGenerated;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(concurrency, concurrency, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "book-cover-generator-" + threadNumber.getAndIncrement());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.imageCache = Caffeine.newBuilder().maximumSize(cacheSize).build();
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 프롬프트로 표지 이미지를 생성해 도서 표지로 저장
+     * 도서가 없거나 생성 대기열이 가득 찼으면 Future 를 만들지 않고 바로 예외를 던진다.
+     *
+     * @param bookId 도서 ID
+     * @param prompt 이미지 프롬프트
+     * @return 저장된 표지 정보로 완료되는 Future (호출마다 별도 인스턴스)
+     */
+    @Override
+    public CompletableFuture<BookDto.CoverResponse> generateCover(Long bookId, String prompt) {
+        String normalized = prompt == null ? "" : prompt.strip().replaceAll("\\s+", " ");
+        if (normalized.isEmpty() || normalized.length() > MAX_PROMPT_LENGTH) {
+            throw new InvalidRequestException("프롬프트는 1~" + MAX_PROMPT_LENGTH + "자여야 합니다.");
+        }
+        if (!ReplicationRouting.onPrimary(() -> bookRepository.existsById(bookId))) {
+            throw new ResourceNotFoundException("ID가 " + bookId + "인 도서를 찾을 수 없습니다.");
+        }
+
+        String hash = hash(normalized);
+        String key = bookId + ":" + hash;
+        CompletableFuture<BookDto.CoverResponse> created = new CompletableFuture<>();
+        CompletableFuture<BookDto.CoverResponse> running = inFlight.putIfAbsent(key, created);
+        if (running != null) {
+            bookMetrics.recordCoverGeneration("coalesced");
+            return running.copy();
+        }
+
+        try {
+            start(bookId, normalized, hash).whenComplete((cover, ex) -> {
+                inFlight.remove(key, created);
+                if (ex != null) {
+                    created.completeExceptionally(ex instanceof CompletionException && ex.getCause() != null
+                            ? ex.getCause() : ex);
+                } else {
+                    created.complete(cover);
+                }
+            });
+        } catch (RuntimeException ex) {
+            inFlight.remove(key, created);
+            throw ex;
+        }
+        return created.copy();
+    }
+
+    /**
+     * 이미지를 로컬 표지 저장소에 저장하고 도서 표지로 지정
+     *
+     * @param bookId 도서 ID
+     * @param image 이미지 바이트 스트림 (PNG, JPEG, GIF)
+     * @param expectedVersion 클라이언트가 알고 있는 버전 (If-Match, null 이면 확인하지 않음)
+     */
+    @Override
+    public BookDto.CoverResponse uploadCover(Long bookId, InputStream image, Long expectedVersion) {
+        if (!ReplicationRouting.onPrimary(() -> bookRepository.existsById(bookId))) {
+            throw new ResourceNotFoundException("ID가 " + bookId + "인 도서를 찾을 수 없습니다.");
+        }
+        return bookService.updateCoverUrl(bookId, coverAssetStore.store(image).getUrl(), expectedVersion);
+    }
+
+    /**
+     * 도서의 원격 표지 이미지를 내려받아 로컬 표지로 교체
+     *
+     * @param bookId 도서 ID
+     * @param expectedVersion 클라이언트가 알고 있는 버전 (If-Match, null 이면 확인하지 않음)
+     */
+    @Override
+    public BookDto.CoverResponse localizeCover(Long bookId, Long expectedVersion) {
+        List<BookListView> views = ReplicationRouting.onPrimary(() -> bookRepository.findListViewsByIdIn(List.of(bookId)));
+        if (views.isEmpty()) {
+            throw new ResourceNotFoundException("ID가 " + bookId + "인 도서를 찾을 수 없습니다.");
+        }
+        String coverImageUrl = views.get(0).getCoverImageUrl();
+        if (coverImageUrl == null || coverImageUrl.isBlank()) {
+            throw new InvalidRequestException("도서에 표지 이미지가 없습니다.");
+        }
+        if (coverImageUrl.startsWith(CoverAssetStore.URL_PREFIX)) {
+            throw new InvalidRequestException("이미 로컬에 저장된 표지입니다.");
+        }
+        return bookService.updateCoverUrl(bookId, coverAssetStore.download(coverImageUrl).getUrl(), expectedVersion);
+    }
+
+    private CompletableFuture<BookDto.CoverResponse> start(Long bookId, String prompt, String hash) {
+        CompletableFuture<String> image;
+        String cached = imageCache.getIfPresent(hash);
+        if (cached != null) {
+            bookMetrics.recordCoverGeneration("cached");
+            image = CompletableFuture.completedFuture(cached);
+        } else {
+            try {
+                image = CompletableFuture.supplyAsync(() -> generate(prompt, hash), executor)
+                        .orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException ex) {
+                throw new ImageGenerationUnavailableException("표지 생성 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+            }
+        }
+        // 저장은 생성 스레드에서 수행 (캐시 적중이면 호출 스레드)
+        return image
+                .exceptionally(ex -> {
+                    Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+                    log.warn("Cover generation failed for book {}: {}", bookId, cause.toString());
+                    if (cause instanceof TimeoutException) {
+                        throw new ImageGenerationUnavailableException("표지 생성 시간이 초과되었습니다.", cause);
+                    }
+                    throw cause instanceof ImageGenerationUnavailableException unavailable
+                            ? unavailable
+                            : new ImageGenerationUnavailableException("표지 생성에 실패했습니다.", cause);
+                })
+                .thenApply(url -> bookService.updateCoverUrl(bookId, url));
+    }
+
+    private String generate(String prompt, String hash) {
+        bookMetrics.recordCoverGeneration("generated");
+        String url = imageGenerator.generate(prompt);
+        if (url == null || url.isBlank() || url.length() > 2083) {
+            throw new ImageGenerationUnavailableException("생성된 표지 URL 이 올바르지 않습니다.");
+        }
+        if (localizeGenerated) {
+            url = coverAssetStore.download(url).getUrl();
+        }
+        imageCache.put(hash, url);
+        return url;
+    }
+
+    static String hash(String prompt) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(prompt.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
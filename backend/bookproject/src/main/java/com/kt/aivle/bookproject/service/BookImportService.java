@@ -0,0 +1,12 @@
+package com.kt.aivle.bookproject.service;
+
+import com.kt.aivle.bookproject.dto.BookDto;
+
+import java.io.InputStream;
+
+public interface BookImportService {
+    //NDJSON(한 줄에 도서 하나) 스트림에서 도서 가져오기
+    BookDto.ImportResponse importNdjson(InputStream input);
+    //CSV(헤더 포함) 스트림에서 도서 가져오기
+    BookDto.ImportResponse importCsv(InputStream input);
+}
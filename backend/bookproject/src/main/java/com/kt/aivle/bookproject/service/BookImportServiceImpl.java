@@ -0,0 +1,180 @@
+package com.kt.aivle.bookproject.service;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.kt.aivle.bookproject.dto.BookDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+@Slf4j
+@Service
+public class BookImportServiceImpl implements BookImportService {
+
+    // 응답에 포함할 최대 오류 항목 수 (전체 실패 건수는 별도로 집계)
+    private static final int MAX_REPORTED_ERRORS = 100;
+
+    private final BookService bookService;
+    private final ObjectReader ndjsonReader;
+    private final ObjectReader csvReader;
+    private final int chunkSize;
+
+    public BookImportServiceImpl(BookService bookService,
+                                 ObjectMapper objectMapper,
+                                 @Value("${book.import.chunk-size:500}") int chunkSize) {
+        this.bookService = bookService;
+        this.chunkSize = chunkSize;
+        this.ndjsonReader = objectMapper.readerFor(BookDto.CreateRequest.class);
+        CsvMapper csvMapper = CsvMapper.builder()
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .build();
+        this.csvReader = csvMapper.readerFor(BookDto.CreateRequest.class)
+                .with(CsvSchema.emptySchema().withHeader());
+    }
+
+    /**
+     * NDJSON 스트림에서 도서 가져오기
+     *
+     * @param input 요청 본문 스트림
+     * @return 가져오기 결과
+     */
+    @Override
+    public BookDto.ImportResponse importNdjson(InputStream input) {
+        try {
+            return importRecords(ndjsonReader.readValues(input));
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * CSV 스트림에서 도서 가져오기 (첫 줄은 title,content,author,summary 헤더)
+     *
+     * @param input 요청 본문 스트림
+     * @return 가져오기 결과
+     */
+    @Override
+    public BookDto.ImportResponse importCsv(InputStream input) {
+        try {
+            return importRecords(csvReader.readValues(input));
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * 레코드를 하나씩 읽어 chunkSize 단위로 저장
+     * 파서는 이전 청크가 커밋된 뒤에만 다음 레코드를 읽으므로 요청 본문 전체를 메모리에 올리지 않으며,
+     * 저장 속도보다 빠르게 전송되는 본문은 소켓 수준에서 대기하게 된다.
+     * 각 청크는 별도 트랜잭션으로 커밋되므로 중간에 실패해도 이전 청크는 유지된다.
+     */
+    private BookDto.ImportResponse importRecords(MappingIterator<BookDto.CreateRequest> records) throws IOException {
+        ImportProgress progress = new ImportProgress();
+        List<BookDto.CreateRequest> chunk = new ArrayList<>(chunkSize);
+        long chunkStart = 0;
+
+        try (records) {
+            while (true) {
+                BookDto.CreateRequest record;
+                try {
+                    if (!records.hasNextValue()) {
+                        break;
+                    }
+                    record = records.nextValue();
+                } catch (JsonParseException ex) {
+                    // 문법 오류 이후는 레코드 경계를 알 수 없으므로 중단 (이미 커밋된 청크는 유지)
+                    saveChunk(chunk, chunkStart, progress);
+                    progress.abort(progress.processed, "레코드를 해석할 수 없어 가져오기를 중단했습니다: "
+                            + ex.getOriginalMessage());
+                    return progress.toResponse();
+                } catch (JsonMappingException ex) {
+                    // 값 형식 오류는 해당 레코드만 실패 처리하고 다음 레코드로 진행
+                    saveChunk(chunk, chunkStart, progress);
+                    chunk.clear();
+                    progress.fail(progress.processed, "레코드 형식이 올바르지 않습니다: " + ex.getOriginalMessage());
+                    chunkStart = progress.processed;
+                    continue;
+                }
+
+                chunk.add(record);
+                if (chunk.size() == chunkSize) {
+                    saveChunk(chunk, chunkStart, progress);
+                    chunk.clear();
+                    chunkStart = progress.processed;
+                }
+            }
+            saveChunk(chunk, chunkStart, progress);
+        }
+
+        log.info("Book import finished: processed={}, succeeded={}, failed={}",
+                progress.processed, progress.succeeded, progress.failed);
+        return progress.toResponse();
+    }
+
+    private void saveChunk(List<BookDto.CreateRequest> chunk, long chunkStart, ImportProgress progress) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        BookDto.BatchResponse result = bookService.createBooks(chunk);
+        progress.chunks++;
+        progress.processed += result.getTotal();
+        progress.succeeded += result.getSucceeded();
+        for (BookDto.BatchItemResult item : result.getResults()) {
+            if (!"success".equals(item.getStatus())) {
+                progress.failed++;
+                progress.report(chunkStart + item.getIndex(), item.getMessage(), item);
+            }
+        }
+    }
+
+    // 가져오기 진행 상황 (오류 목록은 MAX_REPORTED_ERRORS 까지만 보관)
+    private static class ImportProgress {
+        private long processed;
+        private long succeeded;
+        private long failed;
+        private int chunks;
+        private boolean aborted;
+        private final List<BookDto.BatchItemResult> errors = new ArrayList<>();
+
+        void fail(long index, String message) {
+            processed++;
+            failed++;
+            report(index, message, null);
+        }
+
+        void abort(long index, String message) {
+            aborted = true;
+            report(index, message, null);
+        }
+
+        void report(long index, String message, BookDto.BatchItemResult source) {
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(BookDto.BatchItemResult.error((int) index, null, message,
+                        source == null ? null : source.getErrors()));
+            }
+        }
+
+        BookDto.ImportResponse toResponse() {
+            return BookDto.ImportResponse.builder()
+                    .processed(processed)
+                    .succeeded(succeeded)
+                    .failed(failed)
+                    .chunks(chunks)
+                    .aborted(aborted)
+                    .errors(errors)
+                    .build();
+        }
+    }
+}
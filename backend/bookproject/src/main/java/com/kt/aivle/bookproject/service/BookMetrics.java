@@ -0,0 +1,93 @@
+package com.kt.aivle.bookproject.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+
+/**
+ * 도서 검색/조회 관련 비즈니스 메트릭
+ * - book.search.requests: 검색 요청 수 (source=index|db|ranked)
+ * - book.search.results: 검색어에 일치한 전체 도서 수 분포 (source=index|db|ranked)
+ * - book.not.found: 존재하지 않는 도서 요청 수 (uri=요청 경로 패턴)
+ * - book.summary.jobs: 끝난 요약 생성 작업 수 (status=succeeded|failed)
+ * - book.summary.attempts: 요약 생성 시도 수 (result=success|failure)
+ * - book.summary.queue.size: 워커를 기다리는 요약 생성 작업 수
+ * - book.cover.generate.requests: 표지 생성 요청 수 (source=generated|cached|coalesced)
+ */
+@Component
+public class BookMetrics {
+
+    public static final String SOURCE_INDEX = "index";
+    public static final String SOURCE_DB = "db";
+    public static final String SOURCE_RANKED = "ranked";
+
+    private final MeterRegistry registry;
+
+    public BookMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * 전체 건수를 모르는 검색 (count=none) 은 요청 수만 기록
+     */
+    public void recordSearch(String source) {
+        Counter.builder("book.search.requests")
+                .description("검색 요청 수")
+                .tag("source", source)
+                .register(registry)
+                .increment();
+    }
+
+    public void recordSearch(String source, long totalResults) {
+        recordSearch(source);
+        DistributionSummary.builder("book.search.results")
+                .description("검색어에 일치한 도서 수")
+                .baseUnit("books")
+                .tag("source", source)
+                .publishPercentileHistogram()
+                .register(registry)
+                .record(totalResults);
+    }
+
+    public void recordNotFound(String uri) {
+        Counter.builder("book.not.found")
+                .description("존재하지 않는 도서 요청 수")
+                .tag("uri", uri)
+                .register(registry)
+                .increment();
+    }
+
+    public void recordSummaryJob(String status) {
+        Counter.builder("book.summary.jobs")
+                .description("끝난 요약 생성 작업 수")
+                .tag("status", status)
+                .register(registry)
+                .increment();
+    }
+
+    public void recordSummaryAttempt(boolean success) {
+        Counter.builder("book.summary.attempts")
+                .description("요약 생성 시도 수")
+                .tag("result", success ? "success" : "failure")
+                .register(registry)
+                .increment();
+    }
+
+    public void registerSummaryQueue(Collection<?> queue) {
+        Gauge.builder("book.summary.queue.size", queue, Collection::size)
+                .description("워커를 기다리는 요약 생성 작업 수")
+                .register(registry);
+    }
+
+    public void recordCoverGeneration(String source) {
+        Counter.builder("book.cover.generate.requests")
+                .description("표지 생성 요청 수")
+                .tag("source", source)
+                .register(registry)
+                .increment();
+    }
+}
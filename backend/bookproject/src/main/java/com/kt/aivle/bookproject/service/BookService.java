@@ -2,20 +2,65 @@
 package com.kt.aivle.bookproject.service;
 
 import com.kt.aivle.bookproject.dto.BookDto;
+import com.kt.aivle.bookproject.dto.CountMode;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
 
 public interface BookService {
     //검색어 기준으로 도서목록 조회 (페이지네이션 지원)
     Page<BookDto.ListResponse> getBooks(String search, Pageable pageable);
+    //검색어 기준으로 도서목록 조회 (전체 건수 계산 방식 지정)
+    Slice<BookDto.ListResponse> getBooks(String search, Pageable pageable, CountMode countMode);
+    //커서 기준으로 도서목록 조회 (키셋 페이지네이션)
+    BookDto.CursorResponse getBooksByCursor(String cursor, int size);
+    //제목/작가/요약/본문 관련도 순 검색
+    Page<BookDto.RankedResponse> searchRanked(String query, Pageable pageable);
+    //입력 중인 검색어로 제목/작가 자동 완성
+    List<BookDto.Suggestion> suggest(String prefix, int limit);
     //새로운 도서 생성
     BookDto.DetailResponse createBook(BookDto.CreateRequest dto);
     //특정 ID 도서 상세 조회
     BookDto.DetailResponse getBook(Long id);
+    //특정 ID 도서 상세를 캐시를 거치지 않고 조회
+    BookDto.DetailResponse loadBook(Long id);
+    //특정 ID 도서 최종 수정 시각 조회 (본문 없이)
+    LocalDateTime getBookLastModified(Long id);
+    //특정 ID 도서 버전과 수정 시각 조회 (본문 없이)
+    BookDto.VersionInfo getBookVersion(Long id);
+    //특정 ID 도서 본문의 원본 UTF-8 바이트 수 조회
+    long getContentLength(Long id);
+    //특정 ID 도서 본문의 바이트 구간을 스트림에 기록 (기록한 바이트 수 반환)
+    long copyContent(Long id, long offset, long length, OutputStream out);
+    //특정 ID 도서 본문의 구간 조회 (글자 경계에 맞춤)
+    BookDto.ContentChunk getContentChunk(Long id, long offset, int length);
+    //본문 원본/압축 저장 바이트 수 통계
+    BookDto.StorageStats getStorageStats();
     //특정 ID 도서 삭제
     void deleteBook(Long id);
+    //특정 ID 도서 삭제 (expectedVersion 이 있으면 현재 버전과 같을 때만)
+    void deleteBook(Long id, Long expectedVersion);
     //특정 ID 도서 업데이트
     BookDto.DetailResponse updateBook(Long id, BookDto.UpdateRequest dto);
+    //특정 ID 도서 업데이트 (expectedVersion 이 있으면 현재 버전과 같을 때만)
+    BookDto.DetailResponse updateBook(Long id, BookDto.UpdateRequest dto, Long expectedVersion);
     //특정 ID 도서 표지 이미지 URL 업데이트
-    BookDto.DetailResponse updateCoverUrl(Long id, String newUrl);
+    BookDto.CoverResponse updateCoverUrl(Long id, String newUrl);
+    //특정 ID 도서 표지 이미지 URL 업데이트 (expectedVersion 이 있으면 현재 버전과 같을 때만)
+    BookDto.CoverResponse updateCoverUrl(Long id, String newUrl, Long expectedVersion);
+    //특정 ID 도서 요약 업데이트 (expectedVersion 과 현재 버전이 같을 때만, 새 버전 반환)
+    long updateSummary(Long id, String summary, long expectedVersion);
+    //전체 도서를 한 건씩 전달 (내보내기용, 전달한 건수 반환)
+    long exportBooks(Consumer<BookDto.DetailResponse> consumer);
+    //도서 일괄 생성 (항목별 결과 반환)
+    BookDto.BatchResponse createBooks(List<BookDto.CreateRequest> requests);
+    //도서 일괄 수정 (항목별 결과 반환)
+    BookDto.BatchResponse updateBooks(List<BookDto.BatchUpdateItem> requests);
+    //도서 일괄 삭제 (항목별 결과 반환)
+    BookDto.BatchResponse deleteBooks(List<Long> ids);
 }
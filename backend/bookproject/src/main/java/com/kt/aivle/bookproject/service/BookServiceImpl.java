@@ -1,45 +1,255 @@
 package com.kt.aivle.bookproject.service;
 
+import com.kt.aivle.bookproject.config.CacheConfig;
+import com.kt.aivle.bookproject.cover.CoverAssetStore;
 import com.kt.aivle.bookproject.domain.Book;
+import com.kt.aivle.bookproject.domain.CompressedTextConverter;
+import com.kt.aivle.bookproject.dto.BookCursor;
 import com.kt.aivle.bookproject.dto.BookDto;
+import com.kt.aivle.bookproject.dto.CountMode;
+import com.kt.aivle.bookproject.dto.EstimatedPage;
+import com.kt.aivle.bookproject.dto.ErrorDetail;
+import com.kt.aivle.bookproject.event.BookChangedEvent;
+import com.kt.aivle.bookproject.exception.InvalidRequestException;
+import com.kt.aivle.bookproject.exception.PreconditionFailedException;
 import com.kt.aivle.bookproject.exception.ResourceNotFoundException;
+import com.kt.aivle.bookproject.exception.SearchUnavailableException;
+import com.kt.aivle.bookproject.jdbc.ReplicationRouting;
+import com.kt.aivle.bookproject.repository.BookContentReader;
+import com.kt.aivle.bookproject.repository.BookListView;
 import com.kt.aivle.bookproject.repository.BookRepository;
+import com.kt.aivle.bookproject.repository.BookStorageView;
+import com.kt.aivle.bookproject.repository.BookUpdatedView;
+import com.kt.aivle.bookproject.repository.BookVersionView;
+import com.kt.aivle.bookproject.search.BookRankedIndex;
+import com.kt.aivle.bookproject.search.BookSearchIndex;
+import com.kt.aivle.bookproject.search.BookSuggestIndex;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
 @Service
+@Timed(value = "book.service", histogram = true) // 메서드별 실행 시간 (class, method 태그)
 @Transactional(readOnly = true) // 기본적으로 읽기 전용 트랜잭션으로 설정
 @RequiredArgsConstructor // 생성자 주입을 위한 Lombok 어노테이션
 public class BookServiceImpl implements BookService {
 
+    // 일괄 처리 시 영속성 컨텍스트를 비우는 단위 (hibernate.jdbc.batch_size와 동일하게 유지)
+    private static final int FLUSH_SIZE = 50;
+    // 한 번의 일괄 요청에서 처리할 수 있는 최대 항목 수
+    private static final int MAX_BATCH_ITEMS = 10_000;
+    // IN 절에 넣을 최대 ID 수
+    private static final int MAX_IN_CLAUSE_SIZE = 1000;
+    // 랭킹 검색에서 조회할 수 있는 최대 순위 (힙 크기 = offset + size 제한)
+    private static final int MAX_RANKED_WINDOW = 1000;
+    // 본문 구간 조회(JSON) 한 번에 읽을 수 있는 최대 바이트 수
+    private static final int MAX_CONTENT_CHUNK_BYTES = 1024 * 1024;
+    // UTF-8 한 글자의 최대 바이트 수 (구간 경계를 글자 단위로 맞출 때 여유분)
+    private static final int MAX_UTF8_CHAR_BYTES = 4;
+
     // BookRepository를 의존성 주입
     private final BookRepository bookRepository;
+    // 본문 LOB 스트림 조회
+    private final BookContentReader bookContentReader;
+    // 검색어 조회를 DB 스캔 대신 처리하는 메모리 인덱스
+    private final BookSearchIndex bookSearchIndex;
+    // 관련도 순 검색 인덱스
+    private final BookRankedIndex bookRankedIndex;
+    // 제목/작가 자동 완성 인덱스
+    private final BookSuggestIndex bookSuggestIndex;
+    // 목록/검색 전체 건수 추정기 (count=estimate)
+    private final BookCountEstimator bookCountEstimator;
+    // 검색 요청 수/결과 수 메트릭
+    private final BookMetrics bookMetrics;
+    // 변경 사항을 인덱스 등에 알리기 위한 이벤트 발행기
+    private final ApplicationEventPublisher eventPublisher;
+    // 일괄 처리 중 flush/clear 를 위한 EntityManager
+    private final EntityManager entityManager;
+    // 일괄 처리 항목별 유효성 검증기
+    private final Validator validator;
 
     /**
      * 검색어를 이용해 책 목록을 조회 (페이지네이션 지원)
      * 검색어가 없으면 전체 목록을 반환
+     * 검색어가 있으면 메모리 검색 인덱스를 우선 사용하고, 인덱스가 준비되지 않았으면 DB에서 검색
      *
-     * @param search 제목 또는 저자에 포함된 검색어
+     * @param search 제목, 저자 또는 요약에 포함된 검색어
      * @param pageable 페이지네이션 정보
      * @return 도서 응답 DTO 페이지
      */
     @Override
     public Page<BookDto.ListResponse> getBooks(String search, Pageable pageable) {
-        Page<Book> books;
+        Page<BookListView> books;
         
         if (search == null || search.trim().isEmpty()) {
             // 검색어가 없으면 전체 목록 조회
-            books = bookRepository.findAll(pageable);
+            books = bookRepository.findAllProjectedBy(pageable);
         } else {
-            // 검색어가 있으면 제목 또는 작가로 검색
-            books = bookRepository.findByTitleContainingIgnoreCaseOrAuthorContainingIgnoreCase(
-                    search.trim(), search.trim(), pageable);
+            // 검색 인덱스로 처리 가능하면 도서 테이블을 조회하지 않음
+            Optional<Page<BookDto.ListResponse>> indexed = bookSearchIndex.search(search.trim(), pageable);
+            if (indexed.isPresent()) {
+                bookMetrics.recordSearch(BookMetrics.SOURCE_INDEX, indexed.get().getTotalElements());
+                return indexed.get();
+            }
+            // 인덱스를 사용할 수 없으면 인덱스와 같은 필드(제목, 작가, 요약)로 검색
+            books = bookRepository.findByTitleContainingIgnoreCaseOrAuthorContainingIgnoreCaseOrSummaryContainingIgnoreCase(
+                    search.trim(), search.trim(), search.trim(), pageable, BookListView.class);
+            bookMetrics.recordSearch(BookMetrics.SOURCE_DB, books.getTotalElements());
         }
         
-        return books.map(BookDto.ListResponse::fromEntity);
+        return books.map(BookServiceImpl::toListResponse);
+    }
+
+    /**
+     * 전체 건수 계산 방식을 지정해 책 목록을 조회
+     * NONE/ESTIMATE 는 COUNT 쿼리 대신 size + 1 건을 읽어 다음 페이지 여부를 판단하며,
+     * ESTIMATE 는 마지막 페이지가 아니면 BookCountEstimator 의 추정값을 전체 건수로 사용한다.
+     * 검색 인덱스로 처리되는 검색은 전체 건수가 메모리에서 바로 계산되므로 정확한 값을 그대로 반환한다.
+     *
+     * @param search 제목, 저자 또는 요약에 포함된 검색어
+     * @param pageable 페이지네이션 정보
+     * @param countMode 전체 건수 계산 방식
+     * @return NONE 이면 Slice, ESTIMATE 면 EstimatedPage, EXACT 면 Page
+     */
+    @Override
+    public Slice<BookDto.ListResponse> getBooks(String search, Pageable pageable, CountMode countMode) {
+        if (countMode == CountMode.EXACT || pageable.isUnpaged()) {
+            return getBooks(search, pageable);
+        }
+        String keyword = search == null ? "" : search.trim();
+        Slice<BookListView> books;
+
+        if (keyword.isEmpty()) {
+            books = bookRepository.findSliceProjectedBy(pageable);
+        } else {
+            Optional<Page<BookDto.ListResponse>> indexed = bookSearchIndex.search(keyword, pageable);
+            if (indexed.isPresent()) {
+                bookMetrics.recordSearch(BookMetrics.SOURCE_INDEX, indexed.get().getTotalElements());
+                return indexed.get();
+            }
+            books = bookRepository.findSliceByTitleContainingIgnoreCaseOrAuthorContainingIgnoreCaseOrSummaryContainingIgnoreCase(
+                    keyword, keyword, keyword, pageable, BookListView.class);
+        }
+
+        Slice<BookDto.ListResponse> content = books.map(BookServiceImpl::toListResponse);
+        if (countMode == CountMode.NONE) {
+            if (!keyword.isEmpty()) {
+                bookMetrics.recordSearch(BookMetrics.SOURCE_DB);
+            }
+            return content;
+        }
+
+        // 마지막 페이지면 정확한 건수를 알 수 있고, 아니면 추정값이 최소한 다음 페이지가 있음을 나타내도록 보정
+        long seen = pageable.getOffset() + content.getNumberOfElements();
+        long total = !content.hasNext() ? seen
+                : Math.max(seen + 1, keyword.isEmpty()
+                        ? bookCountEstimator.estimateTotal()
+                        : bookCountEstimator.estimateMatches(keyword));
+        if (!keyword.isEmpty()) {
+            bookMetrics.recordSearch(BookMetrics.SOURCE_DB, total);
+        }
+        return new EstimatedPage<>(content.getContent(), pageable, total);
+    }
+
+    /**
+     * 커서 기반으로 책 목록을 조회 (createdAt, id 내림차순)
+     * 마지막 도서 위치부터 인덱스를 따라 읽으므로 페이지 깊이와 무관하게 일정한 비용이 든다.
+     *
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기
+     * @return 도서 목록과 다음 페이지 커서
+     */
+    @Override
+    public BookDto.CursorResponse getBooksByCursor(String cursor, int size) {
+        Pageable pageable = PageRequest.of(0, size);
+        Slice<BookListView> books;
+
+        if (cursor == null || cursor.isBlank()) {
+            books = bookRepository.findAllByOrderByCreatedAtDescIdDesc(pageable);
+        } else {
+            BookCursor position = BookCursor.decode(cursor);
+            books = bookRepository.findNextSlice(position.getCreatedAt(), position.getId(), pageable);
+        }
+
+        List<BookDto.ListResponse> content = books.map(BookServiceImpl::toListResponse).getContent();
+        String nextCursor = null;
+        if (books.hasNext()) {
+            BookDto.ListResponse last = content.get(content.size() - 1);
+            nextCursor = new BookCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        return BookDto.CursorResponse.builder()
+                .content(content)
+                .size(content.size())
+                .hasNext(books.hasNext())
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    /**
+     * 제목/작가/요약/본문에 대한 관련도(BM25) 순 검색
+     * 메모리 인덱스만 사용하므로 트랜잭션(커넥션)을 열지 않는다.
+     *
+     * @param query 검색어
+     * @param pageable 페이지네이션 정보 (정렬 조건은 무시)
+     * @return 점수 내림차순 도서 목록
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Page<BookDto.RankedResponse> searchRanked(String query, Pageable pageable) {
+        if (query == null || query.isBlank()) {
+            throw new InvalidRequestException("검색어를 입력해 주세요.");
+        }
+        if (pageable.getOffset() + pageable.getPageSize() > MAX_RANKED_WINDOW) {
+            throw new InvalidRequestException("관련도 검색은 상위 " + MAX_RANKED_WINDOW + "건까지만 조회할 수 있습니다.");
+        }
+        Page<BookDto.RankedResponse> result = bookRankedIndex.search(query.trim(), pageable)
+                .orElseThrow(() -> new SearchUnavailableException("검색 인덱스를 준비 중입니다. 잠시 후 다시 시도해 주세요."));
+        bookMetrics.recordSearch(BookMetrics.SOURCE_RANKED, result.getTotalElements());
+        return result;
+    }
+
+    /**
+     * 입력 중인 검색어로 시작하는 제목/작가 조회
+     * 메모리 인덱스만 사용하므로 트랜잭션(커넥션)을 열지 않는다.
+     *
+     * @param prefix 입력 중인 검색어
+     * @param limit 최대 개수
+     * @return 해당 도서 수가 많은 순의 자동 완성 목록 (인덱스 준비 전에는 빈 목록)
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BookDto.Suggestion> suggest(String prefix, int limit) {
+        return bookSuggestIndex.suggest(prefix, limit);
     }
 
     /**
@@ -53,24 +263,179 @@ public class BookServiceImpl implements BookService {
     public BookDto.DetailResponse createBook(BookDto.CreateRequest dto) {
         Book book = dto.toEntity();
         Book savedBook = bookRepository.save(book);
+        eventPublisher.publishEvent(new BookChangedEvent(savedBook.getId()));
         return BookDto.DetailResponse.fromEntity(savedBook);
     }
 
     /**
      * 특정 ID의 도서 상세 조회
+     * 결과는 도서 ID 기준으로 캐시되며, 수정/삭제가 커밋되면 캐시에서 제거된다.
+     * 적재를 캐시 안에서 수행(sync)하므로 적재 도중 커밋된 제거는 적재가 끝난 뒤 적용되어 이전 DTO가 남지 않는다.
      *
      * @param id 도서 ID
      * @return 도서 상세 응답 DTO
      */
     @Override
+    @Cacheable(cacheNames = CacheConfig.BOOK_DETAIL_CACHE, key = "#id", sync = true)
     public BookDto.DetailResponse getBook(Long id) {
-        Book book = bookRepository.findById(id)
+        return loadBook(id);
+    }
+
+    /**
+     * 특정 ID의 도서 상세를 캐시를 거치지 않고 조회
+     * 응답 바이트 캐시는 상세 DTO 캐시와 제거 순서가 보장되지 않으므로,
+     * 아직 제거되지 않은 이전 DTO를 다시 직렬화하지 않도록 이 메서드로 적재한다.
+     *
+     * @param id 도서 ID
+     * @return 도서 상세 응답 DTO
+     */
+    @Override
+    public BookDto.DetailResponse loadBook(Long id) {
+        Book book = bookRepository.findWithContentById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("ID가 " + id + "인 도서를 찾을 수 없습니다."));
         return BookDto.DetailResponse.fromEntity(book);
     }
 
     /**
-     * 특정 ID의 도서 업데이트
+     * 특정 ID의 도서 최종 수정 시각 조회
+     * 본문을 읽지 않으므로 조건부 요청(If-None-Match, If-Modified-Since) 검사에 사용한다.
+     *
+     * @param id 도서 ID
+     * @return 최종 수정 시각
+     */
+    @Override
+    public LocalDateTime getBookLastModified(Long id) {
+        return bookRepository.findVersionById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("ID가 " + id + "인 도서를 찾을 수 없습니다."))
+                .getUpdatedAt();
+    }
+
+    /**
+     * 특정 ID의 도서 버전과 최종 수정 시각 조회
+     * 본문을 읽지 않으므로 조건부 요청(ETag, If-Match) 검사에 사용한다.
+     *
+     * @param id 도서 ID
+     * @return 도서 버전 정보
+     */
+    @Override
+    public BookDto.VersionInfo getBookVersion(Long id) {
+        // 조건부 요청 검사 기준이므로 primary에서 읽어 복제 지연 중에 이전 버전으로 304가 나가지 않도록 함
+        BookVersionView view = ReplicationRouting.onPrimary(() -> bookRepository.findVersionById(id))
+                .orElseThrow(() -> new ResourceNotFoundException("ID가 " + id + "인 도서를 찾을 수 없습니다."));
+        return new BookDto.VersionInfo(view.getId(), view.getVersion(), view.getUpdatedAt());
+    }
+
+    /**
+     * 특정 ID의 도서 본문 원본 크기 조회 (본문은 읽지 않음)
+     *
+     * @param id 도서 ID
+     * @return 본문의 UTF-8 바이트 수
+     */
+    @Override
+    public long getContentLength(Long id) {
+        return bookRepository.findContentLengthById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("ID가 " + id + "인 도서를 찾을 수 없습니다."));
+    }
+
+    /**
+     * 특정 ID의 도서 본문 중 [offset, offset + length) 바이트 구간을 스트림에 기록
+     * 저장된 LOB를 압축을 풀면서 순서대로 읽으므로 본문 전체를 메모리에 올리지 않으며,
+     * offset 이 속한 압축 블록부터 읽으므로 뒤쪽 구간도 앞쪽 본문의 압축을 풀지 않는다.
+     *
+     * @param id 도서 ID
+     * @param offset 시작 바이트 위치
+     * @param length 최대 바이트 수
+     * @param out 본문을 기록할 스트림
+     * @return 기록한 바이트 수
+     */
+    @Override
+    public long copyContent(Long id, long offset, long length, OutputStream out) {
+        long[] written = new long[1];
+        boolean found = bookContentReader.read(id, offset, content -> {
+            byte[] buffer = new byte[8192];
+            long remaining = length;
+            while (remaining > 0) {
+                int read = content.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+                if (read < 0) {
+                    break;
+                }
+                out.write(buffer, 0, read);
+                remaining -= read;
+                written[0] += read;
+            }
+        });
+        if (!found) {
+            throw new ResourceNotFoundException("ID가 " + id + "인 도서를 찾을 수 없습니다.");
+        }
+        return written[0];
+    }
+
+    /**
+     * 특정 ID의 도서 본문 구간 조회 (리더 화면의 점진적 로딩용)
+     * 구간이 글자 중간에서 시작하거나 끝나지 않도록 시작은 다음 글자로, 끝은 앞 글자 경계로 맞춘다.
+     *
+     * @param id 도서 ID
+     * @param offset 시작 바이트 위치
+     * @param length 최대 바이트 수 (1 ~ 1MB)
+     * @return 구간 텍스트와 다음 구간 시작 위치
+     */
+    @Override
+    public BookDto.ContentChunk getContentChunk(Long id, long offset, int length) {
+        if (offset < 0 || length <= 0 || length > MAX_CONTENT_CHUNK_BYTES) {
+            throw new InvalidRequestException(
+                    "offset 은 0 이상, length 는 1 ~ " + MAX_CONTENT_CHUNK_BYTES + " 이어야 합니다.");
+        }
+        long total = getContentLength(id);
+        long start = Math.min(offset, total);
+
+        // 경계 조정을 위해 앞뒤로 한 글자 분량을 더 읽음
+        byte[] buffer = new byte[(int) Math.min(length + MAX_UTF8_CHAR_BYTES, total - start)];
+        int[] read = new int[1];
+        bookContentReader.read(id, start, content -> {
+            read[0] = content.readNBytes(buffer, 0, buffer.length);
+        });
+
+        int from = 0;
+        while (from < read[0] && isContinuationByte(buffer[from])) {
+            from++;
+        }
+        int to = Math.min(from + length, read[0]);
+        while (to > from && to < read[0] && isContinuationByte(buffer[to])) {
+            to--;
+        }
+        if (to == from && from < read[0]) {
+            // length 가 한 글자보다 짧으면 한 글자만 포함
+            to = from + 1;
+            while (to < read[0] && isContinuationByte(buffer[to])) {
+                to++;
+            }
+        }
+
+        long end = start + to;
+        return BookDto.ContentChunk.builder()
+                .bookId(id)
+                .offset(start + from)
+                .length(to - from)
+                .totalLength(total)
+                .text(new String(buffer, from, to - from, StandardCharsets.UTF_8))
+                .nextOffset(end < total ? end : null)
+                .build();
+    }
+
+    /**
+     * 본문 저장 용량 통계 조회
+     * 원본 크기는 저장 시 기록한 content_length 합계, 저장 크기는 압축된 content_data 의 실제 바이트 수 합계이다.
+     *
+     * @return 도서 수, 원본/저장 바이트 수, 압축률
+     */
+    @Override
+    public BookDto.StorageStats getStorageStats() {
+        BookStorageView view = bookRepository.summarizeContentStorage();
+        return BookDto.StorageStats.of(view.getBooks(), view.getRawBytes(), view.getStoredBytes());
+    }
+
+    /**
+     * 특정 ID의 도서 업데이트 (버전 확인 없음)
      *
      * @param id 도서 ID
      * @param dto 도서 업데이트 요청 DTO
@@ -79,54 +444,330 @@ public class BookServiceImpl implements BookService {
     @Override
     @Transactional // 쓰기 작업이므로 트랜잭션 어노테이션 추가
     public BookDto.DetailResponse updateBook(Long id, BookDto.UpdateRequest dto) {
-        Book book = bookRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("ID가 " + id + "인 도서를 찾을 수 없습니다."));
-        
-        // 도서 정보 업데이트
-        book.setTitle(dto.getTitle());
-        book.setContent(dto.getContent());
-        book.setAuthor(dto.getAuthor());
-        book.setSummary(dto.getSummary());
-        
-        // 표지 이미지 URL도 함께 업데이트
-        if (dto.getCoverImageUrl() != null) {
-            book.setCoverImageUrl(dto.getCoverImageUrl());
+        return updateBook(id, dto, null);
+    }
+
+    /**
+     * 특정 ID의 도서 업데이트
+     * 기존 도서(본문 LOB 포함)를 읽지 않고 UPDATE 한 번으로 수정하며, 버전 확인도 같은 문장의 WHERE 절에서 한다.
+     * 변경된 행이 없으면 404 또는 버전 충돌로 처리하고, 응답의 버전/시각/표지 URL 은 본문 없이 다시 조회한다.
+     *
+     * @param id 도서 ID
+     * @param dto 도서 업데이트 요청 DTO
+     * @param expectedVersion 클라이언트가 알고 있는 버전 (If-Match, null 이면 확인하지 않음)
+     * @return 업데이트된 도서 상세 응답 DTO
+     */
+    @Override
+    @Transactional // 쓰기 작업이므로 트랜잭션 어노테이션 추가
+    public BookDto.DetailResponse updateBook(Long id, BookDto.UpdateRequest dto, Long expectedVersion) {
+        String content = dto.getContent();
+        long contentLength = content == null ? 0 : CompressedTextConverter.utf8Length(content);
+        if (bookRepository.updateBook(id, dto.getTitle(), content, contentLength, dto.getAuthor(), dto.getSummary(),
+                dto.getCoverImageUrl(), LocalDateTime.now(), expectedVersion) == 0) {
+            throw notFoundOrConflict(id);
         }
-        
-        Book updatedBook = bookRepository.save(book);
-        return BookDto.DetailResponse.fromEntity(updatedBook);
+        BookUpdatedView updated = bookRepository.findUpdatedById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("ID가 " + id + "인 도서를 찾을 수 없습니다."));
+        eventPublisher.publishEvent(new BookChangedEvent(id));
+        return BookDto.DetailResponse.builder()
+                .id(id)
+                .title(dto.getTitle())
+                .content(content)
+                .author(dto.getAuthor())
+                .summary(dto.getSummary())
+                .coverImageUrl(updated.getCoverImageUrl())
+                .version(updated.getVersion())
+                .createdAt(updated.getCreatedAt())
+                .updatedAt(updated.getUpdatedAt())
+                .build();
+    }
+
+    /**
+     * 특정 ID의 도서 표지 이미지 URL 업데이트 (버전 확인 없음)
+     *
+     * @param id 도서 ID
+     * @param newUrl 새로운 표지 이미지 URL
+     * @return 변경된 표지 URL과 수정 시각
+     */
+    @Override
+    @Transactional // 쓰기 작업이므로 트랜잭션 어노테이션 추가
+    public BookDto.CoverResponse updateCoverUrl(Long id, String newUrl) {
+        return updateCoverUrl(id, newUrl, null);
     }
 
     /**
      * 특정 ID의 도서 표지 이미지 URL 업데이트
+     * 도서를 읽지 않고 UPDATE 한 번으로 표지 URL, 수정 시각, 버전만 변경하고 변경 후 버전을 함께 받는다.
      *
      * @param id 도서 ID
      * @param newUrl 새로운 표지 이미지 URL
-     * @return 업데이트된 도서 상세 응답 DTO
+     * @param expectedVersion 클라이언트가 알고 있는 버전 (If-Match, null 이면 확인하지 않음)
+     * @return 변경된 표지 URL, 버전과 수정 시각
      */
     @Override
     @Transactional // 쓰기 작업이므로 트랜잭션 어노테이션 추가
-    public BookDto.DetailResponse updateCoverUrl(Long id, String newUrl) {
-        Book book = bookRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("ID가 " + id + "인 도서를 찾을 수 없습니다."));
-        
-        book.setCoverImageUrl(newUrl);
-        Book updatedBook = bookRepository.save(book);
-        return BookDto.DetailResponse.fromEntity(updatedBook);
+    public BookDto.CoverResponse updateCoverUrl(Long id, String newUrl, Long expectedVersion) {
+        LocalDateTime now = LocalDateTime.now();
+        long version = bookRepository.updateCoverImageUrl(id, newUrl, now, expectedVersion)
+                .orElseThrow(() -> notFoundOrConflict(id));
+        eventPublisher.publishEvent(new BookChangedEvent(id));
+        return new BookDto.CoverResponse(id, newUrl, version, now);
     }
 
     /**
-     * 특정 ID의 도서 삭제
+     * 특정 ID의 도서 요약 업데이트 (요약 생성 작업의 결과 저장용)
+     * 요약을 만드는 동안 도서가 수정되었으면 그 내용으로 다시 만들어야 하므로 항상 버전을 확인한다.
+     *
+     * @param id 도서 ID
+     * @param summary 새 요약
+     * @param expectedVersion 요약을 만들 때 읽은 도서 버전
+     * @return 변경 후 버전
+     */
+    @Override
+    @Transactional // 쓰기 작업이므로 트랜잭션 어노테이션 추가
+    public long updateSummary(Long id, String summary, long expectedVersion) {
+        if (bookRepository.updateSummary(id, summary, LocalDateTime.now(), expectedVersion) == 0) {
+            throw notFoundOrConflict(id);
+        }
+        eventPublisher.publishEvent(new BookChangedEvent(id));
+        return expectedVersion + 1;
+    }
+
+    /**
+     * 특정 ID의 도서 삭제 (버전 확인 없음)
      *
      * @param id 도서 ID
      */
     @Override
     @Transactional // 쓰기 작업이므로 트랜잭션 어노테이션 추가
     public void deleteBook(Long id) {
-        Book book = bookRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("ID가 " + id + "인 도서를 찾을 수 없습니다."));
+        deleteBook(id, null);
+    }
+
+    /**
+     * 특정 ID의 도서 삭제
+     * 도서를 읽지 않고 DELETE 한 번으로 삭제하며, 삭제된 행이 없으면 404 또는 버전 충돌로 처리한다.
+     *
+     * @param id 도서 ID
+     * @param expectedVersion 클라이언트가 알고 있는 버전 (If-Match, null 이면 확인하지 않음)
+     */
+    @Override
+    @Transactional // 쓰기 작업이므로 트랜잭션 어노테이션 추가
+    public void deleteBook(Long id, Long expectedVersion) {
+        if (bookRepository.deleteBookById(id, expectedVersion) == 0) {
+            throw notFoundOrConflict(id);
+        }
+        eventPublisher.publishEvent(new BookChangedEvent(id));
+    }
+
+    /**
+     * 전체 도서를 ID 순으로 한 건씩 전달
+     * 페이지 단위로 모으지 않고 커서로 읽으며, 전달한 엔티티는 곧바로 분리해
+     * 카탈로그 크기와 관계없이 메모리 사용량을 일정하게 유지한다.
+     *
+     * @param consumer 도서 상세 응답 DTO를 받을 함수
+     * @return 전달한 도서 수
+     */
+    @Override
+    public long exportBooks(Consumer<BookDto.DetailResponse> consumer) {
+        long count = 0;
+        try (Stream<Book> books = bookRepository.streamAllByOrderByIdAsc()) {
+            Iterator<Book> iterator = books.iterator();
+            while (iterator.hasNext()) {
+                Book book = iterator.next();
+                consumer.accept(BookDto.DetailResponse.fromEntity(book));
+                entityManager.detach(book);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 도서 일괄 생성
+     * 유효하지 않은 항목은 건너뛰고 결과에 오류로 표시하며, 나머지는 하나의 트랜잭션으로 저장한다.
+     * 시퀀스 ID를 사용하므로 INSERT가 JDBC 배치로 묶여 전송된다.
+     *
+     * @param requests 도서 생성 요청 DTO 목록
+     * @return 항목별 처리 결과
+     */
+    @Override
+    @Transactional // 쓰기 작업이므로 트랜잭션 어노테이션 추가
+    public BookDto.BatchResponse createBooks(List<BookDto.CreateRequest> requests) {
+        checkBatchSize(requests.size());
+        List<BookDto.BatchItemResult> results = new ArrayList<>(requests.size());
+        List<Long> createdIds = new ArrayList<>();
+
+        for (int i = 0; i < requests.size(); i++) {
+            BookDto.CreateRequest request = requests.get(i);
+            List<ErrorDetail> errors = validate(request);
+            if (!errors.isEmpty()) {
+                results.add(BookDto.BatchItemResult.error(i, null, "입력 값이 유효하지 않습니다.", errors));
+                continue;
+            }
+
+            Book savedBook = bookRepository.save(request.toEntity());
+            createdIds.add(savedBook.getId());
+            results.add(BookDto.BatchItemResult.success(i, savedBook.getId()));
+            if (createdIds.size() % FLUSH_SIZE == 0) {
+                flushAndClear();
+            }
+        }
+        flushAndClear();
+
+        publishChanged(createdIds);
+        return BookDto.BatchResponse.of(results);
+    }
+
+    /**
+     * 도서 일괄 수정
+     * FLUSH_SIZE 단위로 대상 도서를 한 번에 조회하고 UPDATE를 JDBC 배치로 전송한다.
+     *
+     * @param requests 도서 ID를 포함한 수정 요청 목록
+     * @return 항목별 처리 결과
+     */
+    @Override
+    @Transactional // 쓰기 작업이므로 트랜잭션 어노테이션 추가
+    public BookDto.BatchResponse updateBooks(List<BookDto.BatchUpdateItem> requests) {
+        checkBatchSize(requests.size());
+        List<BookDto.BatchItemResult> results = new ArrayList<>(requests.size());
+        List<Long> updatedIds = new ArrayList<>();
+
+        for (int from = 0; from < requests.size(); from += FLUSH_SIZE) {
+            List<BookDto.BatchUpdateItem> chunk = requests.subList(from, Math.min(from + FLUSH_SIZE, requests.size()));
+            Set<Long> ids = chunk.stream()
+                    .filter(item -> item != null && item.getId() != null)
+                    .map(BookDto.BatchUpdateItem::getId)
+                    .collect(Collectors.toSet());
+            Map<Long, Book> books = bookRepository.findAllById(ids).stream()
+                    .collect(Collectors.toMap(Book::getId, Function.identity()));
+
+            for (int i = 0; i < chunk.size(); i++) {
+                int index = from + i;
+                BookDto.BatchUpdateItem item = chunk.get(i);
+                List<ErrorDetail> errors = validate(item);
+                if (!errors.isEmpty()) {
+                    Long id = item == null ? null : item.getId();
+                    results.add(BookDto.BatchItemResult.error(index, id, "입력 값이 유효하지 않습니다.", errors));
+                    continue;
+                }
+
+                Book book = books.get(item.getId());
+                if (book == null) {
+                    results.add(BookDto.BatchItemResult.error(index, item.getId(),
+                            "ID가 " + item.getId() + "인 도서를 찾을 수 없습니다.", null));
+                    continue;
+                }
+
+                applyUpdate(book, item);
+                updatedIds.add(book.getId());
+                results.add(BookDto.BatchItemResult.success(index, book.getId()));
+            }
+            flushAndClear();
+        }
+
+        publishChanged(updatedIds);
+        return BookDto.BatchResponse.of(results);
+    }
+
+    /**
+     * 도서 일괄 삭제
+     * 존재하는 ID를 확인한 뒤 DELETE ... WHERE book_id IN (...) 한 번으로 삭제한다.
+     *
+     * @param ids 삭제할 도서 ID 목록
+     * @return 항목별 처리 결과
+     */
+    @Override
+    @Transactional // 쓰기 작업이므로 트랜잭션 어노테이션 추가
+    public BookDto.BatchResponse deleteBooks(List<Long> ids) {
+        checkBatchSize(ids.size());
+        Set<Long> requested = ids.stream().filter(Objects::nonNull).collect(Collectors.toCollection(LinkedHashSet::new));
+        Set<Long> existing = new HashSet<>();
+
+        List<Long> distinctIds = new ArrayList<>(requested);
+        for (int from = 0; from < distinctIds.size(); from += MAX_IN_CLAUSE_SIZE) {
+            List<Long> chunk = distinctIds.subList(from, Math.min(from + MAX_IN_CLAUSE_SIZE, distinctIds.size()));
+            List<Long> found = bookRepository.findExistingIds(chunk);
+            if (!found.isEmpty()) {
+                bookRepository.deleteAllByIdInBatch(found);
+                existing.addAll(found);
+            }
+        }
+
+        List<BookDto.BatchItemResult> results = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            Long id = ids.get(i);
+            if (id == null) {
+                results.add(BookDto.BatchItemResult.error(i, null, "도서 ID는 필수입니다", null));
+            } else if (existing.contains(id)) {
+                results.add(BookDto.BatchItemResult.success(i, id));
+            } else {
+                results.add(BookDto.BatchItemResult.error(i, id, "ID가 " + id + "인 도서를 찾을 수 없습니다.", null));
+            }
+        }
+
+        publishChanged(existing);
+        return BookDto.BatchResponse.of(results);
+    }
+
+    // 수정 요청 내용을 엔티티에 반영
+    private void applyUpdate(Book book, BookDto.UpdateRequest dto) {
+        book.setTitle(dto.getTitle());
+        book.setContent(dto.getContent());
+        book.setAuthor(dto.getAuthor());
+        book.setSummary(dto.getSummary());
         
-        bookRepository.delete(book);
+        // 표지 이미지 URL도 함께 업데이트
+        if (dto.getCoverImageUrl() != null) {
+            book.setCoverImageUrl(dto.getCoverImageUrl());
+        }
+    }
+
+    // 목록 응답 변환 (로컬 표지면 썸네일 URL 포함)
+    private static BookDto.ListResponse toListResponse(BookListView view) {
+        return BookDto.ListResponse.fromView(view, CoverAssetStore.thumbnailUrlOf(view.getCoverImageUrl()));
+    }
+
+    // 조건부 UPDATE/DELETE 가 아무 행도 바꾸지 못한 경우 원인 구분 (실패한 경우에만 추가 조회)
+    private RuntimeException notFoundOrConflict(Long id) {
+        if (bookRepository.existsById(id)) {
+            return new PreconditionFailedException("ID가 " + id + "인 도서가 다른 요청으로 변경되었습니다.");
+        }
+        return new ResourceNotFoundException("ID가 " + id + "인 도서를 찾을 수 없습니다.");
     }
-}
 
+    private void checkBatchSize(int size) {
+        if (size > MAX_BATCH_ITEMS) {
+            throw new InvalidRequestException("한 번에 최대 " + MAX_BATCH_ITEMS + "건까지 처리할 수 있습니다.");
+        }
+    }
+
+    // 요청 DTO의 Bean Validation 오류를 ErrorDetail 목록으로 변환
+    private List<ErrorDetail> validate(Object request) {
+        if (request == null) {
+            return List.of(new ErrorDetail(null, null, "요청 항목이 비어 있습니다"));
+        }
+        List<ErrorDetail> errors = new ArrayList<>();
+        for (ConstraintViolation<Object> violation : validator.validate(request)) {
+            errors.add(new ErrorDetail(violation.getPropertyPath().toString(), violation.getInvalidValue(),
+                    violation.getMessage()));
+        }
+        return errors;
+    }
+
+    // 배치 단위로 INSERT/UPDATE를 전송하고 영속성 컨텍스트를 비워 메모리 사용량을 일정하게 유지
+    private void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private void publishChanged(Collection<Long> ids) {
+        if (!ids.isEmpty()) {
+            eventPublisher.publishEvent(new BookChangedEvent(ids));
+        }
+    }
+
+    private static boolean isContinuationByte(byte value) {
+        return (value & 0xC0) == 0x80;
+    }
+}
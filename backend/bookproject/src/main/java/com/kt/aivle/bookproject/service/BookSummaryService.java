@@ -0,0 +1,12 @@
+package com.kt.aivle.bookproject.service;
+
+import com.kt.aivle.bookproject.dto.BookDto;
+
+import java.util.List;
+
+public interface BookSummaryService {
+    //도서 요약 생성 작업 등록 (이미 진행 중인 도서는 기존 작업 반환)
+    List<BookDto.SummaryJobResponse> requestSummaries(List<Long> bookIds);
+    //요약 생성 작업 상태 조회
+    BookDto.SummaryJobResponse getJob(String jobId);
+}
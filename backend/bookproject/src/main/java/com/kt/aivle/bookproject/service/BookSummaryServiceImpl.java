@@ -0,0 +1,417 @@
+package com.kt.aivle.bookproject.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.kt.aivle.bookproject.domain.Book;
+import com.kt.aivle.bookproject.dto.BookDto;
+import com.kt.aivle.bookproject.dto.SummaryJobStatus;
+import com.kt.aivle.bookproject.exception.InvalidRequestException;
+import com.kt.aivle.bookproject.exception.PreconditionFailedException;
+import com.kt.aivle.bookproject.exception.ResourceNotFoundException;
+import com.kt.aivle.bookproject.exception.SummaryUnavailableException;
+import com.kt.aivle.bookproject.jdbc.ReplicationRouting;
+import com.kt.aivle.bookproject.repository.BookContentReader;
+import com.kt.aivle.bookproject.repository.BookRepository;
+import com.kt.aivle.bookproject.summary.SummaryGenerator;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 도서 요약 생성 작업 처리
+ * 등록된 작업은 크기가 제한된 대기열에 들어가고, 워커가 batch-size 개씩 꺼내 SummaryGenerator 를 한 번 호출한 뒤
+ * 결과를 도서 요약에 저장한다. 워커 수와 묶음 사이 최소 간격(min-batch-interval)이 생성기 호출량의 상한이 된다.
+ * 실패한 작업은 지수적으로 늘어나는 간격을 두고 max-attempts 번까지 다시 시도하며,
+ * 작업 상태는 메모리에만 보관하므로 끝난 작업도 job-retention 동안만 조회할 수 있다.
+ */
+@Slf4j
+@Service
+public class BookSummaryServiceImpl implements BookSummaryService {
+
+    // 한 번의 요청으로 등록할 수 있는 최대 도서 수
+    private static final int MAX_REQUEST_BOOKS = 100;
+    // 도서 요약 컬럼 길이 (BookDto 요약 검증과 같음)
+    private static final int MAX_SUMMARY_LENGTH = 1000;
+
+    private final BookRepository bookRepository;
+    private final BookContentReader bookContentReader;
+    private final BookService bookService;
+    private final SummaryGenerator summaryGenerator;
+    private final BookMetrics bookMetrics;
+    private final boolean enabled;
+    private final int workerCount;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration minBatchInterval;
+    private final int maxInputChars;
+
+    private final BlockingQueue<Job> queue;
+    // 끝나지 않은 작업 (도서당 하나만 유지)
+    private final Map<Long, Job> activeJobs = new ConcurrentHashMap<>();
+    private final Cache<String, Job> jobs;
+    private final ScheduledExecutorService retryScheduler;
+    private final List<Thread> workers = new ArrayList<>();
+    private final Object pacingLock = new Object();
+    private long nextBatchAt;
+
+    public BookSummaryServiceImpl(BookRepository bookRepository,
+                                  BookContentReader bookContentReader,
+                                  BookService bookService,
+                                  SummaryGenerator summaryGenerator,
+                                  BookMetrics bookMetrics,
+                                  @Value("${book.summary.enabled:true}") boolean enabled,
+                                  @Value("${book.summary.workers:2}") int workerCount,
+                                  @Value("${book.summary.batch-size:10}") int batchSize,
+                                  @Value("${book.summary.queue-capacity:1000}") int queueCapacity,
+                                  @Value("${book.summary.max-attempts:3}") int maxAttempts,
+                                  @Value("${book.summary.initial-backoff:1s}") Duration initialBackoff,
+                                  @Value("${book.summary.max-backoff:30s}") Duration maxBackoff,
+                                  @Value("${book.summary.min-batch-interval:0ms}") Duration minBatchInterval,
+                                  @Value("${book.summary.max-input-chars:4000}") int maxInputChars,
+                                  @Value("${book.summary.job-retention:1h}") Duration jobRetention) {
+        this.bookRepository = bookRepository;
+        this.bookContentReader = bookContentReader;
+        this.bookService = bookService;
+        this.summaryGenerator = summaryGenerator;
+        this.bookMetrics = bookMetrics;
+        this.enabled = enabled;
+        this.workerCount = workerCount;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.minBatchInterval = minBatchInterval;
+        this.maxInputChars = maxInputChars;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.jobs = Caffeine.newBuilder().expireAfterWrite(jobRetention).build();
+        this.retryScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "book-summary-retry");
+            thread.setDaemon(true);
+            return thread;
+        });
+        bookMetrics.registerSummaryQueue(queue);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (!enabled || !workers.isEmpty()) {
+            return;
+        }
+        for (int i = 0; i < workerCount; i++) {
+            Thread worker = new Thread(this::runWorker, "book-summary-worker-" + i);
+            worker.setDaemon(true);
+            worker.start();
+            workers.add(worker);
+        }
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        workers.forEach(Thread::interrupt);
+        workers.clear();
+        retryScheduler.shutdownNow();
+    }
+
+    /**
+     * 도서 요약 생성 작업 등록
+     * 대기열 여유가 요청한 도서 수보다 적으면 아무것도 등록하지 않고 503 으로 응답한다.
+     *
+     * @param bookIds 요약할 도서 ID 목록 (중복은 하나로 처리)
+     * @return 도서별 작업 상태 (요청 순서)
+     */
+    @Override
+    public List<BookDto.SummaryJobResponse> requestSummaries(List<Long> bookIds) {
+        if (!enabled) {
+            throw new SummaryUnavailableException("요약 생성 기능이 비활성화되어 있습니다.");
+        }
+        Set<Long> ids = new LinkedHashSet<>(bookIds);
+        ids.remove(null);
+        if (ids.isEmpty()) {
+            throw new InvalidRequestException("요약할 도서 ID는 필수입니다.");
+        }
+        if (ids.size() > MAX_REQUEST_BOOKS) {
+            throw new InvalidRequestException("한 번에 최대 " + MAX_REQUEST_BOOKS + "건까지 요청할 수 있습니다.");
+        }
+        // 방금 생성한 도서도 찾을 수 있도록 primary 에서 확인
+        Set<Long> existing = new HashSet<>(ReplicationRouting.onPrimary(() -> bookRepository.findExistingIds(ids)));
+        List<Long> missing = ids.stream().filter(id -> !existing.contains(id)).toList();
+        if (!missing.isEmpty()) {
+            throw new ResourceNotFoundException("ID가 " + missing + "인 도서를 찾을 수 없습니다.");
+        }
+        if (queue.remainingCapacity() < ids.size()) {
+            throw new SummaryUnavailableException("요약 생성 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        List<BookDto.SummaryJobResponse> responses = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            responses.add(enqueue(id).toResponse());
+        }
+        return responses;
+    }
+
+    @Override
+    public BookDto.SummaryJobResponse getJob(String jobId) {
+        Job job = jobs.getIfPresent(jobId);
+        if (job == null) {
+            throw new ResourceNotFoundException("ID가 " + jobId + "인 요약 작업을 찾을 수 없습니다.");
+        }
+        return job.toResponse();
+    }
+
+    private Job enqueue(Long bookId) {
+        Job[] created = new Job[1];
+        Job job = activeJobs.computeIfAbsent(bookId, id -> created[0] = new Job(UUID.randomUUID().toString(), id));
+        if (job != created[0]) {
+            return job;
+        }
+        jobs.put(job.id, job);
+        if (!queue.offer(job)) {
+            // 여유를 확인한 뒤 다른 요청이 먼저 채운 경우
+            finish(job, SummaryJobStatus.FAILED, "요약 생성 대기열이 가득 찼습니다.");
+        }
+        return job;
+    }
+
+    private void runWorker() {
+        List<Job> batch = new ArrayList<>(batchSize);
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                batch.add(queue.take());
+                queue.drainTo(batch, batchSize - 1);
+                awaitBatchSlot();
+                process(batch);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException ex) {
+                // 처리를 마친 작업은 process 에서 묶음에서 빠지므로 끝나지 않은 작업만 다시 시도
+                log.error("Summary batch failed unexpectedly", ex);
+                batch.forEach(job -> retryOrFail(job, "요약 생성 중 오류가 발생했습니다."));
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 모든 워커를 통틀어 묶음 처리 시작 간격이 min-batch-interval 이상이 되도록 대기
+     */
+    private void awaitBatchSlot() throws InterruptedException {
+        long interval = minBatchInterval.toNanos();
+        if (interval <= 0) {
+            return;
+        }
+        long wait;
+        synchronized (pacingLock) {
+            long now = System.nanoTime();
+            long slot = Math.max(now, nextBatchAt);
+            nextBatchAt = slot + interval;
+            wait = slot - now;
+        }
+        if (wait > 0) {
+            TimeUnit.NANOSECONDS.sleep(wait);
+        }
+    }
+
+    /**
+     * 묶음 처리 (성공/실패/재시도 예약으로 처리를 마친 작업은 batch 에서 제거)
+     */
+    private void process(List<Job> batch) {
+        batch.forEach(Job::start);
+        List<Long> ids = batch.stream().map(job -> job.bookId).toList();
+        // 요약 직후 버전을 비교해 저장하므로 복제 지연 없는 primary 에서 읽음
+        Map<Long, Book> books = ReplicationRouting.onPrimary(() -> bookRepository.findAllById(ids))
+                .stream()
+                .collect(Collectors.toMap(Book::getId, Function.identity()));
+        // 본문은 지연 로딩되므로 엔티티로 읽지 않고, 요약에 쓰는 앞부분만 압축을 풀어 읽음
+        // (버전을 먼저 읽었으므로 그 사이 수정되었다면 저장 시 버전 충돌로 처리됨)
+        Map<Long, String> contents = ReplicationRouting.onPrimary(() ->
+                bookContentReader.readPrefixes(books.keySet(), maxInputChars));
+
+        List<Job> pending = new ArrayList<>(batch.size());
+        List<SummaryGenerator.Source> sources = new ArrayList<>(batch.size());
+        for (Job job : List.copyOf(batch)) {
+            Book book = books.get(job.bookId);
+            if (book == null) {
+                finish(batch, job, SummaryJobStatus.FAILED, "도서가 삭제되었습니다.");
+                continue;
+            }
+            job.readVersion = book.getVersion();
+            pending.add(job);
+            sources.add(new SummaryGenerator.Source(book.getId(), book.getTitle(), book.getAuthor(),
+                    contents.get(book.getId())));
+        }
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        Map<Long, String> summaries;
+        try {
+            summaries = summaryGenerator.generate(sources);
+        } catch (RuntimeException ex) {
+            log.warn("Summary generation failed for books {}: {}", ids, ex.toString());
+            pending.forEach(job -> {
+                bookMetrics.recordSummaryAttempt(false);
+                retryOrFail(batch, job, "요약 생성에 실패했습니다: " + ex.getMessage());
+            });
+            return;
+        }
+
+        for (Job job : pending) {
+            String summary = summaries.get(job.bookId);
+            if (summary == null || summary.isBlank()) {
+                bookMetrics.recordSummaryAttempt(false);
+                retryOrFail(batch, job, "요약 결과가 없습니다.");
+                continue;
+            }
+            bookMetrics.recordSummaryAttempt(true);
+            try {
+                bookService.updateSummary(job.bookId, truncate(summary.strip(), MAX_SUMMARY_LENGTH), job.readVersion);
+                finish(batch, job, SummaryJobStatus.SUCCEEDED, null);
+            } catch (ResourceNotFoundException ex) {
+                finish(batch, job, SummaryJobStatus.FAILED, "도서가 삭제되었습니다.");
+            } catch (PreconditionFailedException ex) {
+                // 요약하는 동안 도서가 수정되었으므로 바뀐 내용으로 다시 만듦
+                retryOrFail(batch, job, "요약 생성 중 도서가 수정되었습니다.");
+            } catch (RuntimeException ex) {
+                log.warn("Failed to save summary for book {}", job.bookId, ex);
+                retryOrFail(batch, job, "요약 저장에 실패했습니다.");
+            }
+        }
+    }
+
+    private void finish(List<Job> batch, Job job, SummaryJobStatus status, String error) {
+        finish(job, status, error);
+        batch.remove(job);
+    }
+
+    private void retryOrFail(List<Job> batch, Job job, String error) {
+        retryOrFail(job, error);
+        batch.remove(job);
+    }
+
+    private void retryOrFail(Job job, String error) {
+        if (job.attempts >= maxAttempts) {
+            finish(job, SummaryJobStatus.FAILED, error);
+            return;
+        }
+        Duration delay = backoff(job.attempts);
+        job.retrying(error, LocalDateTime.now().plus(delay));
+        jobs.put(job.id, job);
+        scheduleRequeue(job, delay);
+    }
+
+    private void scheduleRequeue(Job job, Duration delay) {
+        retryScheduler.schedule(() -> {
+            job.requeued();
+            if (!queue.offer(job)) {
+                // 대기열이 가득 차 있으면 시도 횟수를 늘리지 않고 나중에 다시 넣음
+                scheduleRequeue(job, maxBackoff);
+            }
+        }, delay.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 시도 횟수에 따라 두 배씩 늘어나는 재시도 간격 (max-backoff 까지)
+     */
+    Duration backoff(int attempts) {
+        Duration delay = initialBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    private void finish(Job job, SummaryJobStatus status, String error) {
+        job.finish(status, error);
+        activeJobs.remove(job.bookId, job);
+        // 끝난 시점부터 job-retention 동안 조회할 수 있도록 다시 넣음
+        jobs.put(job.id, job);
+        bookMetrics.recordSummaryJob(status.name().toLowerCase(Locale.ROOT));
+    }
+
+    private static String truncate(String text, int maxChars) {
+        if (text == null || text.length() <= maxChars) {
+            return text;
+        }
+        return text.substring(0, maxChars);
+    }
+
+    // 작업 상태 (워커와 조회 요청이 함께 접근하므로 변경/스냅샷은 동기화)
+    static final class Job {
+        private final String id;
+        private final Long bookId;
+        private final LocalDateTime createdAt = LocalDateTime.now();
+        private SummaryJobStatus status = SummaryJobStatus.QUEUED;
+        private int attempts;
+        private String error;
+        private LocalDateTime updatedAt = createdAt;
+        private LocalDateTime nextAttemptAt;
+        // 요약할 때 읽은 도서 버전 (워커 스레드에서만 사용)
+        private long readVersion;
+
+        private Job(String id, Long bookId) {
+            this.id = id;
+            this.bookId = bookId;
+        }
+
+        synchronized void start() {
+            status = SummaryJobStatus.RUNNING;
+            attempts++;
+            nextAttemptAt = null;
+            updatedAt = LocalDateTime.now();
+        }
+
+        synchronized void retrying(String error, LocalDateTime nextAttemptAt) {
+            this.status = SummaryJobStatus.RETRYING;
+            this.error = error;
+            this.nextAttemptAt = nextAttemptAt;
+            this.updatedAt = LocalDateTime.now();
+        }
+
+        synchronized void requeued() {
+            status = SummaryJobStatus.QUEUED;
+            updatedAt = LocalDateTime.now();
+        }
+
+        synchronized void finish(SummaryJobStatus status, String error) {
+            this.status = status;
+            this.error = error;
+            this.nextAttemptAt = null;
+            this.updatedAt = LocalDateTime.now();
+        }
+
+        synchronized BookDto.SummaryJobResponse toResponse() {
+            return BookDto.SummaryJobResponse.builder()
+                    .jobId(id)
+                    .bookId(bookId)
+                    .status(status)
+                    .attempts(attempts)
+                    .error(error)
+                    .createdAt(createdAt)
+                    .updatedAt(updatedAt)
+                    .nextAttemptAt(nextAttemptAt)
+                    .build();
+        }
+    }
+}
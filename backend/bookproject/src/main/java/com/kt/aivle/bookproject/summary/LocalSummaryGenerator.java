@@ -0,0 +1,65 @@
+package com.kt.aivle.bookproject.summary;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * 외부 호출 없이 본문 앞 문장들을 잘라 요약으로 사용하는 기본 생성기
+ * 개발/테스트 환경용이며, 다른 SummaryGenerator 를 쓰려면 book.summary.generator 를 local 이외의 값으로 설정한다.
+ */
+@Component
+@ConditionalOnProperty(name = "book.summary.generator", havingValue = "local", matchIfMissing = true)
+public class LocalSummaryGenerator implements SummaryGenerator {
+
+    // 문장 끝 부호 뒤의 공백에서 나눔
+    private static final Pattern SENTENCE_END = Pattern.compile("(?<=[.!?。])\\s+");
+
+    private final int maxChars;
+
+    public LocalSummaryGenerator(@Value("${book.summary.local.max-chars:300}") int maxChars) {
+        this.maxChars = maxChars;
+    }
+
+    @Override
+    public Map<Long, String> generate(List<Source> sources) {
+        Map<Long, String> summaries = new HashMap<>();
+        for (Source source : sources) {
+            String summary = summarize(source.getContent());
+            if (!summary.isEmpty()) {
+                summaries.put(source.getBookId(), summary);
+            }
+        }
+        return summaries;
+    }
+
+    /**
+     * maxChars 를 넘지 않는 만큼 앞 문장을 이어 붙임 (첫 문장이 더 길면 잘라서 말줄임표를 붙임)
+     */
+    String summarize(String content) {
+        if (content == null || content.isBlank()) {
+            return "";
+        }
+        String text = content.strip().replaceAll("\\s+", " ");
+        StringBuilder summary = new StringBuilder();
+        for (String sentence : SENTENCE_END.split(text)) {
+            int length = summary.isEmpty() ? sentence.length() : summary.length() + 1 + sentence.length();
+            if (length > maxChars) {
+                break;
+            }
+            if (!summary.isEmpty()) {
+                summary.append(' ');
+            }
+            summary.append(sentence);
+        }
+        if (summary.isEmpty()) {
+            return text.substring(0, Math.max(0, maxChars - 1)).strip() + "…";
+        }
+        return summary.toString();
+    }
+}
@@ -0,0 +1,33 @@
+package com.kt.aivle.bookproject.summary;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 도서 요약 생성기
+ * 외부 모델 호출처럼 오래 걸릴 수 있으므로 요청 처리 스레드가 아닌 요약 작업 워커에서만 호출되며,
+ * 호출 횟수를 줄일 수 있도록 여러 도서를 한 번에 받는다. 구현체는 book.summary.generator 값으로 선택한다.
+ */
+public interface SummaryGenerator {
+
+    /**
+     * 여러 도서의 요약 생성
+     *
+     * @param sources 요약할 도서 (본문은 앞부분만 전달될 수 있음)
+     * @return 도서 ID별 요약 (결과가 없는 도서는 실패로 보고 다시 시도)
+     * @throws RuntimeException 묶음 전체가 실패한 경우 (묶음의 모든 도서를 다시 시도)
+     */
+    Map<Long, String> generate(List<Source> sources);
+
+    @Getter
+    @RequiredArgsConstructor
+    class Source {
+        private final Long bookId;
+        private final String title;
+        private final String author;
+        private final String content;
+    }
+}
@@ -0,0 +1,126 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.Deflater;
+
+/**
+ * 도서 본문(content CLOB)을 압축 저장 컬럼(content_data BLOB)으로 옮기고 원본 UTF-8 길이(content_length)를 기록
+ * 압축은 SQL 로 할 수 없어 자바 마이그레이션으로 수행한다.
+ * 적용된 마이그레이션의 결과가 바뀌지 않도록 이 시점의 CompressedTextConverter 저장 형식을 그대로 복사해 두고
+ * 애플리케이션 코드는 참조하지 않는다 (이후 형식이 바뀌어도 컨버터는 이 형식을 계속 읽을 수 있어야 함).
+ * 저장 형식: [방식 1바이트 (0: UTF-8 그대로, 1: Deflate, zlib 헤더 없음)][원본 UTF-8 길이 4바이트][데이터]
+ */
+public class V2__compress_book_content extends BaseJavaMigration {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final byte RAW = 0;
+    private static final byte DEFLATE = 1;
+    // 이보다 짧은 글은 그대로 저장
+    private static final int MIN_COMPRESS_BYTES = 512;
+    private static final int HEADER_SIZE = 5;
+
+    @Override
+    public void migrate(Context context) throws SQLException {
+        Connection connection = context.getConnection();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ALTER TABLE book ADD COLUMN content_data BLOB");
+            statement.execute("ALTER TABLE book ADD COLUMN content_length BIGINT");
+        }
+
+        // ID 순으로 나누어 읽어 대용량 테이블에서도 메모리 사용량을 제한
+        long lastId = 0L;
+        List<Object[]> batch;
+        do {
+            batch = readBatch(connection, lastId);
+            writeBatch(connection, batch);
+            if (!batch.isEmpty()) {
+                lastId = (Long) batch.get(batch.size() - 1)[0];
+            }
+        } while (batch.size() == BATCH_SIZE);
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ALTER TABLE book ALTER COLUMN content_data SET NOT NULL");
+            statement.execute("ALTER TABLE book ALTER COLUMN content_length SET NOT NULL");
+            statement.execute("ALTER TABLE book DROP COLUMN content");
+        }
+    }
+
+    private List<Object[]> readBatch(Connection connection, long afterId) throws SQLException {
+        List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+        try (PreparedStatement select = connection.prepareStatement(
+                "SELECT book_id, content FROM book WHERE book_id > ? ORDER BY book_id LIMIT " + BATCH_SIZE)) {
+            select.setLong(1, afterId);
+            try (ResultSet rs = select.executeQuery()) {
+                while (rs.next()) {
+                    rows.add(new Object[]{rs.getLong(1), rs.getString(2)});
+                }
+            }
+        }
+        return rows;
+    }
+
+    private void writeBatch(Connection connection, List<Object[]> rows) throws SQLException {
+        if (rows.isEmpty()) {
+            return;
+        }
+        try (PreparedStatement update = connection.prepareStatement(
+                "UPDATE book SET content_data = ?, content_length = ? WHERE book_id = ?")) {
+            for (Object[] row : rows) {
+                String content = row[1] == null ? "" : (String) row[1];
+                byte[] raw = content.getBytes(StandardCharsets.UTF_8);
+                update.setBytes(1, encode(raw));
+                update.setLong(2, raw.length);
+                update.setLong(3, (Long) row[0]);
+                update.addBatch();
+            }
+            update.executeBatch();
+        }
+    }
+
+    static byte[] encode(byte[] raw) {
+        if (raw.length >= MIN_COMPRESS_BYTES) {
+            byte[] compressed = deflate(raw);
+            if (compressed != null) {
+                return compressed;
+            }
+        }
+        return ByteBuffer.allocate(HEADER_SIZE + raw.length).put(RAW).putInt(raw.length).put(raw).array();
+    }
+
+    /**
+     * @return 압축 결과가 원본보다 작지 않으면 null
+     */
+    private static byte[] deflate(byte[] raw) {
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            byte[] out = new byte[HEADER_SIZE + raw.length];
+            int length = HEADER_SIZE;
+            while (!deflater.finished()) {
+                if (length == out.length) {
+                    return null;
+                }
+                length += deflater.deflate(out, length, out.length - length);
+            }
+            ByteBuffer.wrap(out).put(DEFLATE).putInt(raw.length);
+            byte[] result = new byte[length];
+            System.arraycopy(out, 0, result, 0, length);
+            return result;
+        } finally {
+            deflater.end();
+        }
+    }
+}
@@ -0,0 +1,23 @@
+-- 도서 테이블 초기 스키마
+-- 이후 스키마 변경은 이 파일을 수정하지 말고 V2__*.sql 부터 새 마이그레이션으로 추가
+
+-- ID를 50개 단위로 미리 할당 (Book 엔티티의 allocationSize와 같아야 함)
+CREATE SEQUENCE book_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE book (
+    book_id         BIGINT        NOT NULL,
+    title           VARCHAR(255)  NOT NULL,
+    content         CLOB          NOT NULL,
+    author          VARCHAR(255),
+    summary         VARCHAR(1000),
+    cover_image_url VARCHAR(2083),
+    created_at      TIMESTAMP(6),
+    updated_at      TIMESTAMP(6),
+    PRIMARY KEY (book_id)
+);
+
+-- 기본 정렬(created_at DESC) 및 키셋 페이지네이션 (created_at 단독 조건도 이 인덱스의 선두 컬럼으로 처리)
+CREATE INDEX idx_book_created_at_book_id ON book (created_at, book_id);
+-- 제목/작가 정렬 및 접두어 조회
+CREATE INDEX idx_book_title ON book (title);
+CREATE INDEX idx_book_author ON book (author);
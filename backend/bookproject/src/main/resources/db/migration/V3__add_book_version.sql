@@ -0,0 +1,2 @@
+-- 낙관적 잠금용 버전 (수정될 때마다 1씩 증가하며, ETag/If-Match 비교에 사용)
+ALTER TABLE book ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
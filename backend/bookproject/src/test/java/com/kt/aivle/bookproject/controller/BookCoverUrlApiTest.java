@@ -0,0 +1,84 @@
+package com.kt.aivle.bookproject.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kt.aivle.bookproject.domain.Book;
+import com.kt.aivle.bookproject.dto.BookDto;
+import com.kt.aivle.bookproject.repository.BookRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class BookCoverUrlApiTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    private Long savedBookId;
+
+    @BeforeEach
+    void setup() {
+        Book book = new Book();
+        book.setTitle("테스트 책");
+        book.setAuthor("저자");
+        book.setContent("내용");
+        savedBookId = bookRepository.save(book).getId();
+    }
+
+    @Test
+    void updateCoverUrl_returnsNewVersionFromUpdate() throws Exception {
+        String body = objectMapper.writeValueAsString(new BookDto.CoverUrlRequest("https://example.com/a.png"));
+
+        mockMvc.perform(put("/api/books/" + savedBookId + "/cover-url")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, BookETag.of(savedBookId, 1L)))
+                .andExpect(jsonPath("$.data.id").value(savedBookId))
+                .andExpect(jsonPath("$.data.coverImageUrl").value("https://example.com/a.png"))
+                .andExpect(jsonPath("$.data.version").value(1));
+
+        mockMvc.perform(put("/api/books/" + savedBookId + "/cover-url")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header(HttpHeaders.IF_MATCH, BookETag.of(savedBookId, 1L))
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.version").value(2));
+
+        assertThat(bookRepository.findById(savedBookId).orElseThrow().getVersion()).isEqualTo(2L);
+    }
+
+    @Test
+    void updateCoverUrl_staleOrMissing() throws Exception {
+        String body = objectMapper.writeValueAsString(new BookDto.CoverUrlRequest("https://example.com/a.png"));
+
+        mockMvc.perform(put("/api/books/" + savedBookId + "/cover-url")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header(HttpHeaders.IF_MATCH, BookETag.of(savedBookId, 5L))
+                        .content(body))
+                .andExpect(status().isPreconditionFailed());
+
+        mockMvc.perform(put("/api/books/" + (savedBookId + 1000) + "/cover-url")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isNotFound());
+    }
+}
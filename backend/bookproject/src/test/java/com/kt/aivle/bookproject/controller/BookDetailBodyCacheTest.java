@@ -0,0 +1,104 @@
+package com.kt.aivle.bookproject.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kt.aivle.bookproject.config.CacheConfig;
+import com.kt.aivle.bookproject.domain.Book;
+import com.kt.aivle.bookproject.dto.BookDto;
+import com.kt.aivle.bookproject.repository.BookRepository;
+import com.kt.aivle.bookproject.service.BookService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class BookDetailBodyCacheTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private BookDetailBodyCache bookDetailBodyCache;
+
+    private Long savedBookId;
+
+    @BeforeEach
+    void setup() {
+        Book book = new Book();
+        book.setTitle("테스트 책");
+        book.setAuthor("저자");
+        book.setContent("내용");
+        book.setSummary("요약");
+        savedBookId = bookRepository.save(book).getId();
+    }
+
+    @Test
+    void getBook_afterUpdate_returnsNewBodyAndETag() throws Exception {
+        String oldETag = mockMvc.perform(get("/api/books/" + savedBookId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.title").value("테스트 책"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(put("/api/books/" + savedBookId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header(HttpHeaders.IF_MATCH, oldETag)
+                        .content(objectMapper.writeValueAsString(
+                                new BookDto.UpdateRequest("수정된 책", "새 내용", "저자", "요약", null))))
+                .andExpect(status().isOk());
+
+        String newETag = mockMvc.perform(get("/api/books/" + savedBookId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.title").value("수정된 책"))
+                .andExpect(jsonPath("$.data.content").value("새 내용"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        assertThat(newETag).isEqualTo(BookETag.of(savedBookId, 1L)).isNotEqualTo(oldETag);
+    }
+
+    @Test
+    void getBook_staleDetailCache_doesNotLeakIntoBody() throws Exception {
+        mockMvc.perform(get("/api/books/" + savedBookId))
+                .andExpect(status().isOk());
+        BookDto.DetailResponse staleDto = bookService.getBook(savedBookId);
+
+        mockMvc.perform(put("/api/books/" + savedBookId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new BookDto.UpdateRequest("수정된 책", "새 내용", "저자", "요약", null))))
+                .andExpect(status().isOk());
+
+        // 상세 DTO 캐시 제거보다 바이트 캐시 제거가 먼저 끝난 상황을 재현
+        cacheManager.getCache(CacheConfig.BOOK_DETAIL_CACHE).put(savedBookId, staleDto);
+        assertThat(bookDetailBodyCache.getIfPresent(savedBookId)).isNull();
+
+        mockMvc.perform(get("/api/books/" + savedBookId))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, BookETag.of(savedBookId, 1L)))
+                .andExpect(jsonPath("$.data.title").value("수정된 책"));
+    }
+}
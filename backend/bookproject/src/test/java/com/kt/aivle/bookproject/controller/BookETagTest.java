@@ -0,0 +1,28 @@
+package com.kt.aivle.bookproject.controller;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BookETagTest {
+
+    @Test
+    @DisplayName("If-Match 에서 같은 도서의 ETag 버전만 꺼냄")
+    void expectedVersion_from_if_match() {
+        String eTag = BookETag.of(7L, 3L);
+
+        assertThat(BookETag.expectedVersion(7L, eTag)).isEqualTo(3L);
+        assertThat(BookETag.expectedVersion(7L, "\"1-v9\", " + eTag)).isEqualTo(3L);
+        assertThat(BookETag.expectedVersion(7L, null)).isNull();
+        assertThat(BookETag.expectedVersion(7L, "*")).isNull();
+    }
+
+    @Test
+    @DisplayName("다른 도서의 ETag, 약한 ETag, 형식이 다른 값은 일치하지 않음")
+    void expectedVersion_no_match() {
+        assertThat(BookETag.expectedVersion(7L, BookETag.of(8L, 3L))).isEqualTo(BookETag.NO_MATCH);
+        assertThat(BookETag.expectedVersion(7L, "W/" + BookETag.of(7L, 3L))).isEqualTo(BookETag.NO_MATCH);
+        assertThat(BookETag.expectedVersion(7L, "\"7-vX\"")).isEqualTo(BookETag.NO_MATCH);
+    }
+}
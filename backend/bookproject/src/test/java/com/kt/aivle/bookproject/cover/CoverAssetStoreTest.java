@@ -0,0 +1,139 @@
+package com.kt.aivle.bookproject.cover;
+
+import com.kt.aivle.bookproject.exception.InvalidRequestException;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CoverAssetStoreTest {
+
+    @TempDir
+    Path dir;
+
+    private CoverAssetStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new CoverAssetStore(dir, 1024 * 1024, 200, Duration.ofSeconds(1));
+    }
+
+    @Test
+    @DisplayName("같은 이미지는 내용 해시 이름의 파일 하나로 저장하고 가로 200px 썸네일을 생성")
+    void store_is_content_addressed_with_thumbnail() throws IOException {
+        // given
+        byte[] png = png(800, 1200);
+
+        // when
+        CoverAsset first = store.store(new ByteArrayInputStream(png));
+        CoverAsset second = store.store(new ByteArrayInputStream(png));
+
+        // then
+        assertThat(second.getId()).isEqualTo(first.getId()).matches("[0-9a-f]{64}\\.png");
+        assertThat(first.getUrl()).isEqualTo("/api/covers/" + first.getId());
+        assertThat(first.getThumbnailUrl()).isEqualTo(CoverAssetStore.thumbnailUrlOf(first.getUrl()));
+        assertThat(Files.readAllBytes(store.findOriginal(first.getId()).orElseThrow())).isEqualTo(png);
+
+        String thumbnailId = first.getThumbnailUrl().substring(CoverAssetStore.THUMBNAIL_URL_PREFIX.length());
+        BufferedImage thumbnail = ImageIO.read(store.findThumbnail(thumbnailId).orElseThrow().toFile());
+        assertThat(thumbnail.getWidth()).isEqualTo(200);
+        assertThat(thumbnail.getHeight()).isEqualTo(300);
+    }
+
+    @Test
+    @DisplayName("이미지가 아니거나 최대 크기를 넘으면 저장하지 않고, 형식이 다른 ID 는 찾지 않음")
+    void rejects_invalid_input() {
+        assertThatThrownBy(() -> store.store(new ByteArrayInputStream("not an image".getBytes(StandardCharsets.UTF_8))))
+                .isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> store.store(new ByteArrayInputStream(new byte[1024 * 1024 + 1])))
+                .isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> store.download("file:///etc/passwd"))
+                .isInstanceOf(InvalidRequestException.class);
+
+        assertThat(store.findOriginal("../../etc/passwd")).isEmpty();
+        assertThat(store.findOriginal("a".repeat(64) + ".png")).isEmpty();
+        assertThat(CoverAssetStore.thumbnailUrlOf("https://example.com/cover.png")).isNull();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "http://127.0.0.1/cover.png",
+            "http://localhost/cover.png",
+            "http://0.0.0.0/cover.png",
+            "http://10.0.0.1/cover.png",
+            "http://172.16.0.1/cover.png",
+            "http://192.168.0.1/cover.png",
+            "http://169.254.169.254/latest/meta-data/",
+            "http://[::1]/cover.png",
+            "http://[fd00::1]/cover.png",
+            "http://[fe80::1]/cover.png"
+    })
+    @DisplayName("루프백/사설/링크 로컬/와일드카드 주소로는 내려받지 않음")
+    void download_rejects_internal_targets(String url) {
+        assertThatThrownBy(() -> store.download(url))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessage("내려받을 수 없는 표지 URL 입니다.");
+    }
+
+    @Test
+    @DisplayName("리다이렉트 대상도 다시 검사하고, 실패 사유는 응답 메시지에 담지 않음")
+    void download_revalidates_redirects() throws IOException {
+        // given: 테스트 서버가 있는 루프백은 허용하고 링크 로컬(메타데이터 주소)만 막음
+        CoverAssetStore linkLocalBlocked = new CoverAssetStore(dir, 1024 * 1024, 200, Duration.ofSeconds(1),
+                InetAddress::isLinkLocalAddress);
+        AtomicInteger requests = new AtomicInteger();
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/redirect", exchange -> {
+            requests.incrementAndGet();
+            exchange.getResponseHeaders().add("Location", "http://169.254.169.254/latest/meta-data/");
+            exchange.sendResponseHeaders(302, -1);
+            exchange.close();
+        });
+        server.createContext("/missing", exchange -> {
+            exchange.sendResponseHeaders(404, -1);
+            exchange.close();
+        });
+        server.start();
+        String base = "http://127.0.0.1:" + server.getAddress().getPort();
+        try {
+            // when & then
+            assertThatThrownBy(() -> linkLocalBlocked.download(base + "/redirect"))
+                    .isInstanceOf(InvalidRequestException.class)
+                    .hasMessage("내려받을 수 없는 표지 URL 입니다.");
+            assertThat(requests).hasValue(1);
+
+            assertThatThrownBy(() -> linkLocalBlocked.download(base + "/missing"))
+                    .isInstanceOf(InvalidRequestException.class)
+                    .hasMessage("표지 이미지를 내려받지 못했습니다.");
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    private static byte[] png(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        image.setRGB(10, 10, 0xFF336699);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+}
@@ -3,6 +3,7 @@ package com.kt.aivle.bookproject.domain;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -30,6 +31,7 @@ class BookTest {
         // then
         assertThat(book.getTitle()).isEqualTo(title);
         assertThat(book.getContent()).isEqualTo(content);
+        assertThat(book.getContentLength()).isEqualTo(content.getBytes(StandardCharsets.UTF_8).length);
         assertThat(book.getAuthor()).isEqualTo(author);
         assertThat(book.getSummary()).isEqualTo(summary);
         assertThat(book.getCoverImageUrl()).isEqualTo(coverImageUrl);
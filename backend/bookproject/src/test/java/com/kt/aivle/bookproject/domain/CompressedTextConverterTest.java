@@ -0,0 +1,129 @@
+package com.kt.aivle.bookproject.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CompressedTextConverterTest {
+
+    private final CompressedTextConverter converter = new CompressedTextConverter();
+
+    @Test
+    @DisplayName("반복이 많은 긴 본문은 압축되고 원문으로 복원됨")
+    void compresses_long_text() {
+        String text = "옛날 옛적에 한 마을에 책을 좋아하는 아이가 살았습니다. ".repeat(500);
+
+        byte[] stored = converter.convertToDatabaseColumn(text);
+
+        assertThat(stored[0]).isEqualTo(CompressedTextConverter.BLOCKED);
+        assertThat(stored.length).isLessThan(text.getBytes(StandardCharsets.UTF_8).length / 10);
+        assertThat(converter.convertToEntityAttribute(stored)).isEqualTo(text);
+    }
+
+    @Test
+    @DisplayName("큰 본문의 끝 구간은 해당 블록부터 압축을 풀어 읽음")
+    void opens_stream_at_offset_without_inflating_earlier_blocks() throws IOException {
+        // given: 블록 여러 개에 걸친 본문 (줄마다 번호가 달라 블록마다 내용이 다름)
+        StringBuilder builder = new StringBuilder();
+        for (int line = 0; builder.length() < 2_000_000; line++) {
+            builder.append(line).append("번째 줄: 옛날 옛적에 한 마을에 책을 좋아하는 아이가 살았습니다.\n");
+        }
+        byte[] raw = builder.toString().getBytes(StandardCharsets.UTF_8);
+        byte[] stored = CompressedTextConverter.encode(builder.toString());
+        long offset = raw.length - 5000;
+
+        // when
+        CountingInputStream source = new CountingInputStream(new ByteArrayInputStream(stored));
+        byte[] tail;
+        try (InputStream content = CompressedTextConverter.openStream(source, offset)) {
+            tail = content.readAllBytes();
+        }
+
+        // then: 끝 구간만 읽히고, 압축 데이터는 마지막 블록 근처만 실제로 읽음
+        assertThat(tail).isEqualTo(Arrays.copyOfRange(raw, (int) offset, raw.length));
+        assertThat(source.read).isLessThan(stored.length / 10);
+        assertThat(CompressedTextConverter.decode(stored)).isEqualTo(builder.toString());
+        try (InputStream content = CompressedTextConverter.openStream(new ByteArrayInputStream(stored), raw.length)) {
+            assertThat(content.read()).isEqualTo(-1);
+        }
+        try (InputStream content = CompressedTextConverter.openStream(
+                new ByteArrayInputStream(stored), CompressedTextConverter.BLOCK_SIZE)) {
+            assertThat(content.readNBytes(100))
+                    .isEqualTo(Arrays.copyOfRange(raw, CompressedTextConverter.BLOCK_SIZE, CompressedTextConverter.BLOCK_SIZE + 100));
+        }
+    }
+
+    @Test
+    @DisplayName("짧은 글과 압축되지 않는 데이터는 그대로 저장")
+    void stores_raw_when_not_worth_compressing() {
+        byte[] noise = new byte[4096];
+        new Random(42).nextBytes(noise);
+        StringBuilder random = new StringBuilder();
+        for (byte b : noise) {
+            random.append((char) ('가' + (b & 0xFF)));
+        }
+
+        byte[] shortStored = converter.convertToDatabaseColumn("짧은 본문");
+        byte[] randomStored = converter.convertToDatabaseColumn(random.toString());
+
+        assertThat(shortStored[0]).isEqualTo(CompressedTextConverter.RAW);
+        assertThat(converter.convertToEntityAttribute(shortStored)).isEqualTo("짧은 본문");
+        assertThat(converter.convertToEntityAttribute(randomStored)).isEqualTo(random.toString());
+        assertThat(converter.convertToDatabaseColumn(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("UTF-8 길이 계산과 손상된 데이터 처리")
+    void utf8_length_and_corruption() {
+        String text = "abc 한글 😀";
+        assertThat(CompressedTextConverter.utf8Length(text)).isEqualTo(text.getBytes(StandardCharsets.UTF_8).length);
+
+        byte[] stored = converter.convertToDatabaseColumn("x".repeat(2000));
+        stored[stored.length - 1] ^= 0x7F;
+        // 블록 형식 헤더(13바이트 + 블록 시작 위치 4바이트) 뒤의 압축 데이터를 손상
+        stored[20] ^= 0x55;
+        assertThatThrownBy(() -> converter.convertToEntityAttribute(stored)).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> converter.convertToEntityAttribute(new byte[]{9, 0, 0, 0, 1, 1}))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    /**
+     * 건너뛴 바이트를 제외하고 실제로 읽은 바이트 수를 세는 스트림
+     */
+    private static class CountingInputStream extends FilterInputStream {
+
+        private long read;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                read++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                read += n;
+            }
+            return n;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.kt.aivle.bookproject.dto;
+
+import com.kt.aivle.bookproject.exception.InvalidRequestException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BookCursorTest {
+
+    @Test
+    @DisplayName("encode() / decode() - 커서 왕복 변환 테스트")
+    void encodeAndDecode() {
+        // given
+        LocalDateTime createdAt = LocalDateTime.of(2024, 5, 1, 12, 30, 15, 123456000);
+        BookCursor cursor = new BookCursor(createdAt, 42L);
+
+        // when
+        BookCursor decoded = BookCursor.decode(cursor.encode());
+
+        // then
+        assertThat(decoded.getCreatedAt()).isEqualTo(createdAt);
+        assertThat(decoded.getId()).isEqualTo(42L);
+    }
+
+    @Test
+    @DisplayName("decode() - 잘못된 커서는 InvalidRequestException 발생")
+    void decodeInvalidCursor() {
+        assertThatThrownBy(() -> BookCursor.decode("not-a-cursor"))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessageContaining("유효하지 않은 커서");
+    }
+}
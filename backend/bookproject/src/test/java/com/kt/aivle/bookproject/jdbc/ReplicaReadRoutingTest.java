@@ -0,0 +1,88 @@
+package com.kt.aivle.bookproject.jdbc;
+
+import com.kt.aivle.bookproject.domain.Book;
+import com.kt.aivle.bookproject.repository.BookRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:replica-routing;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "book.datasource.replica.enabled=true",
+        "book.datasource.replica.url=jdbc:h2:mem:replica-routing;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "book.datasource.replica.username=sa",
+        "book.datasource.replica.hikari.pool-name=book-replica-pool"
+})
+@AutoConfigureMockMvc
+class ReplicaReadRoutingTest {
+
+    private static final String PRIMARY_POOL = "book-pool";
+    private static final String REPLICA_POOL = "book-replica-pool";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private ReadYourWritesTracker tracker;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Long savedBookId;
+
+    @BeforeEach
+    void setup() {
+        Book book = new Book();
+        book.setTitle("복제본 테스트");
+        book.setAuthor("저자");
+        book.setContent("내용");
+        savedBookId = bookRepository.save(book).getId();
+    }
+
+    @Test
+    @DisplayName("목록과 상세 조회는 복제본 풀에서 커넥션을 가져옴")
+    void reads_are_served_by_replica_pool() throws Exception {
+        double replicaBefore = acquisitions(REPLICA_POOL);
+
+        mockMvc.perform(get("/api/books").header(ReplicaClientFilter.CLIENT_ID_HEADER, "reader"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/books/" + savedBookId).header(ReplicaClientFilter.CLIENT_ID_HEADER, "reader"))
+                .andExpect(status().isOk());
+
+        // 목록 1회 + 상세 1회 (검색 인덱스 적재 등 백그라운드 작업은 primary를 쓰므로 복제본 집계에 섞이지 않음)
+        assertThat(acquisitions(REPLICA_POOL)).isEqualTo(replicaBefore + 2);
+    }
+
+    @Test
+    @DisplayName("최근에 쓰기를 커밋한 클라이언트의 조회는 primary 풀에서 커넥션을 가져옴")
+    void recent_writer_reads_from_primary_pool() throws Exception {
+        tracker.markWrite("writer");
+        double primaryBefore = acquisitions(PRIMARY_POOL);
+        double replicaBefore = acquisitions(REPLICA_POOL);
+
+        mockMvc.perform(get("/api/books").header(ReplicaClientFilter.CLIENT_ID_HEADER, "writer"))
+                .andExpect(status().isOk());
+
+        assertThat(acquisitions(PRIMARY_POOL)).isGreaterThan(primaryBefore);
+        assertThat(acquisitions(REPLICA_POOL)).isEqualTo(replicaBefore);
+    }
+
+    private double acquisitions(String pool) {
+        Timer timer = meterRegistry.find("hikaricp.connections.acquire").tag("pool", pool).timer();
+        assertThat(timer).as(pool + " 풀 지표").isNotNull();
+        return timer.count();
+    }
+}
@@ -0,0 +1,67 @@
+package com.kt.aivle.bookproject.jdbc;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReplicaRoutingDataSourceTest {
+
+    private ReadYourWritesTracker tracker;
+    private ReplicaRoutingDataSource routing;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new ReadYourWritesTracker(Duration.ofMinutes(1));
+        routing = new ReplicaRoutingDataSource(tracker);
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clear();
+        ReplicationRouting.clearClientId();
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 복제본으로 라우팅")
+    void readOnly_goes_to_replica() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.REPLICA);
+    }
+
+    @Test
+    @DisplayName("쓰기 커밋 후 같은 클라이언트의 읽기는 primary, 다른 클라이언트는 복제본")
+    void read_your_writes() {
+        // given - client-a의 쓰기 트랜잭션 커밋
+        ReplicationRouting.setClientId("client-a");
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        // when
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // then
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+        ReplicationRouting.setClientId("client-b");
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.REPLICA);
+    }
+
+    @Test
+    @DisplayName("onPrimary 안의 읽기 전용 조회는 primary로 라우팅")
+    void onPrimary_forces_primary() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        Object key = ReplicationRouting.onPrimary(routing::determineCurrentLookupKey);
+
+        assertThat(key).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.REPLICA);
+    }
+}
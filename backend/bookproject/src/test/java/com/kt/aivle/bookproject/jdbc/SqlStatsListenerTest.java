@@ -0,0 +1,71 @@
+package com.kt.aivle.bookproject.jdbc;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SqlStatsListenerTest {
+
+    private final SqlStatsListener listener = new SqlStatsListener();
+
+    @AfterEach
+    void tearDown() {
+        SqlRequestStats.end();
+    }
+
+    @Test
+    @DisplayName("같은 SELECT가 임계값 이상 반복되면 N+1 의심으로 집계")
+    void repeated_select_detected() {
+        // given
+        SqlRequestStats stats = SqlRequestStats.begin();
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            execute(false, "select b.title from book b where b.book_id=?");
+        }
+        execute(false, "select count(*) from book");
+
+        // then
+        assertThat(stats.getStatementCount()).isEqualTo(6);
+        assertThat(stats.getRepeatedSelects(5))
+                .containsOnlyKeys("select b.title from book b where b.book_id=?");
+    }
+
+    @Test
+    @DisplayName("JDBC 배치 INSERT는 한 번의 실행으로 세고 N+1 대상에서 제외")
+    void batch_insert_counted_once() {
+        // given
+        SqlRequestStats stats = SqlRequestStats.begin();
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            execute(true, "insert into book (title,book_id) values (?,?)");
+        }
+
+        // then
+        assertThat(stats.getStatementCount()).isEqualTo(5);
+        assertThat(stats.getRepeatedSelects(5)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("요청 밖에서 실행된 쿼리는 무시")
+    void outside_request_ignored() {
+        execute(false, "select 1");
+
+        assertThat(SqlRequestStats.current()).isNull();
+    }
+
+    private void execute(boolean batch, String sql) {
+        ExecutionInfo info = new ExecutionInfo();
+        info.setBatch(batch);
+        List<QueryInfo> queries = List.of(new QueryInfo(sql));
+        listener.beforeQuery(info, queries);
+        listener.afterQuery(info, queries);
+    }
+}
@@ -0,0 +1,67 @@
+package com.kt.aivle.bookproject.repository;
+
+import com.kt.aivle.bookproject.domain.Book;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class BookRepositoryTest {
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Long savedBookId;
+
+    @BeforeEach
+    void setup() {
+        Book book = new Book();
+        book.setTitle("지연 로딩");
+        book.setAuthor("저자");
+        book.setContent("본문");
+        savedBookId = bookRepository.save(book).getId();
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("도서를 읽어도 본문은 접근하기 전까지 읽지 않음")
+    void content_is_lazy() {
+        Book book = bookRepository.findById(savedBookId).orElseThrow();
+
+        assertThat(Hibernate.isPropertyInitialized(book, "content")).isFalse();
+        assertThat(book.getTitle()).isEqualTo("지연 로딩");
+        assertThat(book.getContent()).isEqualTo("본문");
+    }
+
+    @Test
+    @DisplayName("상세 조회용 메서드는 본문을 함께 읽음")
+    void findWithContentById_fetches_content() {
+        Book book = bookRepository.findWithContentById(savedBookId).orElseThrow();
+
+        assertThat(Hibernate.isPropertyInitialized(book, "content")).isTrue();
+    }
+
+    @Test
+    @DisplayName("본문을 읽지 않은 도서의 본문을 바꾸면 새 본문과 길이로 저장됨")
+    void content_update_without_loading() {
+        Book book = bookRepository.findById(savedBookId).orElseThrow();
+        book.setContent("새 본문입니다");
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(bookRepository.findWithContentById(savedBookId).orElseThrow().getContent()).isEqualTo("새 본문입니다");
+        assertThat(bookRepository.findContentLengthById(savedBookId)).contains(19L);
+    }
+}
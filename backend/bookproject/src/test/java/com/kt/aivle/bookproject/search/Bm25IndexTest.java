@@ -0,0 +1,114 @@
+package com.kt.aivle.bookproject.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class Bm25IndexTest {
+
+    // 제목, 작가, 요약, 본문
+    private static final float[] BOOSTS = {3.0f, 2.0f, 1.5f, 1.0f};
+
+    private Bm25Index<String> newIndex() {
+        return new Bm25Index<>(BOOSTS, 1.2f, 0.75f);
+    }
+
+    @Test
+    @DisplayName("제목에 일치한 도서가 본문에만 일치한 도서보다 먼저 나옴")
+    void title_match_outranks_content_match() {
+        Bm25Index<String> index = newIndex();
+        index.put(1L, new String[]{"요리의 기초", "김작가", null, "자바 이야기가 잠깐 나온다"}, "요리");
+        index.put(2L, new String[]{"자바 프로그래밍", "이작가", null, "객체 지향 설명"}, "자바");
+        index.put(3L, new String[]{"여행 안내", "박작가", null, "바다와 산"}, "여행");
+
+        Bm25Index.Result<String> result = index.search("자바", 0, 10);
+
+        assertThat(result.getTotal()).isEqualTo(2);
+        assertThat(result.getItems()).extracting(Bm25Index.Scored::getDocument)
+                .containsExactly("자바", "요리");
+        assertThat(result.getItems().get(0).getScore()).isGreaterThan(result.getItems().get(1).getScore());
+    }
+
+    @Test
+    @DisplayName("띄어쓰기 없는 한글 단어 안의 부분 문자열로도 찾음")
+    void matches_korean_substring() {
+        Bm25Index<String> index = newIndex();
+        index.put(1L, new String[]{"해리포터와마법사의돌", "롤링", null, null}, "해리포터");
+
+        assertThat(index.search("마법사", 0, 10).getItems()).extracting(Bm25Index.Scored::getDocument)
+                .containsExactly("해리포터");
+        assertThat(index.search("요리", 0, 10).getTotal()).isZero();
+    }
+
+    @Test
+    @DisplayName("점수가 같으면 ID 내림차순이며 offset/limit 구간만 반환")
+    void pages_in_score_then_id_order() {
+        Bm25Index<String> index = newIndex();
+        for (long id = 1; id <= 25; id++) {
+            index.put(id, new String[]{"같은 제목", null, null, null}, "book-" + id);
+        }
+
+        Bm25Index.Result<String> page = index.search("같은 제목", 10, 5);
+
+        assertThat(page.getTotal()).isEqualTo(25);
+        assertThat(page.getItems()).extracting(Bm25Index.Scored::getId)
+                .containsExactly(15L, 14L, 13L, 12L, 11L);
+        assertThat(index.search("같은 제목", 30, 5).getItems()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("반복 검색해도 이전 검색의 점수가 다음 검색 결과에 섞이지 않음 (다른 색인 포함)")
+    void repeated_searches_do_not_leak_scores() {
+        Bm25Index<String> index = newIndex();
+        index.put(1L, new String[]{"자바 프로그래밍", null, null, null}, "자바");
+        index.put(2L, new String[]{"자바와 요리", null, null, null}, "자바요리");
+        Bm25Index<String> other = newIndex();
+        other.put(1L, new String[]{"요리의 기초", null, null, null}, "요리");
+
+        float first = index.search("자바", 0, 10).getItems().get(0).getScore();
+        index.search("요리", 0, 10);
+        other.search("요리", 0, 10);
+
+        assertThat(index.search("자바", 0, 10).getItems().get(0).getScore()).isEqualTo(first);
+        assertThat(other.search("자바", 0, 10).getTotal()).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 문서를 반복 교체해도 삭제 표시된 항목이 재구성되어 쌓이지 않음")
+    void repeated_puts_are_compacted() {
+        Bm25Index<String> index = newIndex();
+        index.put(2L, new String[]{"자바와 요리", null, null, null}, "자바요리");
+        for (int i = 0; i < 5_000; i++) {
+            index.put(1L, new String[]{"자바 프로그래밍 " + i, null, null, null}, "자바-" + i);
+        }
+
+        // 살아있는 문서 2개 + 재구성 기준(1024) 미만의 삭제 표시만 남음
+        assertThat(index.ordinalCount()).isLessThan(2 + 1_024);
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.search("프로그래밍", 0, 10).getItems()).extracting(Bm25Index.Scored::getDocument)
+                .containsExactly("자바-4999");
+    }
+
+    @Test
+    @DisplayName("삭제/교체된 문서는 검색되지 않고, 재구성 후에도 결과가 유지됨")
+    void remove_and_replace() {
+        Bm25Index<String> index = newIndex();
+        for (long id = 1; id <= 3000; id++) {
+            index.put(id, new String[]{"도서 " + id, null, null, null}, "old-" + id);
+        }
+        index.put(7L, new String[]{"새로운 제목", null, null, null}, "new-7");
+        for (long id = 8; id <= 3000; id++) {
+            index.remove(id);
+        }
+
+        assertThat(index.size()).isEqualTo(7);
+        List<String> found = index.search("도서", 0, 100).getItems().stream()
+                .map(Bm25Index.Scored::getDocument).toList();
+        assertThat(found).containsExactly("old-6", "old-5", "old-4", "old-3", "old-2", "old-1");
+        assertThat(index.search("새로운", 0, 10).getItems()).extracting(Bm25Index.Scored::getDocument)
+                .containsExactly("new-7");
+    }
+}
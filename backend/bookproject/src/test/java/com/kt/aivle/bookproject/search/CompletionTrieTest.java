@@ -0,0 +1,116 @@
+package com.kt.aivle.bookproject.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompletionTrieTest {
+
+    @Test
+    @DisplayName("접두어로 시작하는 완성어를 도서 수가 많은 순으로 반환")
+    void suggest_orders_by_count() {
+        CompletionTrie trie = new CompletionTrie(10);
+        trie.add("자바 프로그래밍", "title");
+        trie.add("자바스크립트 입문", "title");
+        trie.add("자바스크립트 입문", "title");
+        trie.add("파이썬 기초", "title");
+
+        List<CompletionTrie.Completion> result = trie.suggest("자바", 10);
+
+        assertThat(result).extracting(CompletionTrie.Completion::getText)
+                .containsExactly("자바스크립트 입문", "자바 프로그래밍");
+        assertThat(result.get(0).getCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("간선 중간에서 끝나는 접두어와 대소문자/공백 차이를 처리")
+    void suggest_prefix_inside_edge() {
+        CompletionTrie trie = new CompletionTrie(10);
+        trie.add("Harry Potter", "title");
+        trie.add("Harry  Potter", "title");
+        trie.add("J.K. Rowling", "author");
+
+        assertThat(trie.suggest("harry p", 10)).extracting(CompletionTrie.Completion::getText)
+                .containsExactly("Harry Potter");
+        assertThat(trie.suggest("HAR", 10).get(0).getCount()).isEqualTo(2);
+        assertThat(trie.suggest("harx", 10)).isEmpty();
+        assertThat(trie.suggest("j.k", 10)).extracting(CompletionTrie.Completion::getType)
+                .containsExactly("author");
+    }
+
+    @Test
+    @DisplayName("같은 문구라도 제목과 작가는 별도 완성어")
+    void same_text_different_type() {
+        CompletionTrie trie = new CompletionTrie(10);
+        trie.add("한강", "title");
+        trie.add("한강", "author");
+
+        assertThat(trie.suggest("한", 10)).extracting(CompletionTrie.Completion::getType)
+                .containsExactlyInAnyOrder("title", "author");
+        assertThat(trie.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("삭제 후에는 완성어가 사라지고 남은 키는 그대로 조회")
+    void remove_prunes_nodes() {
+        CompletionTrie trie = new CompletionTrie(10);
+        trie.add("abc", "title");
+        trie.add("abd", "title");
+        trie.add("ab", "title");
+
+        trie.remove("abc", "title");
+        trie.remove("ab", "title");
+
+        assertThat(trie.suggest("ab", 10)).extracting(CompletionTrie.Completion::getText).containsExactly("abd");
+        assertThat(trie.suggest("abc", 10)).isEmpty();
+        assertThat(trie.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("무작위 추가/삭제 후에도 노드별 상위 k개가 전체 정렬 결과와 같음")
+    void topK_matches_bruteForce() {
+        CompletionTrie trie = new CompletionTrie(5);
+        List<String> live = new ArrayList<>();
+        Random random = new Random(42);
+        String[] syllables = {"가", "나", "다", "라", "가나"};
+        for (int i = 0; i < 2000; i++) {
+            if (!live.isEmpty() && random.nextInt(3) == 0) {
+                String removed = live.remove(random.nextInt(live.size()));
+                trie.remove(removed, "title");
+            } else {
+                StringBuilder sb = new StringBuilder();
+                int length = 1 + random.nextInt(4);
+                for (int j = 0; j < length; j++) {
+                    sb.append(syllables[random.nextInt(syllables.length)]);
+                }
+                live.add(sb.toString());
+                trie.add(sb.toString(), "title");
+            }
+        }
+
+        for (String prefix : List.of("가", "가나", "나다", "라")) {
+            List<String> expected = live.stream()
+                    .filter(text -> text.startsWith(prefix))
+                    .collect(Collectors.groupingBy(text -> text, Collectors.counting()))
+                    .entrySet().stream()
+                    .sorted((a, b) -> b.getValue().equals(a.getValue())
+                            ? a.getKey().compareTo(b.getKey())
+                            : Long.compare(b.getValue(), a.getValue()))
+                    .limit(5)
+                    .map(e -> e.getKey() + ":" + e.getValue())
+                    .toList();
+
+            List<String> actual = trie.suggest(prefix, 5).stream()
+                    .map(c -> c.getText() + ":" + c.getCount())
+                    .toList();
+
+            assertThat(actual).as("prefix %s", prefix).isEqualTo(expected);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.kt.aivle.bookproject.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NGramIndexTest {
+
+    private NGramIndex<String> index;
+
+    @BeforeEach
+    void setUp() {
+        index = new NGramIndex<>();
+        index.put(1L, "자바 프로그래밍\u0000김자바", "자바 프로그래밍");
+        index.put(2L, "Spring Boot 입문\u0000홍길동", "Spring Boot 입문");
+        index.put(3L, "파이썬 프로그래밍\u0000이파이", "파이썬 프로그래밍");
+    }
+
+    @Test
+    @DisplayName("한글 부분 문자열 검색")
+    void searchKoreanSubstring() {
+        // when
+        NGramIndex.Result<String> result = index.search("프로그래", Comparator.naturalOrder(), 0, 10);
+
+        // then
+        assertThat(result.getTotal()).isEqualTo(2);
+        assertThat(result.getItems()).containsExactly("자바 프로그래밍", "파이썬 프로그래밍");
+    }
+
+    @Test
+    @DisplayName("대소문자 무시 검색")
+    void searchIgnoreCase() {
+        // when
+        NGramIndex.Result<String> result = index.search("BOOT", Comparator.naturalOrder(), 0, 10);
+
+        // then
+        assertThat(result.getItems()).containsExactly("Spring Boot 입문");
+    }
+
+    @Test
+    @DisplayName("바이그램이 모두 있어도 연속되지 않으면 일치하지 않음")
+    void searchRequiresContiguousMatch() {
+        // given - "밍김" 은 필드 경계를 넘으므로, "자프" 는 바이그램이 없으므로 일치하지 않아야 함
+        index.put(4L, "자바 프자", "자바 프자");
+
+        // when & then
+        assertThat(index.search("밍김", Comparator.naturalOrder(), 0, 10).getTotal()).isZero();
+        assertThat(index.search("바프", Comparator.naturalOrder(), 0, 10).getTotal()).isZero();
+    }
+
+    @Test
+    @DisplayName("한 글자 검색어")
+    void searchSingleCharacter() {
+        // when
+        NGramIndex.Result<String> result = index.search("썬", Comparator.naturalOrder(), 0, 10);
+
+        // then
+        assertThat(result.getItems()).containsExactly("파이썬 프로그래밍");
+    }
+
+    @Test
+    @DisplayName("문서 교체와 삭제가 검색 결과에 반영됨")
+    void putAndRemove() {
+        // when
+        index.put(1L, "코틀린 프로그래밍", "코틀린 프로그래밍");
+        index.remove(3L);
+
+        // then
+        assertThat(index.search("프로그래밍", Comparator.naturalOrder(), 0, 10).getItems())
+                .containsExactly("코틀린 프로그래밍");
+        assertThat(index.search("자바", Comparator.naturalOrder(), 0, 10).getTotal()).isZero();
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("같은 문서를 반복 교체해도 삭제 표시된 항목이 재구성되어 쌓이지 않음")
+    void repeatedPutsAreCompacted() {
+        // when
+        for (int i = 0; i < 5_000; i++) {
+            index.put(1L, "자바 프로그래밍 " + i, "자바 프로그래밍 " + i);
+        }
+
+        // then - 살아있는 문서 3개 + 재구성 기준(1024) 미만의 삭제 표시만 남음
+        assertThat(index.ordinalCount()).isLessThan(3 + 1_024);
+        assertThat(index.size()).isEqualTo(3);
+        assertThat(index.search("자바", Comparator.naturalOrder(), 0, 10).getItems())
+                .containsExactly("자바 프로그래밍 4999");
+    }
+
+    @Test
+    @DisplayName("페이지 구간만 반환하고 전체 건수는 유지")
+    void searchPaging() {
+        // given
+        for (long id = 10; id < 35; id++) {
+            index.put(id, "시리즈 " + id, "시리즈 " + id);
+        }
+
+        // when
+        NGramIndex.Result<String> result = index.search("시리즈", Comparator.naturalOrder(), 10, 10);
+
+        // then
+        assertThat(result.getTotal()).isEqualTo(25);
+        assertThat(result.getItems()).hasSize(10).startsWith("시리즈 20").endsWith("시리즈 29");
+    }
+}
@@ -0,0 +1,138 @@
+package com.kt.aivle.bookproject.service;
+
+import com.kt.aivle.bookproject.repository.BookIdRange;
+import com.kt.aivle.bookproject.repository.BookRepository;
+import com.kt.aivle.bookproject.repository.BookSampleCount;
+import com.kt.aivle.bookproject.search.BookSearchIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class BookCountEstimatorTest {
+
+    private BookRepository bookRepository;
+    private BookSearchIndex bookSearchIndex;
+    private BookCountEstimator estimator;
+
+    @BeforeEach
+    void setUp() {
+        bookRepository = mock(BookRepository.class);
+        bookSearchIndex = mock(BookSearchIndex.class);
+        // 표본 2000건 = ID 폭 100 인 창 20개
+        estimator = new BookCountEstimator(bookRepository, bookSearchIndex, 2000, Duration.ofMinutes(1));
+    }
+
+    @Test
+    @DisplayName("검색 인덱스가 준비되어 있으면 인덱스의 도서 수를 전체 건수로 사용")
+    void estimateTotal_uses_index_size() {
+        // given
+        when(bookSearchIndex.isReady()).thenReturn(true);
+        when(bookSearchIndex.size()).thenReturn(12_345);
+
+        // when
+        long result = estimator.estimateTotal();
+
+        // then
+        assertThat(result).isEqualTo(12_345L);
+        verifyNoInteractions(bookRepository);
+    }
+
+    @Test
+    @DisplayName("ID 범위 전체에 고르게 흩어진 표본의 일치 비율에 전체 도서 수를 곱해 추정하고 결과를 재사용")
+    void estimateMatches_scales_stratified_sample() {
+        // given
+        when(bookSearchIndex.isReady()).thenReturn(true);
+        when(bookSearchIndex.size()).thenReturn(10_000);
+        when(bookRepository.findIdRange()).thenReturn(range(1L, 100_000L));
+        when(bookRepository.countSample(eq("%자바%"), anyLong(), anyLong())).thenReturn(count(5, 1));
+
+        // when
+        long first = estimator.estimateMatches(" 자바 ");
+        long second = estimator.estimateMatches("자바");
+
+        // then
+        assertThat(first).isEqualTo(2_000L);
+        assertThat(second).isEqualTo(2_000L);
+        ArgumentCaptor<Long> from = ArgumentCaptor.forClass(Long.class);
+        ArgumentCaptor<Long> to = ArgumentCaptor.forClass(Long.class);
+        verify(bookRepository, times(BookCountEstimator.SAMPLE_WINDOWS))
+                .countSample(anyString(), from.capture(), to.capture());
+        // 구간(ID 5000 폭)마다 창 하나씩
+        List<Long> starts = from.getAllValues();
+        for (int i = 0; i < starts.size(); i++) {
+            assertThat(starts.get(i)).isBetween(1L + i * 5_000L, 1L + i * 5_000L + 4_900L);
+            assertThat(to.getAllValues().get(i)).isEqualTo(starts.get(i) + 100L);
+        }
+    }
+
+    @Test
+    @DisplayName("검색 인덱스를 쓸 수 없으면 표본의 ID 밀도로 전체 도서 수를 추정")
+    void estimateTotal_without_index_uses_sample_density() {
+        // given
+        when(bookRepository.findIdRange()).thenReturn(range(1L, 100_000L));
+        when(bookRepository.countSample(eq("%"), anyLong(), anyLong())).thenReturn(count(50, 50));
+
+        // when
+        long first = estimator.estimateTotal();
+        long second = estimator.estimateTotal();
+
+        // then
+        assertThat(first).isEqualTo(50_000L);
+        assertThat(second).isEqualTo(50_000L);
+        verify(bookRepository, times(1)).findIdRange();
+    }
+
+    @Test
+    @DisplayName("ID 범위가 표본보다 좁으면 전체를 세고, LIKE 특수문자는 이스케이프")
+    void estimateMatches_small_table_counts_all() {
+        // given
+        when(bookRepository.findIdRange()).thenReturn(range(10L, 1_009L));
+        when(bookRepository.countSample("%100\\%%", 10L, 1_010L)).thenReturn(count(800, 3));
+
+        // when
+        long result = estimator.estimateMatches("100%");
+
+        // then
+        assertThat(result).isEqualTo(3L);
+        verify(bookRepository, times(1)).countSample(anyString(), anyLong(), anyLong());
+        verifyNoInteractions(bookSearchIndex);
+    }
+
+    private static BookIdRange range(Long minId, Long maxId) {
+        return new BookIdRange() {
+            @Override
+            public Long getMinId() {
+                return minId;
+            }
+
+            @Override
+            public Long getMaxId() {
+                return maxId;
+            }
+        };
+    }
+
+    private static BookSampleCount count(long books, long matches) {
+        return new BookSampleCount() {
+            @Override
+            public long getBooks() {
+                return books;
+            }
+
+            @Override
+            public long getMatches() {
+                return matches;
+            }
+        };
+    }
+}
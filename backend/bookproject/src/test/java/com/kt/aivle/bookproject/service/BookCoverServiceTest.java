@@ -0,0 +1,122 @@
+package com.kt.aivle.bookproject.service;
+
+import com.kt.aivle.bookproject.cover.CoverAssetStore;
+import com.kt.aivle.bookproject.cover.ImageGenerator;
+import com.kt.aivle.bookproject.dto.BookDto;
+import com.kt.aivle.bookproject.exception.ImageGenerationUnavailableException;
+import com.kt.aivle.bookproject.exception.InvalidRequestException;
+import com.kt.aivle.bookproject.exception.ResourceNotFoundException;
+import com.kt.aivle.bookproject.repository.BookRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class BookCoverServiceTest {
+
+    private BookRepository bookRepository;
+    private BookService bookService;
+    private final AtomicInteger generated = new AtomicInteger();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private volatile boolean failing;
+    private BookCoverServiceImpl coverService;
+
+    @BeforeEach
+    void setUp() {
+        bookRepository = mock(BookRepository.class);
+        bookService = mock(BookService.class);
+        when(bookRepository.existsById(anyLong())).thenAnswer(invocation -> invocation.<Long>getArgument(0) < 99);
+        when(bookService.updateCoverUrl(anyLong(), anyString())).thenAnswer(invocation -> new BookDto.CoverResponse(
+                invocation.getArgument(0), invocation.getArgument(1), 1L, LocalDateTime.now()));
+
+        ImageGenerator generator = prompt -> {
+            generated.incrementAndGet();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            if (failing) {
+                throw new IllegalStateException("이미지 API 오류");
+            }
+            return "https://images.example.com/" + prompt.replace(' ', '-') + ".png";
+        };
+        coverService = new BookCoverServiceImpl(bookRepository, bookService, generator, mock(CoverAssetStore.class),
+                new BookMetrics(new SimpleMeterRegistry()), 2, 10, 100, Duration.ofSeconds(5), false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        coverService.stop();
+    }
+
+    @Test
+    @DisplayName("같은 도서의 같은 프롬프트는 진행 중인 생성 하나를 함께 기다림")
+    void duplicate_requests_are_coalesced() throws Exception {
+        // when
+        CompletableFuture<BookDto.CoverResponse> first = coverService.generateCover(1L, "푸른 바다");
+        CompletableFuture<BookDto.CoverResponse> second = coverService.generateCover(1L, "  푸른   바다 ");
+        release.countDown();
+
+        // then
+        assertThat(first.get(5, TimeUnit.SECONDS).getCoverImageUrl())
+                .isEqualTo("https://images.example.com/푸른-바다.png");
+        assertThat(second.get(5, TimeUnit.SECONDS).getCoverImageUrl())
+                .isEqualTo(first.get().getCoverImageUrl());
+        assertThat(generated).hasValue(1);
+        verify(bookService, times(1)).updateCoverUrl(1L, "https://images.example.com/푸른-바다.png");
+    }
+
+    @Test
+    @DisplayName("이미 생성한 프롬프트는 다시 생성하지 않고 캐시된 이미지로 저장")
+    void generated_images_are_cached_by_prompt() throws Exception {
+        // given
+        release.countDown();
+        coverService.generateCover(1L, "붉은 노을").get(5, TimeUnit.SECONDS);
+
+        // when
+        BookDto.CoverResponse cover = coverService.generateCover(2L, "붉은 노을").get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(cover.getId()).isEqualTo(2L);
+        assertThat(cover.getCoverImageUrl()).isEqualTo("https://images.example.com/붉은-노을.png");
+        assertThat(generated).hasValue(1);
+        verify(bookService).updateCoverUrl(2L, "https://images.example.com/붉은-노을.png");
+    }
+
+    @Test
+    @DisplayName("생성 실패는 Future 예외로, 없는 도서와 빈 프롬프트는 바로 예외로 처리")
+    void failures() {
+        // given
+        failing = true;
+        release.countDown();
+
+        // when
+        CompletableFuture<BookDto.CoverResponse> future = coverService.generateCover(1L, "숲");
+
+        // then
+        assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(ImageGenerationUnavailableException.class);
+        verify(bookService, never()).updateCoverUrl(anyLong(), anyString());
+        assertThatThrownBy(() -> coverService.generateCover(99L, "숲"))
+                .isInstanceOf(ResourceNotFoundException.class);
+        assertThatThrownBy(() -> coverService.generateCover(1L, "   "))
+                .isInstanceOf(InvalidRequestException.class);
+    }
+}
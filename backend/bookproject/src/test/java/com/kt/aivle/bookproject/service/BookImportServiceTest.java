@@ -0,0 +1,123 @@
+package com.kt.aivle.bookproject.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kt.aivle.bookproject.dto.BookDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class BookImportServiceTest {
+
+    private BookService bookService;
+    private BookImportServiceImpl bookImportService;
+    private final List<Integer> chunkSizes = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        bookService = mock(BookService.class);
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        bookImportService = new BookImportServiceImpl(bookService, objectMapper, 2);
+
+        // 제목이 비어 있는 항목만 실패로 처리하는 가짜 일괄 생성
+        when(bookService.createBooks(anyList())).thenAnswer(invocation -> {
+            List<BookDto.CreateRequest> chunk = new ArrayList<>(invocation.getArgument(0));
+            chunkSizes.add(chunk.size());
+            List<BookDto.BatchItemResult> results = new ArrayList<>();
+            for (int i = 0; i < chunk.size(); i++) {
+                String title = chunk.get(i).getTitle();
+                results.add(title == null || title.isBlank()
+                        ? BookDto.BatchItemResult.error(i, null, "입력 값이 유효하지 않습니다.", null)
+                        : BookDto.BatchItemResult.success(i, (long) i));
+            }
+            return BookDto.BatchResponse.of(results);
+        });
+    }
+
+    @Test
+    @DisplayName("NDJSON 가져오기 - 청크 크기 단위로 저장")
+    void importNdjson_chunks() {
+        // given
+        InputStream input = stream("""
+                {"title":"책1","content":"본문1"}
+                {"title":"책2","content":"본문2"}
+                {"title":"책3","content":"본문3"}
+                """);
+
+        // when
+        BookDto.ImportResponse result = bookImportService.importNdjson(input);
+
+        // then
+        assertThat(result.getProcessed()).isEqualTo(3);
+        assertThat(result.getSucceeded()).isEqualTo(3);
+        assertThat(result.getChunks()).isEqualTo(2);
+        assertThat(chunkSizes).containsExactly(2, 1);
+    }
+
+    @Test
+    @DisplayName("NDJSON 가져오기 - 실패 레코드는 입력 순번과 함께 보고")
+    void importNdjson_reports_failed_record() {
+        // given
+        InputStream input = stream("""
+                {"title":"책1","content":"본문1"}
+                {"title":"책2","content":"본문2"}
+                {"title":"","content":"본문3"}
+                """);
+
+        // when
+        BookDto.ImportResponse result = bookImportService.importNdjson(input);
+
+        // then
+        assertThat(result.getFailed()).isEqualTo(1);
+        assertThat(result.getErrors()).extracting(BookDto.BatchItemResult::getIndex).containsExactly(2);
+    }
+
+    @Test
+    @DisplayName("NDJSON 가져오기 - 문법 오류가 나면 이전 레코드까지 저장하고 중단")
+    void importNdjson_aborts_on_syntax_error() {
+        // given
+        InputStream input = stream("""
+                {"title":"책1","content":"본문1"}
+                {"title":\s
+                """);
+
+        // when
+        BookDto.ImportResponse result = bookImportService.importNdjson(input);
+
+        // then
+        assertThat(result.isAborted()).isTrue();
+        assertThat(result.getSucceeded()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("CSV 가져오기 - 헤더 기준으로 필드 매핑")
+    void importCsv_success() {
+        // given
+        InputStream input = stream("""
+                title,content,author,summary
+                자바 프로그래밍,"본문, 쉼표 포함",김자바,요약
+                """);
+
+        // when
+        BookDto.ImportResponse result = bookImportService.importCsv(input);
+
+        // then
+        assertThat(result.getSucceeded()).isEqualTo(1);
+        verify(bookService).createBooks(argThat(chunk ->
+                chunk.get(0).getContent().equals("본문, 쉼표 포함") && chunk.get(0).getAuthor().equals("김자바")));
+    }
+
+    private static InputStream stream(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,21 +1,48 @@
 package com.kt.aivle.bookproject.service;
 
 import com.kt.aivle.bookproject.domain.Book;
+import com.kt.aivle.bookproject.dto.BookCursor;
 import com.kt.aivle.bookproject.dto.BookDto;
+import com.kt.aivle.bookproject.dto.CountMode;
+import com.kt.aivle.bookproject.dto.EstimatedPage;
+import com.kt.aivle.bookproject.dto.ErrorDetail;
+import com.kt.aivle.bookproject.exception.InvalidRequestException;
+import com.kt.aivle.bookproject.exception.PreconditionFailedException;
 import com.kt.aivle.bookproject.exception.ResourceNotFoundException;
+import com.kt.aivle.bookproject.event.BookChangedEvent;
+import com.kt.aivle.bookproject.repository.BookContentReader;
+import com.kt.aivle.bookproject.repository.BookListView;
 import com.kt.aivle.bookproject.repository.BookRepository;
+import com.kt.aivle.bookproject.repository.BookUpdatedView;
+import com.kt.aivle.bookproject.repository.BookVersionView;
+import com.kt.aivle.bookproject.exception.SearchUnavailableException;
+import com.kt.aivle.bookproject.search.BookRankedIndex;
+import com.kt.aivle.bookproject.search.BookSearchIndex;
+import com.kt.aivle.bookproject.search.BookSuggestIndex;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.*;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -29,7 +56,35 @@ class BookServiceTest {
     @Mock
     private BookRepository bookRepository;
 
+    @Mock
+    private BookContentReader bookContentReader;
+
+    @Mock
+    private BookSearchIndex bookSearchIndex;
+
+    @Mock
+    private BookSuggestIndex bookSuggestIndex;
+
+    @Mock
+    private BookRankedIndex bookRankedIndex;
+
+    @Mock
+    private BookCountEstimator bookCountEstimator;
+
+    @Mock
+    private BookMetrics bookMetrics;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
     private Book testBook;
+    private BookListView testBookView;
     private BookDto.CreateRequest createRequest;
     private Pageable pageable;
 
@@ -46,6 +101,7 @@ class BookServiceTest {
         testBook.setCoverImageUrl("https://example.com/cover.jpg");
         testBook.setCreatedAt(LocalDateTime.now());
         testBook.setUpdatedAt(LocalDateTime.now());
+        testBookView = new SpelAwareProxyProjectionFactory().createProjection(BookListView.class, testBook);
 
         createRequest = new BookDto.CreateRequest(
                 "새 도서", "새 내용", "새 작가", "새 요약");
@@ -57,10 +113,10 @@ class BookServiceTest {
     @DisplayName("도서 목록 조회 - 검색어 없이 전체 조회")
     void getBooks_without_search() {
         // given
-        List<Book> books = Arrays.asList(testBook);
-        Page<Book> bookPage = new PageImpl<>(books, pageable, 1);
+        List<BookListView> books = Arrays.asList(testBookView);
+        Page<BookListView> bookPage = new PageImpl<>(books, pageable, 1);
         
-        when(bookRepository.findAll(pageable)).thenReturn(bookPage);
+        when(bookRepository.findAllProjectedBy(pageable)).thenReturn(bookPage);
 
         // when
         Page<BookDto.ListResponse> result = bookService.getBooks(null, pageable);
@@ -68,7 +124,8 @@ class BookServiceTest {
         // then
         assertThat(result.getContent()).hasSize(1);
         assertThat(result.getContent().get(0).getTitle()).isEqualTo("테스트 도서");
-        verify(bookRepository).findAll(pageable);
+        verify(bookRepository).findAllProjectedBy(pageable);
+        verify(bookRepository, never()).findAll(pageable);
     }
 
     @Test
@@ -76,11 +133,11 @@ class BookServiceTest {
     void getBooks_with_search() {
         // given
         String search = "테스트";
-        List<Book> books = Arrays.asList(testBook);
-        Page<Book> bookPage = new PageImpl<>(books, pageable, 1);
+        List<BookListView> books = Arrays.asList(testBookView);
+        Page<BookListView> bookPage = new PageImpl<>(books, pageable, 1);
         
-        when(bookRepository.findByTitleContainingIgnoreCaseOrAuthorContainingIgnoreCase(
-                search, search, pageable)).thenReturn(bookPage);
+        when(bookRepository.findByTitleContainingIgnoreCaseOrAuthorContainingIgnoreCaseOrSummaryContainingIgnoreCase(
+                search, search, search, pageable, BookListView.class)).thenReturn(bookPage);
 
         // when
         Page<BookDto.ListResponse> result = bookService.getBooks(search, pageable);
@@ -88,8 +145,199 @@ class BookServiceTest {
         // then
         assertThat(result.getContent()).hasSize(1);
         assertThat(result.getContent().get(0).getTitle()).isEqualTo("테스트 도서");
-        verify(bookRepository).findByTitleContainingIgnoreCaseOrAuthorContainingIgnoreCase(
-                search, search, pageable);
+        verify(bookRepository).findByTitleContainingIgnoreCaseOrAuthorContainingIgnoreCaseOrSummaryContainingIgnoreCase(
+                search, search, search, pageable, BookListView.class);
+        verify(bookMetrics).recordSearch(BookMetrics.SOURCE_DB, 1);
+    }
+
+    @Test
+    @DisplayName("count=none - COUNT 쿼리 없이 Slice 조회")
+    void getBooks_count_none_uses_slice() {
+        // given
+        String search = "테스트";
+        Slice<BookListView> slice = new SliceImpl<>(List.of(testBookView), pageable, true);
+        when(bookSearchIndex.search(search, pageable)).thenReturn(Optional.empty());
+        when(bookRepository.findSliceByTitleContainingIgnoreCaseOrAuthorContainingIgnoreCaseOrSummaryContainingIgnoreCase(
+                search, search, search, pageable, BookListView.class)).thenReturn(slice);
+
+        // when
+        Slice<BookDto.ListResponse> result = bookService.getBooks(search, pageable, CountMode.NONE);
+
+        // then
+        assertThat(result).isNotInstanceOf(Page.class);
+        assertThat(result.hasNext()).isTrue();
+        verify(bookRepository, never()).findByTitleContainingIgnoreCaseOrAuthorContainingIgnoreCaseOrSummaryContainingIgnoreCase(
+                any(), any(), any(), any(Pageable.class), any());
+        verifyNoInteractions(bookCountEstimator);
+        verify(bookMetrics).recordSearch(BookMetrics.SOURCE_DB);
+    }
+
+    @Test
+    @DisplayName("count=estimate - 다음 페이지가 있으면 추정 건수, 마지막 페이지면 정확한 건수")
+    void getBooks_count_estimate() {
+        // given
+        Pageable firstPage = PageRequest.of(0, 1);
+        Pageable lastPage = PageRequest.of(3, 1);
+        when(bookRepository.findSliceProjectedBy(firstPage))
+                .thenReturn(new SliceImpl<>(List.of(testBookView), firstPage, true));
+        when(bookRepository.findSliceProjectedBy(lastPage))
+                .thenReturn(new SliceImpl<>(List.of(testBookView), lastPage, false));
+        when(bookCountEstimator.estimateTotal()).thenReturn(500L);
+
+        // when
+        Slice<BookDto.ListResponse> estimated = bookService.getBooks(null, firstPage, CountMode.ESTIMATE);
+        Slice<BookDto.ListResponse> last = bookService.getBooks(null, lastPage, CountMode.ESTIMATE);
+
+        // then
+        assertThat(estimated).isInstanceOf(EstimatedPage.class);
+        assertThat(((Page<BookDto.ListResponse>) estimated).getTotalElements()).isEqualTo(500L);
+        assertThat(((Page<BookDto.ListResponse>) last).getTotalElements()).isEqualTo(4L);
+        verify(bookCountEstimator, times(1)).estimateTotal();
+        verify(bookRepository, never()).findAllProjectedBy(any());
+    }
+
+    @Test
+    @DisplayName("자동 완성 - 인덱스 결과를 그대로 반환하고 DB를 조회하지 않음")
+    void suggest_uses_index() {
+        // given
+        List<BookDto.Suggestion> suggestions = List.of(new BookDto.Suggestion("테스트 도서", "title", 1));
+        when(bookSuggestIndex.suggest("테스", 5)).thenReturn(suggestions);
+
+        // when
+        List<BookDto.Suggestion> result = bookService.suggest("테스", 5);
+
+        // then
+        assertThat(result).extracting(BookDto.Suggestion::getText).containsExactly("테스트 도서");
+        verifyNoInteractions(bookRepository);
+    }
+
+    @Test
+    @DisplayName("본문 구간 조회 - 글자 중간의 시작/끝 위치를 글자 경계로 맞춤")
+    void getContentChunk_aligns_to_characters() {
+        // given: "가나다라마" 는 한 글자당 3바이트
+        byte[] content = "가나다라마".getBytes(StandardCharsets.UTF_8);
+        when(bookRepository.findContentLengthById(1L)).thenReturn(Optional.of((long) content.length));
+        when(bookContentReader.read(eq(1L), anyLong(), any())).thenAnswer(invocation -> {
+            long offset = invocation.getArgument(1);
+            BookContentReader.ContentCallback callback = invocation.getArgument(2);
+            callback.read(new ByteArrayInputStream(content, (int) offset, content.length - (int) offset));
+            return true;
+        });
+
+        // when: 1바이트("가"의 중간)부터 7바이트
+        BookDto.ContentChunk chunk = bookService.getContentChunk(1L, 1, 7);
+        BookDto.ContentChunk last = bookService.getContentChunk(1L, 12, 100);
+
+        // then: "나다" (3~9바이트), 다음 구간은 9바이트부터
+        assertThat(chunk.getText()).isEqualTo("나다");
+        assertThat(chunk.getOffset()).isEqualTo(3);
+        assertThat(chunk.getNextOffset()).isEqualTo(9L);
+        assertThat(last.getText()).isEqualTo("마");
+        assertThat(last.getNextOffset()).isNull();
+        assertThatThrownBy(() -> bookService.getContentChunk(1L, 0, 0))
+                .isInstanceOf(InvalidRequestException.class);
+    }
+
+    @Test
+    @DisplayName("본문 바이트 구간 복사")
+    void copyContent_writes_range() {
+        // given
+        byte[] content = "0123456789".getBytes(StandardCharsets.UTF_8);
+        when(bookContentReader.read(eq(1L), anyLong(), any())).thenAnswer(invocation -> {
+            long offset = invocation.getArgument(1);
+            BookContentReader.ContentCallback callback = invocation.getArgument(2);
+            callback.read(new ByteArrayInputStream(content, (int) offset, content.length - (int) offset));
+            return true;
+        });
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        long written = bookService.copyContent(1L, 3, 4, out);
+
+        // then
+        assertThat(written).isEqualTo(4);
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("3456");
+        assertThatThrownBy(() -> bookService.copyContent(2L, 0, 1, out))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("관련도 검색 - 인덱스 결과 반환, 준비 전이면 503 예외, 너무 깊은 페이지는 거부")
+    void searchRanked_uses_index() {
+        // given
+        BookDto.RankedResponse ranked = BookDto.RankedResponse.of(BookDto.ListResponse.fromEntity(testBook, null), 2.5f);
+        Pageable firstPage = PageRequest.of(0, 10);
+        when(bookRankedIndex.search("테스트", firstPage))
+                .thenReturn(Optional.of(new PageImpl<>(List.of(ranked), firstPage, 1)));
+
+        // when
+        Page<BookDto.RankedResponse> result = bookService.searchRanked(" 테스트 ", firstPage);
+
+        // then
+        assertThat(result.getContent()).extracting(BookDto.RankedResponse::getScore).containsExactly(2.5f);
+        verify(bookMetrics).recordSearch(BookMetrics.SOURCE_RANKED, 1L);
+        verifyNoInteractions(bookRepository);
+
+        when(bookRankedIndex.search("없음", firstPage)).thenReturn(Optional.empty());
+        assertThatThrownBy(() -> bookService.searchRanked("없음", firstPage))
+                .isInstanceOf(SearchUnavailableException.class);
+        assertThatThrownBy(() -> bookService.searchRanked("테스트", PageRequest.of(100, 10)))
+                .isInstanceOf(InvalidRequestException.class);
+    }
+
+    @Test
+    @DisplayName("도서 목록 조회 - 검색 인덱스가 준비되면 DB를 조회하지 않음")
+    void getBooks_with_search_index() {
+        // given
+        String search = "테스트";
+        Page<BookDto.ListResponse> indexed = new PageImpl<>(
+                List.of(BookDto.ListResponse.fromEntity(testBook, null)), pageable, 1);
+
+        when(bookSearchIndex.search(search, pageable)).thenReturn(Optional.of(indexed));
+
+        // when
+        Page<BookDto.ListResponse> result = bookService.getBooks(search, pageable);
+
+        // then
+        assertThat(result.getTotalElements()).isEqualTo(1);
+        assertThat(result.getContent().get(0).getTitle()).isEqualTo("테스트 도서");
+        verifyNoInteractions(bookRepository);
+        verify(bookMetrics).recordSearch(BookMetrics.SOURCE_INDEX, 1);
+    }
+
+    @Test
+    @DisplayName("도서 목록 커서 조회 - 다음 페이지가 있으면 마지막 도서 위치를 커서로 반환")
+    void getBooksByCursor_has_next() {
+        // given
+        Slice<BookListView> slice = new SliceImpl<>(List.of(testBookView), PageRequest.of(0, 1), true);
+        when(bookRepository.findAllByOrderByCreatedAtDescIdDesc(PageRequest.of(0, 1))).thenReturn(slice);
+
+        // when
+        BookDto.CursorResponse result = bookService.getBooksByCursor(null, 1);
+
+        // then
+        assertThat(result.getContent()).hasSize(1);
+        assertThat(result.isHasNext()).isTrue();
+        BookCursor next = BookCursor.decode(result.getNextCursor());
+        assertThat(next.getId()).isEqualTo(1L);
+        assertThat(next.getCreatedAt()).isEqualTo(testBook.getCreatedAt());
+    }
+
+    @Test
+    @DisplayName("도서 목록 커서 조회 - 커서 이후 구간 조회")
+    void getBooksByCursor_with_cursor() {
+        // given
+        BookCursor cursor = new BookCursor(testBook.getCreatedAt(), 5L);
+        Slice<BookListView> slice = new SliceImpl<>(List.of(testBookView), PageRequest.of(0, 10), false);
+        when(bookRepository.findNextSlice(testBook.getCreatedAt(), 5L, PageRequest.of(0, 10))).thenReturn(slice);
+
+        // when
+        BookDto.CursorResponse result = bookService.getBooksByCursor(cursor.encode(), 10);
+
+        // then
+        assertThat(result.isHasNext()).isFalse();
+        assertThat(result.getNextCursor()).isNull();
+        verify(bookRepository, never()).count();
     }
 
     @Test
@@ -111,13 +359,14 @@ class BookServiceTest {
         assertThat(result.getAuthor()).isEqualTo("새 작가");
         assertThat(result.getId()).isEqualTo(1L);
         verify(bookRepository).save(any(Book.class));
+        verify(eventPublisher).publishEvent(any(BookChangedEvent.class));
     }
 
     @Test
     @DisplayName("도서 단건 조회 성공")
     void getBook_success() {
         // given
-        when(bookRepository.findById(1L)).thenReturn(Optional.of(testBook));
+        when(bookRepository.findWithContentById(1L)).thenReturn(Optional.of(testBook));
 
         // when
         BookDto.DetailResponse result = bookService.getBook(1L);
@@ -126,98 +375,267 @@ class BookServiceTest {
         assertThat(result.getTitle()).isEqualTo("테스트 도서");
         assertThat(result.getAuthor()).isEqualTo("테스트 작가");
         assertThat(result.getId()).isEqualTo(1L);
-        verify(bookRepository).findById(1L);
+        verify(bookRepository).findWithContentById(1L);
     }
 
     @Test
     @DisplayName("도서 단건 조회 실패 - 존재하지 않는 ID")
     void getBook_not_found() {
         // given
-        when(bookRepository.findById(99L)).thenReturn(Optional.empty());
+        when(bookRepository.findWithContentById(99L)).thenReturn(Optional.empty());
 
         // when & then
         assertThatThrownBy(() -> bookService.getBook(99L))
                 .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessageContaining("ID가 99인 도서를 찾을 수 없습니다");
         
-        verify(bookRepository).findById(99L);
+        verify(bookRepository).findWithContentById(99L);
+    }
+
+    @Test
+    @DisplayName("도서 최종 수정 시각 조회 - 본문 없이 수정 시각만 조회")
+    void getBookLastModified_success() {
+        // given
+        BookVersionView version = new SpelAwareProxyProjectionFactory().createProjection(BookVersionView.class, testBook);
+        when(bookRepository.findVersionById(1L)).thenReturn(Optional.of(version));
+
+        // when
+        LocalDateTime result = bookService.getBookLastModified(1L);
+
+        // then
+        assertThat(result).isEqualTo(testBook.getUpdatedAt());
+        verify(bookRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("도서 최종 수정 시각 조회 실패 - 존재하지 않는 ID")
+    void getBookLastModified_not_found() {
+        // given
+        when(bookRepository.findVersionById(99L)).thenReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> bookService.getBookLastModified(99L))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessageContaining("ID가 99인 도서를 찾을 수 없습니다");
     }
 
     @Test
-    @DisplayName("도서 수정 성공")
+    @DisplayName("도서 수정 성공 - 도서를 읽지 않고 UPDATE 한 번")
     void updateBook_success() {
         // given
-        when(bookRepository.findById(1L)).thenReturn(Optional.of(testBook));
-        when(bookRepository.save(any(Book.class))).thenReturn(testBook);
+        when(bookRepository.updateBook(eq(1L), eq("새 도서"), eq("새 내용"), eq(10L), eq("새 작가"), eq("새 요약"),
+                isNull(), any(LocalDateTime.class), isNull())).thenReturn(1);
+        BookUpdatedView updated = new SpelAwareProxyProjectionFactory().createProjection(BookUpdatedView.class, testBook);
+        when(bookRepository.findUpdatedById(1L)).thenReturn(Optional.of(updated));
 
         // when
         BookDto.DetailResponse result = bookService.updateBook(1L, createRequest);
 
         // then
         assertThat(result.getTitle()).isEqualTo("새 도서");
-        verify(bookRepository).findById(1L);
-        verify(bookRepository).save(any(Book.class));
+        assertThat(result.getContent()).isEqualTo("새 내용");
+        assertThat(result.getVersion()).isEqualTo(testBook.getVersion());
+        verify(bookRepository, never()).findById(anyLong());
+        verify(bookRepository, never()).save(any(Book.class));
+        verify(eventPublisher).publishEvent(any(BookChangedEvent.class));
     }
 
     @Test
     @DisplayName("도서 수정 실패 - 존재하지 않는 ID")
     void updateBook_not_found() {
         // given
-        when(bookRepository.findById(99L)).thenReturn(Optional.empty());
+        when(bookRepository.updateBook(eq(99L), any(), any(), anyLong(), any(), any(), any(), any(), any())).thenReturn(0);
 
         // when & then
         assertThatThrownBy(() -> bookService.updateBook(99L, createRequest))
                 .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessageContaining("ID가 99인 도서를 찾을 수 없습니다");
         
-        verify(bookRepository).findById(99L);
-        verify(bookRepository, never()).save(any(Book.class));
+        verify(bookRepository).existsById(99L);
+        verify(eventPublisher, never()).publishEvent(any());
     }
 
     @Test
-    @DisplayName("도서 표지 URL 업데이트 성공")
+    @DisplayName("도서 표지 URL 업데이트 성공 - 도서를 읽지 않고 UPDATE 한 번")
     void updateCoverUrl_success() {
         // given
         String newUrl = "https://example.com/new-cover.jpg";
-        when(bookRepository.findById(1L)).thenReturn(Optional.of(testBook));
-        when(bookRepository.save(any(Book.class))).thenReturn(testBook);
+        when(bookRepository.updateCoverImageUrl(eq(1L), eq(newUrl), any(LocalDateTime.class), isNull()))
+                .thenReturn(Optional.of(1L));
 
         // when
-        BookDto.DetailResponse result = bookService.updateCoverUrl(1L, newUrl);
+        BookDto.CoverResponse result = bookService.updateCoverUrl(1L, newUrl);
 
         // then
         assertThat(result.getCoverImageUrl()).isEqualTo(newUrl);
-        verify(bookRepository).findById(1L);
-        verify(bookRepository).save(any(Book.class));
+        assertThat(result.getUpdatedAt()).isNotNull();
+        assertThat(result.getVersion()).isEqualTo(1L);
+        verify(bookRepository, never()).findById(anyLong());
+        verify(bookRepository, never()).findVersionById(anyLong());
+        verify(eventPublisher).publishEvent(any(BookChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("도서 표지 URL 업데이트 실패 - 변경된 행이 없으면 존재하지 않는 ID")
+    void updateCoverUrl_not_found() {
+        // given
+        when(bookRepository.updateCoverImageUrl(eq(99L), anyString(), any(LocalDateTime.class), isNull())).thenReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> bookService.updateCoverUrl(99L, "https://example.com/a.jpg"))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessageContaining("ID가 99인 도서를 찾을 수 없습니다");
+        verify(eventPublisher, never()).publishEvent(any());
     }
 
     @Test
     @DisplayName("도서 삭제 성공")
     void deleteBook_success() {
         // given
-        when(bookRepository.findById(1L)).thenReturn(Optional.of(testBook));
+        when(bookRepository.deleteBookById(1L, null)).thenReturn(1);
 
         // when
         bookService.deleteBook(1L);
 
         // then
-        verify(bookRepository).findById(1L);
-        verify(bookRepository).delete(testBook);
+        verify(bookRepository).deleteBookById(1L, null);
+        verify(bookRepository, never()).findById(anyLong());
     }
 
     @Test
     @DisplayName("도서 삭제 실패 - 존재하지 않는 ID")
     void deleteBook_not_found() {
         // given
-        when(bookRepository.findById(99L)).thenReturn(Optional.empty());
+        when(bookRepository.deleteBookById(99L, null)).thenReturn(0);
 
         // when & then
         assertThatThrownBy(() -> bookService.deleteBook(99L))
                 .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessageContaining("ID가 99인 도서를 찾을 수 없습니다");
         
-        verify(bookRepository).findById(99L);
-        verify(bookRepository, never()).delete(any(Book.class));
+        verify(bookRepository).deleteBookById(99L, null);
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("If-Match 버전이 현재 버전과 다르면 수정하지 않고 412")
+    void updateBook_version_conflict() {
+        // given
+        when(bookRepository.updateBook(eq(1L), any(), any(), anyLong(), any(), any(), any(), any(), eq(1L))).thenReturn(0);
+        when(bookRepository.existsById(1L)).thenReturn(true);
+        BookDto.UpdateRequest request = new BookDto.UpdateRequest("새 도서", "새 내용", "새 작가", "새 요약", null);
+
+        // when & then
+        assertThatThrownBy(() -> bookService.updateBook(1L, request, 1L))
+                .isInstanceOf(PreconditionFailedException.class);
+        verify(bookRepository, never()).findUpdatedById(anyLong());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("조건부 표지 변경/삭제 - 변경된 행이 없으면 도서 존재 여부로 412 와 404 를 구분")
+    void conditional_write_conflict_or_not_found() {
+        // given
+        when(bookRepository.updateCoverImageUrl(eq(1L), anyString(), any(LocalDateTime.class), eq(3L))).thenReturn(Optional.of(4L));
+        when(bookRepository.updateCoverImageUrl(eq(1L), anyString(), any(LocalDateTime.class), eq(2L))).thenReturn(Optional.empty());
+        when(bookRepository.deleteBookById(1L, 2L)).thenReturn(0);
+        when(bookRepository.deleteBookById(99L, 2L)).thenReturn(0);
+        when(bookRepository.existsById(1L)).thenReturn(true);
+
+        // when & then
+        assertThat(bookService.updateCoverUrl(1L, "https://example.com/a.jpg", 3L).getVersion()).isEqualTo(4L);
+        assertThatThrownBy(() -> bookService.updateCoverUrl(1L, "https://example.com/a.jpg", 2L))
+                .isInstanceOf(PreconditionFailedException.class);
+        assertThatThrownBy(() -> bookService.deleteBook(1L, 2L))
+                .isInstanceOf(PreconditionFailedException.class);
+        assertThatThrownBy(() -> bookService.deleteBook(99L, 2L))
+                .isInstanceOf(ResourceNotFoundException.class);
+        verify(bookRepository, never()).findVersionById(anyLong());
+    }
+
+    @Test
+    @DisplayName("도서 내보내기 - 스트림의 도서를 한 건씩 전달하고 영속성 컨텍스트에서 분리")
+    void exportBooks_success() {
+        // given
+        when(bookRepository.streamAllByOrderByIdAsc()).thenReturn(Stream.of(testBook));
+        List<BookDto.DetailResponse> exported = new ArrayList<>();
+
+        // when
+        long count = bookService.exportBooks(exported::add);
+
+        // then
+        assertThat(count).isEqualTo(1);
+        assertThat(exported).extracting(BookDto.DetailResponse::getTitle).containsExactly("테스트 도서");
+        verify(entityManager).detach(testBook);
+    }
+
+    @Test
+    @DisplayName("도서 일괄 생성 - 유효하지 않은 항목만 실패로 표시")
+    void createBooks_partial_failure() {
+        // given
+        BookDto.CreateRequest invalid = new BookDto.CreateRequest("", "내용", "작가", "요약");
+        when(bookRepository.save(any(Book.class))).thenAnswer(invocation -> {
+            Book book = invocation.getArgument(0);
+            book.setId(10L);
+            return book;
+        });
+
+        // when
+        BookDto.BatchResponse result = bookService.createBooks(List.of(createRequest, invalid));
+
+        // then
+        assertThat(result.getTotal()).isEqualTo(2);
+        assertThat(result.getSucceeded()).isEqualTo(1);
+        assertThat(result.getResults().get(0).getId()).isEqualTo(10L);
+        assertThat(result.getResults().get(1).getStatus()).isEqualTo("error");
+        assertThat(result.getResults().get(1).getErrors()).extracting(ErrorDetail::getField).containsExactly("title");
+        verify(bookRepository, times(1)).save(any(Book.class));
+        verify(entityManager).flush();
+        verify(eventPublisher).publishEvent(any(BookChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("도서 일괄 수정 - 존재하지 않는 ID는 실패로 표시")
+    void updateBooks_not_found() {
+        // given
+        BookDto.BatchUpdateItem existing = new BookDto.BatchUpdateItem(1L, "수정 도서", "수정 내용", "작가", "요약", null);
+        BookDto.BatchUpdateItem missing = new BookDto.BatchUpdateItem(99L, "수정 도서", "수정 내용", "작가", "요약", null);
+        when(bookRepository.findAllById(anyCollection())).thenReturn(List.of(testBook));
+
+        // when
+        BookDto.BatchResponse result = bookService.updateBooks(List.of(existing, missing));
+
+        // then
+        assertThat(result.getSucceeded()).isEqualTo(1);
+        assertThat(result.getResults().get(1).getMessage()).contains("ID가 99인 도서를 찾을 수 없습니다");
+        assertThat(testBook.getTitle()).isEqualTo("수정 도서");
+    }
+
+    @Test
+    @DisplayName("도서 일괄 삭제 - 존재하는 ID만 한 번에 삭제")
+    void deleteBooks_success() {
+        // given
+        when(bookRepository.findExistingIds(anyCollection())).thenReturn(List.of(1L));
+
+        // when
+        BookDto.BatchResponse result = bookService.deleteBooks(List.of(1L, 99L));
+
+        // then
+        assertThat(result.getSucceeded()).isEqualTo(1);
+        assertThat(result.getFailed()).isEqualTo(1);
+        verify(bookRepository).deleteAllByIdInBatch(List.of(1L));
+    }
+
+    @Test
+    @DisplayName("도서 일괄 처리 - 최대 건수를 넘으면 예외 발생")
+    void deleteBooks_too_many() {
+        // given
+        List<Long> ids = LongStream.rangeClosed(1, 10_001).boxed().toList();
+
+        // when & then
+        assertThatThrownBy(() -> bookService.deleteBooks(ids))
+                .isInstanceOf(InvalidRequestException.class);
+        verifyNoInteractions(bookRepository);
     }
 }
 
@@ -0,0 +1,200 @@
+package com.kt.aivle.bookproject.service;
+
+import com.kt.aivle.bookproject.domain.Book;
+import com.kt.aivle.bookproject.dto.BookDto;
+import com.kt.aivle.bookproject.dto.SummaryJobStatus;
+import com.kt.aivle.bookproject.exception.ResourceNotFoundException;
+import com.kt.aivle.bookproject.exception.SummaryUnavailableException;
+import com.kt.aivle.bookproject.repository.BookContentReader;
+import com.kt.aivle.bookproject.repository.BookRepository;
+import com.kt.aivle.bookproject.summary.SummaryGenerator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.*;
+
+class BookSummaryServiceTest {
+
+    private BookRepository bookRepository;
+    private BookContentReader bookContentReader;
+    private BookService bookService;
+    private final List<List<Long>> generatedBatches = new CopyOnWriteArrayList<>();
+    private final AtomicInteger failuresLeft = new AtomicInteger();
+    private BookSummaryServiceImpl summaryService;
+
+    @BeforeEach
+    void setUp() {
+        bookRepository = mock(BookRepository.class);
+        bookContentReader = mock(BookContentReader.class);
+        bookService = mock(BookService.class);
+        // 99 이상은 없는 도서
+        when(bookRepository.findExistingIds(anyCollection())).thenAnswer(invocation ->
+                invocation.<Collection<Long>>getArgument(0).stream().filter(id -> id < 99).toList());
+        when(bookRepository.findAllById(anyIterable())).thenAnswer(invocation -> {
+            List<Book> books = new ArrayList<>();
+            for (Long id : invocation.<Iterable<Long>>getArgument(0)) {
+                books.add(book(id));
+            }
+            return books;
+        });
+        when(bookContentReader.readPrefixes(anyCollection(), anyInt())).thenAnswer(invocation ->
+                invocation.<Collection<Long>>getArgument(0).stream()
+                        .collect(Collectors.toMap(Function.identity(), id -> "본문 " + id)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (summaryService != null) {
+            summaryService.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("대기 중인 도서를 묶어 한 번에 요약하고 읽은 버전으로 저장")
+    void requestSummaries_batches_and_saves() {
+        // given
+        summaryService = create(10, 1000);
+        List<BookDto.SummaryJobResponse> jobs = summaryService.requestSummaries(List.of(1L, 2L, 3L));
+
+        // when
+        summaryService.start();
+
+        // then
+        assertThat(jobs).extracting(BookDto.SummaryJobResponse::getStatus).containsOnly(SummaryJobStatus.QUEUED);
+        jobs.forEach(job -> awaitStatus(job.getJobId(), SummaryJobStatus.SUCCEEDED));
+        assertThat(generatedBatches).containsExactly(List.of(1L, 2L, 3L));
+        verify(bookService).updateSummary(1L, "요약 1", 7L);
+        verify(bookService).updateSummary(3L, "요약 3", 7L);
+    }
+
+    @Test
+    @DisplayName("생성기가 실패하면 간격을 두고 다시 시도하고, 최대 시도 횟수를 넘으면 실패 처리")
+    void failed_generation_is_retried_until_max_attempts() {
+        // given
+        summaryService = create(10, 1000);
+        summaryService.start();
+        failuresLeft.set(1);
+
+        // when
+        String retried = summaryService.requestSummaries(List.of(1L)).get(0).getJobId();
+        BookDto.SummaryJobResponse done = awaitStatus(retried, SummaryJobStatus.SUCCEEDED);
+        failuresLeft.set(10);
+        String failed = summaryService.requestSummaries(List.of(2L)).get(0).getJobId();
+        BookDto.SummaryJobResponse gaveUp = awaitStatus(failed, SummaryJobStatus.FAILED);
+
+        // then
+        assertThat(done.getAttempts()).isEqualTo(2);
+        assertThat(gaveUp.getAttempts()).isEqualTo(3);
+        assertThat(gaveUp.getError()).contains("일시적인 오류");
+        verify(bookService, never()).updateSummary(eq(2L), anyString(), anyLong());
+    }
+
+    @Test
+    @DisplayName("묶음 처리 중 예상치 못한 오류가 나면 끝나지 않은 작업만 다시 시도")
+    void unexpected_failure_retries_only_unfinished_jobs() {
+        // given
+        BookMetrics metrics = spy(new BookMetrics(new SimpleMeterRegistry()));
+        AtomicInteger successes = new AtomicInteger();
+        doAnswer(invocation -> {
+            // 두 번째 도서를 저장하기 직전에 한 번만 실패
+            if (successes.incrementAndGet() == 2) {
+                throw new IllegalStateException("예상치 못한 오류");
+            }
+            return invocation.callRealMethod();
+        }).when(metrics).recordSummaryAttempt(true);
+        summaryService = create(10, 1000, metrics);
+        List<BookDto.SummaryJobResponse> jobs = summaryService.requestSummaries(List.of(1L, 2L));
+
+        // when
+        summaryService.start();
+
+        // then
+        BookDto.SummaryJobResponse saved = awaitStatus(jobs.get(0).getJobId(), SummaryJobStatus.SUCCEEDED);
+        BookDto.SummaryJobResponse retried = awaitStatus(jobs.get(1).getJobId(), SummaryJobStatus.SUCCEEDED);
+        assertThat(saved.getAttempts()).isEqualTo(1);
+        assertThat(retried.getAttempts()).isEqualTo(2);
+        assertThat(generatedBatches).containsExactly(List.of(1L, 2L), List.of(2L));
+        verify(bookService, times(1)).updateSummary(1L, "요약 1", 7L);
+        verify(bookService, times(1)).updateSummary(2L, "요약 2", 7L);
+    }
+
+    @Test
+    @DisplayName("진행 중인 도서는 기존 작업을 반환하고, 없는 도서나 대기열 초과는 등록하지 않음")
+    void requestSummaries_validation() {
+        // given
+        summaryService = create(1, 2);
+
+        // when
+        String first = summaryService.requestSummaries(List.of(1L)).get(0).getJobId();
+        String again = summaryService.requestSummaries(List.of(1L, 1L)).get(0).getJobId();
+
+        // then
+        assertThat(again).isEqualTo(first);
+        assertThatThrownBy(() -> summaryService.requestSummaries(List.of(1L, 99L)))
+                .isInstanceOf(ResourceNotFoundException.class);
+        assertThatThrownBy(() -> summaryService.requestSummaries(List.of(2L, 3L)))
+                .isInstanceOf(SummaryUnavailableException.class);
+        assertThatThrownBy(() -> summaryService.getJob("unknown"))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("재시도 간격은 두 배씩 늘어나고 최대 간격을 넘지 않음")
+    void backoff_doubles_up_to_max() {
+        summaryService = create(1, 10);
+
+        assertThat(summaryService.backoff(1)).isEqualTo(Duration.ofMillis(10));
+        assertThat(summaryService.backoff(2)).isEqualTo(Duration.ofMillis(20));
+        assertThat(summaryService.backoff(10)).isEqualTo(Duration.ofMillis(50));
+    }
+
+    private BookSummaryServiceImpl create(int batchSize, int queueCapacity) {
+        return create(batchSize, queueCapacity, new BookMetrics(new SimpleMeterRegistry()));
+    }
+
+    private BookSummaryServiceImpl create(int batchSize, int queueCapacity, BookMetrics metrics) {
+        SummaryGenerator generator = sources -> {
+            generatedBatches.add(sources.stream().map(SummaryGenerator.Source::getBookId).toList());
+            if (failuresLeft.getAndDecrement() > 0) {
+                throw new IllegalStateException("일시적인 오류");
+            }
+            return sources.stream().collect(Collectors.toMap(
+                    SummaryGenerator.Source::getBookId, source -> "요약 " + source.getBookId()));
+        };
+        return new BookSummaryServiceImpl(bookRepository, bookContentReader, bookService, generator,
+                metrics, true, 1, batchSize, queueCapacity, 3,
+                Duration.ofMillis(10), Duration.ofMillis(50), Duration.ZERO, 4000, Duration.ofMinutes(1));
+    }
+
+    private BookDto.SummaryJobResponse awaitStatus(String jobId, SummaryJobStatus status) {
+        await().atMost(Duration.ofSeconds(5))
+                .until(() -> summaryService.getJob(jobId).getStatus() == status);
+        return summaryService.getJob(jobId);
+    }
+
+    private static Book book(Long id) {
+        Book book = mock(Book.class);
+        when(book.getId()).thenReturn(id);
+        when(book.getTitle()).thenReturn("도서 " + id);
+        when(book.getVersion()).thenReturn(7L);
+        return book;
+    }
+}
@@ -0,0 +1,33 @@
+package db.migration;
+
+import com.kt.aivle.bookproject.domain.CompressedTextConverter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class V2__compress_book_contentTest {
+
+    @Test
+    @DisplayName("마이그레이션이 저장한 형식(짧은 글은 그대로, 긴 글은 Deflate)을 현재 컨버터가 읽을 수 있음")
+    void converter_reads_migrated_content() throws IOException {
+        String shortText = "짧은 본문";
+        String longText = "옛날 옛적에 한 마을에 책을 좋아하는 아이가 살았습니다. ".repeat(500);
+
+        byte[] raw = V2__compress_book_content.encode(shortText.getBytes(StandardCharsets.UTF_8));
+        byte[] deflated = V2__compress_book_content.encode(longText.getBytes(StandardCharsets.UTF_8));
+
+        assertThat(raw[0]).isEqualTo((byte) 0);
+        assertThat(deflated[0]).isEqualTo((byte) 1);
+        assertThat(CompressedTextConverter.decode(raw)).isEqualTo(shortText);
+        assertThat(CompressedTextConverter.decode(deflated)).isEqualTo(longText);
+        try (InputStream in = CompressedTextConverter.openStream(new ByteArrayInputStream(deflated))) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(longText);
+        }
+    }
+}
@@ -1,25 +1,59 @@
 import axios from 'axios';
 
+// 브라우저별 클라이언트 ID (읽기 복제본 사용 시 내가 수정한 내용을 바로 다시 읽기 위해 전송)
+const getClientId = () => {
+  let id = localStorage.getItem('clientId');
+  if (!id) {
+    id = crypto.randomUUID();
+    localStorage.setItem('clientId', id);
+  }
+  return id;
+};
+
+const API_ORIGIN = 'http://localhost:8080';
+
 const api = axios.create({
-  baseURL: 'http://localhost:8080/api', // 필요 시 .env로 분리
+  baseURL: `${API_ORIGIN}/api`, // 필요 시 .env로 분리
   headers: {
     'Content-Type': 'application/json; charset=utf-8',
     'Accept': 'application/json',
+    'X-Client-Id': getClientId(),
   },
 });
 
-// 목록
-export const fetchBooks = () => api.get('/books');
+// 서버에 저장된 표지(/api/covers/...)는 상대 경로이므로 백엔드 주소를 붙임
+export const assetUrl = url => (url && url.startsWith('/') ? `${API_ORIGIN}${url}` : url);
+
+// 목록 (화면에서 전체 건수를 쓰지 않으므로 COUNT 쿼리 생략)
+export const fetchBooks = () => api.get('/books', { params: { count: 'none' } });
+
+// 커서 기반 목록 (무한 스크롤용, 첫 페이지는 cursor 없이 호출)
+export const fetchBooksByCursor = (cursor, size = 10) =>
+  api.get('/books/scroll', { params: { cursor, size } });
+
+// 관련도 순 검색 (제목/작가/요약/본문)
+export const searchBooks = (q, page = 0, size = 10) =>
+  api.get('/books/search', { params: { q, page, size } });
+
+// 검색어 자동 완성 (제목/작가)
+export const suggestBooks = (q, limit = 10) =>
+  api.get('/books/suggest', { params: { q, limit } });
 
 // 단건 조회
 export const fetchBook = id => api.get(`/books/${id}`);
 export const getBook = id => api.get(`/books/${id}`);
 
+// 본문 구간 조회 (긴 본문을 나누어 읽기, 응답의 nextOffset 으로 다음 구간 요청)
+export const fetchBookContent = (id, offset = 0, length = 65536) =>
+  api.get(`/books/${id}/content`, { params: { offset, length } });
+
 // 생성
 export const createBook = data => api.post('/books', data);
 
-// 수정 (백엔드는 PUT 메서드 사용)
-export const updateBook = (id, data) => api.put(`/books/${id}`, data);
+// 수정 (백엔드는 PUT 메서드 사용, version 을 넘기면 그 사이 다른 수정이 있을 때 412)
+export const updateBook = (id, data, version) =>
+  api.put(`/books/${id}`, data,
+    version == null ? undefined : { headers: { 'If-Match': `"${id}-v${version}"` } });
 
 // 표지 이미지 URL 업데이트
 export const updateBookCover = (id, coverImageUrl) => 
@@ -28,7 +62,13 @@ export const updateBookCover = (id, coverImageUrl) =>
 // 도서 삭제
 export const deleteBook = (id) => api.delete(`/books/${id}`);
 
-// (선택) AI 표지 미리보기
+// 요약 생성 작업 등록 (서버에서 비동기로 생성, 응답은 도서별 작업 상태 목록)
+export const requestSummaries = bookIds => api.post('/books/summary-jobs', { bookIds });
+
+// 요약 생성 작업 상태 조회 (status: QUEUED, RUNNING, RETRYING, SUCCEEDED, FAILED)
+export const fetchSummaryJob = jobId => api.get(`/books/summary-jobs/${jobId}`);
+
+// AI 표지 생성 (서버에서 생성 후 도서 표지로 저장, 응답은 표지 URL 과 새 버전)
 export const generateCover = (id, prompt) =>
   api.post(`/books/${id}/cover/generate`, { prompt_text: prompt });
 
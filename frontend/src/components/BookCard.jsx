@@ -1,5 +1,6 @@
 import { Card, CardMedia, CardContent, Typography, Box, CardActionArea } from '@mui/material';
 import { useNavigate } from 'react-router-dom';
+import { assetUrl } from '../api/bookApi';
 import PersonIcon from '@mui/icons-material/Person';
 import CalendarMonthIcon from '@mui/icons-material/CalendarMonth';
 
@@ -14,7 +15,7 @@ function BookCard({ book }) {
       >
         <CardMedia
           component="img"
-          image={book.coverImageUrl || 'https://via.placeholder.com/150'}
+          image={assetUrl(book.thumbnailUrl || book.coverImageUrl) || 'https://via.placeholder.com/150'}
           alt="도서 표지"
           sx={{
             width: 140,
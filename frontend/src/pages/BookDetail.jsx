@@ -2,7 +2,7 @@
 import { useParams, useNavigate } from 'react-router-dom';
 import { Typography, Button, Stack, CircularProgress } from '@mui/material';
 import { useState, useEffect } from 'react';
-import { fetchBook, deleteBook } from '../api/bookApi';
+import { fetchBook, deleteBook, assetUrl } from '../api/bookApi';
 
 function BookDetail({ books, setBooks }) {
   const { id } = useParams();
@@ -115,7 +115,7 @@ function BookDetail({ books, setBooks }) {
     <Typography>{book.updatedAt?.slice(0, 10)}</Typography>
 
     <img
-      src={book.coverImageUrl || 'https://via.placeholder.com/150'}
+      src={assetUrl(book.coverImageUrl) || 'https://via.placeholder.com/150'}
       alt="커버 이미지"
       style={{ marginTop: 16, maxHeight: 300, borderRadius: 8 }}
     />
@@ -9,7 +9,7 @@ import {
 } from '@mui/material';
 import AutoAwesomeIcon from '@mui/icons-material/AutoAwesome';
 import { useState, useEffect } from 'react';
-import { getBook, updateBook, updateBookCover } from '../api/bookApi';
+import { getBook, updateBook, updateBookCover, generateCover, assetUrl } from '../api/bookApi';
 
 function BookEdit() {
   const { id } = useParams();
@@ -57,83 +57,22 @@ function BookEdit() {
     setLoading(true);
 
     try {
-      console.log('=== AI 이미지 생성 시작 ===');
-      console.log('API Key 존재 여부:', !!process.env.REACT_APP_OPENAI_API_KEY);
-      console.log('API Key 앞 10자리:', process.env.REACT_APP_OPENAI_API_KEY?.substring(0, 10));
-      console.log('요약 내용:', summary);
-
-      // OpenAI API 키가 있는 경우에만 실제 API 호출
-      if (process.env.REACT_APP_OPENAI_API_KEY) {
-        console.log('OpenAI API 호출 시작...');
-        
-        const requestBody = {
-          model: "dall-e-3",
-          prompt: `Create a clean and simple book cover illustration based on this summary. Style should be minimalistic and elegant: ${summary}`,
-          n: 1,
-          size: "1024x1024",
-        };
-        
-        console.log('요청 데이터:', requestBody);
-
-        const response = await fetch("https://api.openai.com/v1/images/generations", {
-          method: "POST",
-          headers: {
-            "Authorization": `Bearer ${process.env.REACT_APP_OPENAI_API_KEY}`,
-            "Content-Type": "application/json",
-          },
-          body: JSON.stringify(requestBody),
-        });
-
-        console.log('응답 상태:', response.status);
-        console.log('응답 헤더:', Object.fromEntries(response.headers.entries()));
-
-        if (!response.ok) {
-          const errorText = await response.text();
-          console.error('API 오류 응답:', errorText);
-          throw new Error(`HTTP ${response.status}: ${errorText}`);
-        }
-
-        const data = await response.json();
-        console.log("이미지 생성 응답:", data);
-
-        const imageUrl = data.data?.[0]?.url;
-        if (imageUrl) {
-          console.log('생성된 이미지 URL:', imageUrl);
-          setCoverImage(imageUrl);
-          alert("AI 이미지가 성공적으로 생성되었습니다!");
-        } else {
-          console.log("API 응답에서 이미지 URL을 찾을 수 없음:", data);
-          throw new Error("API 응답에 이미지 URL이 없습니다");
-        }
-      } else {
-        console.log("OpenAI API 키가 설정되지 않음. 더미 이미지를 생성합니다.");
-        throw new Error("API 키 없음");
-      }
+      // 서버에서 표지를 생성해 바로 도서 표지로 저장 (같은 프롬프트는 서버 캐시 사용)
+      const prompt = `Create a clean and simple book cover illustration based on this summary. Style should be minimalistic and elegant: ${summary}`;
+      const response = await generateCover(id, prompt);
+      console.log("이미지 생성 응답:", response.data);
+
+      const cover = response.data.data;
+      setCoverImage(cover.coverImageUrl);
+      // 표지 저장으로 버전이 올라갔으므로 이후 수정 요청의 If-Match 도 갱신
+      setBook(prev => ({ ...prev, version: cover.version }));
+      alert("AI 이미지가 성공적으로 생성되었습니다!");
     } catch (error) {
-      console.error("=== 이미지 생성 오류 ===");
-      console.error("오류 메시지:", error.message);
-      console.error("전체 오류:", error);
-      
-      // 실패시 더미 이미지 생성
-      console.log("더미 이미지를 생성합니다...");
-      
-      // 요약 텍스트 기반으로 색상과 텍스트 생성
-      const colors = ['FF6B6B', '4ECDC4', '45B7D1', 'FFA07A', '98D8C8', 'F7DC6F', 'BB8FCE'];
-      const randomColor = colors[Math.floor(Math.random() * colors.length)];
-      const shortSummary = summary.length > 20 ? summary.substring(0, 20) + '...' : summary;
-      
-      const dummyUrl = `https://via.placeholder.com/400x600/${randomColor}/FFFFFF?text=${encodeURIComponent(shortSummary)}`;
-      console.log('생성된 더미 URL:', dummyUrl);
-      setCoverImage(dummyUrl);
-      
-      const errorMsg = error.message.includes('API 키') 
-        ? "OpenAI API 키를 확인해주세요. 현재는 테스트용 더미 표지를 생성했습니다."
-        : `AI 이미지 생성 실패: ${error.message}\n테스트용 더미 표지를 생성했습니다.`;
-      
-      alert(errorMsg);
+      console.error("이미지 생성 오류:", error);
+      const errorMsg = error.response?.data?.message || error.message;
+      alert(`AI 이미지 생성 실패: ${errorMsg}`);
     } finally {
       setLoading(false);
-      console.log('=== AI 이미지 생성 완료 ===');
     }
   };
 
@@ -154,7 +93,7 @@ function BookEdit() {
       };
 
       console.log('업데이트할 도서 데이터:', bookData);
-      const response = await updateBook(id, bookData);
+      const response = await updateBook(id, bookData, book?.version);
       console.log('도서 업데이트 응답:', response.data);
 
       if (response.data.status === 'success') {
@@ -165,7 +104,11 @@ function BookEdit() {
       }
     } catch (error) {
       console.error('도서 수정 실패:', error);
-      alert('도서 수정 중 오류가 발생했습니다.');
+      if (error.response?.status === 412) {
+        alert('다른 사용자가 먼저 도서를 수정했습니다. 새로고침 후 다시 시도해주세요.');
+      } else {
+        alert('도서 수정 중 오류가 발생했습니다.');
+      }
     } finally {
       setLoading(false);
     }
@@ -270,7 +213,7 @@ function BookEdit() {
           <div style={{ marginTop: '1rem' }}>
             <Typography variant="subtitle1">표지 미리보기</Typography>
             <img
-              src={coverImage}
+              src={assetUrl(coverImage)}
               alt="도서 표지"
               style={{ marginTop: '0.5rem', borderRadius: '8px', maxHeight: '300px' }}
               onLoad={() => console.log('이미지 로딩 성공:', coverImage)}
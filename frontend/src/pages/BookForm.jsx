@@ -8,9 +8,34 @@ import {
   Paper
 } from '@mui/material';
 import AutoAwesomeIcon from '@mui/icons-material/AutoAwesome';
-import { createBook, updateBookCover } from '../api/bookApi';
-
-import OpenAI from 'openai';
+import {
+  createBook,
+  updateBook,
+  updateBookCover,
+  getBook,
+  requestSummaries,
+  fetchSummaryJob,
+  generateCover,
+  assetUrl
+} from '../api/bookApi';
+
+const SUMMARY_POLL_INTERVAL_MS = 1000;
+const SUMMARY_POLL_LIMIT = 60;
+
+const sleep = ms => new Promise(resolve => setTimeout(resolve, ms));
+
+// 요약 생성 작업이 끝날 때까지 상태 조회 (SUCCEEDED 또는 FAILED 인 작업 상태 반환)
+const waitForSummaryJob = async jobId => {
+  for (let i = 0; i < SUMMARY_POLL_LIMIT; i++) {
+    const response = await fetchSummaryJob(jobId);
+    const job = response.data.data;
+    if (job.status === 'SUCCEEDED' || job.status === 'FAILED') {
+      return job;
+    }
+    await sleep(SUMMARY_POLL_INTERVAL_MS);
+  }
+  throw new Error('요약 생성이 오래 걸리고 있습니다. 잠시 후 도서 상세에서 확인해주세요.');
+};
 
 function BookForm({ books, setBooks }) {
   const [title, setTitle] = useState('');
@@ -25,70 +50,67 @@ function BookForm({ books, setBooks }) {
   const [loading, setLoading] = useState(false);
   const [error, setError] = useState('');
 
+  // AI 요약/표지는 서버에서 도서 기준으로 생성하므로 먼저 임시 저장한 도서 (id, version)
+  const [draft, setDraft] = useState(null);
+
   const nav = useNavigate();
 
-  const client = new OpenAI({
-    apiKey: process.env.REACT_APP_OPENAI_API_KEY,
-    dangerouslyAllowBrowser: true
+  const bookData = () => ({
+    title,
+    content,
+    author,
+    summary: summary || 'No summary available.',
+    coverImageUrl: coverImage || null
   });
 
-  // AI 요약 생성 함수
+  // 현재 입력 내용을 서버에 저장하고 도서 ID 반환 (처음이면 생성, 이후에는 수정)
+  const saveDraft = async () => {
+    const { coverImageUrl, ...createData } = bookData();
+    const response = draft
+      ? await updateBook(draft.id, bookData(), draft.version)
+      : await createBook(createData);
+    const saved = response.data.data;
+    setDraft({ id: saved.id, version: saved.version });
+    return saved.id;
+  };
+
+  const requireFields = () => {
+    if (!title || !content || !author) {
+      alert('제목, 내용, 저자는 필수 입력 사항입니다.');
+      return false;
+    }
+    return true;
+  };
+
+  // AI 요약 생성 (서버에 요약 생성 작업을 맡기고 완료될 때까지 상태 조회)
   const handleGenerateSummary = async () => {
     if (!content) {
       alert('내용을 먼저 입력해주세요.');
       return;
     }
+    if (!requireFields()) {
+      return;
+    }
 
     setLoading(true);
     try {
-      console.log('=== AI 요약 생성 시작 ===');
-      console.log('API Key 존재 여부:', !!process.env.REACT_APP_OPENAI_API_KEY);
-
-      // OpenAI API 키가 있는 경우에만 실제 API 호출
-      if (process.env.REACT_APP_OPENAI_API_KEY) {
-        const response = await fetch("https://api.openai.com/v1/chat/completions", {
-          method: "POST",
-          headers: {
-            "Authorization": `Bearer ${process.env.REACT_APP_OPENAI_API_KEY}`,
-            "Content-Type": "application/json",
-          },
-          body: JSON.stringify({
-            model: "gpt-3.5-turbo",
-            messages: [
-              {
-                role: "user",
-                content: `다음 글을 1~2문장으로 요약해주세요:\n\n${content}`
-              }
-            ],
-            max_tokens: 100,
-          }),
-        });
-
-        if (!response.ok) {
-          throw new Error(`HTTP ${response.status}: ${await response.text()}`);
-        }
-
-        const data = await response.json();
-        console.log("요약 생성 응답:", data);
-
-        const aiSummary = data.choices?.[0]?.message?.content?.trim() || "요약 생성 실패";
-        setSummary(aiSummary);
-        alert("AI 요약이 성공적으로 생성되었습니다!");
-      } else {
-        throw new Error("API 키 없음");
+      const bookId = await saveDraft();
+      const jobsResponse = await requestSummaries([bookId]);
+      const job = await waitForSummaryJob(jobsResponse.data.data[0].jobId);
+      if (job.status === 'FAILED') {
+        throw new Error(job.error || '요약 생성에 실패했습니다.');
       }
+
+      // 요약은 도서에 저장되므로 다시 조회 (버전도 함께 갱신)
+      const bookResponse = await getBook(bookId);
+      const book = bookResponse.data.data;
+      setSummary(book.summary || '');
+      setDraft({ id: book.id, version: book.version });
+      alert("AI 요약이 성공적으로 생성되었습니다!");
     } catch (error) {
       console.error('요약 생성 중 오류:', error);
-      
-      // 실패시 더미 요약 생성
-      const dummySummary = content.length > 100 ? content.substring(0, 100) + '...' : content;
-      setSummary(dummySummary);
-      
-      const errorMsg = error.message.includes('API 키') 
-        ? "OpenAI API 키를 확인해주세요. 현재는 텍스트 앞부분을 요약으로 사용했습니다."
-        : `AI 요약 생성 실패: ${error.message}\n텍스트 앞부분을 요약으로 사용했습니다.`;
-      
-      alert(errorMsg);
+      const errorMsg = error.response?.data?.message || error.message;
+      alert(`AI 요약 생성 실패: ${errorMsg}`);
     } finally {
       setLoading(false);
     }
@@ -99,119 +121,69 @@ function BookForm({ books, setBooks }) {
       alert('요약을 먼저 입력해주세요.');
       return;
     }
+    if (!requireFields()) {
+      return;
+    }
 
     setLoading(true);
 
     try {
-      console.log('=== AI 이미지 생성 시작 ===');
-      console.log('API Key 존재 여부:', !!process.env.REACT_APP_OPENAI_API_KEY);
-      console.log('API Key 앞 10자리:', process.env.REACT_APP_OPENAI_API_KEY?.substring(0, 10));
-      console.log('요약 내용:', summary);
-
-      // OpenAI API 키가 있는 경우에만 실제 API 호출
-      if (process.env.REACT_APP_OPENAI_API_KEY) {
-        console.log('OpenAI API 호출 시작...');
-        
-        const requestBody = {
-          model: "dall-e-3",
-          prompt: `Create a clean and simple book cover illustration based on this summary. Style should be minimalistic and elegant: ${summary}`,
-          n: 1,
-          size: "1024x1024",
-        };
-        
-        console.log('요청 데이터:', requestBody);
-
-        const response = await fetch("https://api.openai.com/v1/images/generations", {
-          method: "POST",
-          headers: {
-            "Authorization": `Bearer ${process.env.REACT_APP_OPENAI_API_KEY}`,
-            "Content-Type": "application/json",
-          },
-          body: JSON.stringify(requestBody),
-        });
-
-        console.log('응답 상태:', response.status);
-        console.log('응답 헤더:', Object.fromEntries(response.headers.entries()));
-
-        if (!response.ok) {
-          const errorText = await response.text();
-          console.error('API 오류 응답:', errorText);
-          throw new Error(`HTTP ${response.status}: ${errorText}`);
-        }
-
-        const data = await response.json();
-        console.log("이미지 생성 응답:", data);
-
-        const imageUrl = data.data?.[0]?.url;
-        if (imageUrl) {
-          console.log('생성된 이미지 URL:', imageUrl);
-          setCoverImage(imageUrl);
-          alert("AI 이미지가 성공적으로 생성되었습니다!");
-        } else {
-          console.log("API 응답에서 이미지 URL을 찾을 수 없음:", data);
-          throw new Error("API 응답에 이미지 URL이 없습니다");
-        }
-      } else {
-        console.log("OpenAI API 키가 설정되지 않음. 더미 이미지를 생성합니다.");
-        throw new Error("API 키 없음");
-      }
+      // 서버에서 표지를 생성해 바로 도서 표지로 저장 (같은 프롬프트는 서버 캐시 사용)
+      const bookId = await saveDraft();
+      const prompt = `Create a clean and simple book cover illustration based on this summary. Style should be minimalistic and elegant: ${summary}`;
+      const response = await generateCover(bookId, prompt);
+      console.log("이미지 생성 응답:", response.data);
+
+      const cover = response.data.data;
+      setCoverImage(cover.coverImageUrl);
+      // 표지 저장으로 버전이 올라갔으므로 이후 수정 요청의 If-Match 도 갱신
+      setDraft({ id: bookId, version: cover.version });
+      alert("AI 이미지가 성공적으로 생성되었습니다!");
     } catch (error) {
-      console.error("=== 이미지 생성 오류 ===");
-      console.error("오류 메시지:", error.message);
-      console.error("전체 오류:", error);
-      
-      // 실패시 더미 이미지 생성
-      console.log("더미 이미지를 생성합니다...");
-      
-      // 요약 텍스트 기반으로 색상과 텍스트 생성
-      const colors = ['FF6B6B', '4ECDC4', '45B7D1', 'FFA07A', '98D8C8', 'F7DC6F', 'BB8FCE'];
-      const randomColor = colors[Math.floor(Math.random() * colors.length)];
-      const shortSummary = summary.length > 20 ? summary.substring(0, 20) + '...' : summary;
-      
-      const dummyUrl = `https://via.placeholder.com/400x600/${randomColor}/FFFFFF?text=${encodeURIComponent(shortSummary)}`;
-      console.log('생성된 더미 URL:', dummyUrl);
-      setCoverImage(dummyUrl);
-      
-      const errorMsg = error.message.includes('API 키') 
-        ? "OpenAI API 키를 확인해주세요. 현재는 테스트용 더미 표지를 생성했습니다."
-        : `AI 이미지 생성 실패: ${error.message}\n테스트용 더미 표지를 생성했습니다.`;
-      
-      alert(errorMsg);
+      console.error("이미지 생성 오류:", error);
+      const errorMsg = error.response?.data?.message || error.message;
+      alert(`AI 이미지 생성 실패: ${errorMsg}`);
     } finally {
       setLoading(false);
-      console.log('=== AI 이미지 생성 완료 ===');
     }
   };
 
   // 저장하기 버튼 클릭 시
   const handleSubmit = async () => {
     // 필수 필드 검증
-    if (!title || !content || !author) {
-      alert('제목, 내용, 저자는 필수 입력 사항입니다.');
+    if (!requireFields()) {
       return;
     }
 
     setLoading(true);
     try {
-      const bookData = {
-        title,
-        content,
-        author,
-        summary: summary || 'No summary available.'
-      };
-
-      console.log('전송할 도서 데이터:', bookData);
-      const response = await createBook(bookData);
+      // AI 생성 중에 이미 저장된 도서라면 최종 입력 내용으로 수정
+      if (draft) {
+        const bookId = await saveDraft();
+        if (!summary) {
+          requestSummaries([bookId]).catch(summaryError => {
+            console.error('요약 생성 작업 등록 실패:', summaryError);
+          });
+        }
+        alert('도서가 성공적으로 등록되었습니다!');
+        nav('/');
+        return;
+      }
+
+      const { coverImageUrl, ...createData } = bookData();
+
+      console.log('전송할 도서 데이터:', createData);
+      const response = await createBook(createData);
       console.log('도서 생성 응답:', response.data);
 
       if (response.data.status === 'success') {
         const bookId = response.data.data.id;
         
         // 표지 이미지가 있다면 업데이트
-        if (coverImage && bookId) {
+        if (coverImageUrl && bookId) {
           try {
-            console.log('표지 이미지 업데이트 시도:', coverImage);
-            const coverResponse = await updateBookCover(bookId, coverImage);
+            console.log('표지 이미지 업데이트 시도:', coverImageUrl);
+            const coverResponse = await updateBookCover(bookId, coverImageUrl);
             console.log('표지 이미지 업데이트 응답:', coverResponse.data);
             
             if (coverResponse.data.status === 'success') {
@@ -223,6 +195,13 @@ function BookForm({ books, setBooks }) {
           }
         }
 
+        // 요약을 만들지 않았다면 서버에 요약 생성 작업을 맡김 (완료되면 도서 요약이 바뀜)
+        if (!summary && bookId) {
+          requestSummaries([bookId]).catch(summaryError => {
+            console.error('요약 생성 작업 등록 실패:', summaryError);
+          });
+        }
+
         // 목록 새로고침을 위해 홈으로 이동
         alert('도서가 성공적으로 등록되었습니다!');
         nav('/');
@@ -231,7 +210,11 @@ function BookForm({ books, setBooks }) {
       }
     } catch (error) {
       console.error('도서 등록 실패:', error);
-      alert('도서 등록 중 오류가 발생했습니다.');
+      if (error.response?.status === 412) {
+        alert('다른 사용자가 먼저 도서를 수정했습니다. 새로고침 후 다시 시도해주세요.');
+      } else {
+        alert('도서 등록 중 오류가 발생했습니다.');
+      }
     } finally {
       setLoading(false);
     }
@@ -347,7 +330,7 @@ function BookForm({ books, setBooks }) {
         <div style={{ marginTop: '1.5rem' }}>
           <Typography variant="subtitle1">표지 미리보기</Typography>
           <img
-            src={coverImage}
+            src={assetUrl(coverImage)}
             alt="도서 표지"
             style={{
               marginTop: '0.5rem',